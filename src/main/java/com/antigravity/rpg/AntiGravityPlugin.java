@@ -29,7 +29,8 @@ public class AntiGravityPlugin extends JavaPlugin {
                                         injector.getInstance(com.antigravity.rpg.core.engine.StatCalculator.class),
                                         injector.getInstance(com.antigravity.rpg.feature.classes.ClassRegistry.class),
                                         injector.getInstance(
-                                                        com.antigravity.rpg.feature.classes.condition.ConditionManager.class));
+                                                        com.antigravity.rpg.feature.classes.condition.ConditionManager.class),
+                                        injector.getInstance(com.antigravity.rpg.feature.item.PDCAdapter.class));
 
                 } catch (Exception e) {
                         getLogger().severe("Failed to initialize Guice Injector! (DI 컨테이너 초기화 실패)");
@@ -93,15 +94,14 @@ public class AntiGravityPlugin extends JavaPlugin {
                         systemManager.registerSystem(com.antigravity.rpg.core.ecs.system.CooldownSystem.class);
                         systemManager.registerSystem(com.antigravity.rpg.core.ecs.system.ScriptExecutionSystem.class);
                         systemManager.registerSystem(com.antigravity.rpg.core.ecs.system.ProjectileSystem.class);
+                        // [NEW] 효과 시스템 (만료 전에 마지막 DoT가 발동하도록 PeriodicDamage를 먼저 실행)
+                        systemManager.registerSystem(com.antigravity.rpg.core.ecs.system.PeriodicDamageSystem.class);
+                        systemManager.registerSystem(com.antigravity.rpg.core.ecs.system.EffectSystem.class);
 
                         // 매니저 서비스 시작 (게임 루프 가동)
                         serviceManager.startService(systemManager);
 
-                        // [NEW] Event Pipeline Bridge & Action Handler 등록
-                        getServer().getPluginManager().registerEvents(
-                                        injector.getInstance(
-                                                        com.antigravity.rpg.core.engine.listener.CombatEventListener.class),
-                                        this);
+                        // [NEW] Action Handler 등록 (데미지 이벤트는 CombatService가 단독 처리)
                         getServer().getPluginManager().registerEvents(
                                         injector.getInstance(
                                                         com.antigravity.rpg.core.engine.listener.ActionHandler.class),
@@ -136,7 +136,15 @@ public class AntiGravityPlugin extends JavaPlugin {
                                                                 injector.getInstance(
                                                                                 com.antigravity.rpg.feature.classes.ClassRegistry.class),
                                                                 injector.getInstance(
-                                                                                com.antigravity.rpg.core.engine.StatRegistry.class)));
+                                                                                com.antigravity.rpg.core.engine.StatRegistry.class),
+                                                                injector.getInstance(
+                                                                                com.antigravity.rpg.core.engine.StatCalculator.class),
+                                                                injector.getInstance(
+                                                                                com.antigravity.rpg.core.formula.ExpressionEngine.class),
+                                                                injector.getInstance(
+                                                                                com.antigravity.rpg.core.engine.DamageProcessor.class),
+                                                                injector.getInstance(
+                                                                                com.antigravity.rpg.core.ecs.SystemProfiler.class)));
                         }
 
                         // [NEW] PlayerTickTask 시작 (1틱 주기)
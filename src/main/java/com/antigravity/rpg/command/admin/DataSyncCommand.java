@@ -5,6 +5,11 @@ import com.antigravity.rpg.core.script.LuaScriptService;
 import com.antigravity.rpg.feature.skill.SkillManager;
 import com.antigravity.rpg.feature.classes.ClassRegistry;
 import com.antigravity.rpg.core.engine.StatRegistry;
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.core.engine.DamagePipeline;
+import com.antigravity.rpg.core.engine.DamageProcessor;
+import com.antigravity.rpg.core.formula.ExpressionEngine;
+import com.antigravity.rpg.core.ecs.SystemProfiler;
 
 import org.bukkit.Bukkit;
 import net.kyori.adventure.text.Component;
@@ -15,6 +20,9 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,6 +30,7 @@ import java.util.UUID;
  * /rpgadmin reload
  * /rpgadmin dump <player>
  * /rpgadmin load <player>
+ * /rpgadmin profile [reset|dump]
  */
 public class DataSyncCommand implements CommandExecutor {
 
@@ -30,17 +39,29 @@ public class DataSyncCommand implements CommandExecutor {
     private final SkillManager skillManager;
     private final ClassRegistry classRegistry;
     private final StatRegistry statRegistry;
+    private final StatCalculator statCalculator;
+    private final ExpressionEngine expressionEngine;
+    private final DamageProcessor damageProcessor;
+    private final SystemProfiler profiler;
 
     public DataSyncCommand(DataImportExportService service,
             LuaScriptService luaService,
             SkillManager skillManager,
             ClassRegistry classRegistry,
-            StatRegistry statRegistry) {
+            StatRegistry statRegistry,
+            StatCalculator statCalculator,
+            ExpressionEngine expressionEngine,
+            DamageProcessor damageProcessor,
+            SystemProfiler profiler) {
         this.service = service;
         this.luaService = luaService;
         this.skillManager = skillManager;
         this.classRegistry = classRegistry;
         this.statRegistry = statRegistry;
+        this.statCalculator = statCalculator;
+        this.expressionEngine = expressionEngine;
+        this.damageProcessor = damageProcessor;
+        this.profiler = profiler;
     }
 
     @Override
@@ -63,11 +84,21 @@ public class DataSyncCommand implements CommandExecutor {
             luaService.reloadScripts();
             skillManager.reload();
             classRegistry.reload();
+            // 스탯 그래프가 FORMULA 스탯의 수식을 다시 읽으므로 스탯보다 먼저 리로드
+            expressionEngine.reload();
+            damageProcessor.reload();
             statRegistry.reload();
+            // 직업/스탯 정의가 바뀌었으므로 캐싱된 스탯 전체 초기화
+            statCalculator.clearAllCache();
             sender.sendMessage(Component.text("리로드 완료.", NamedTextColor.GREEN));
             return true;
         }
 
+        if (action.equals("profile")) {
+            handleProfile(sender, args.length > 1 ? args[1].toLowerCase() : "");
+            return true;
+        }
+
         if (action.equals("dump") || action.equals("load") || action.equals("export") || action.equals("import")) {
             if (args.length < 2) {
                 sendHelp(sender);
@@ -97,10 +128,74 @@ public class DataSyncCommand implements CommandExecutor {
         return true;
     }
 
+    // [NEW] ECS 시스템 프로파일 조회/초기화/덤프
+    private void handleProfile(CommandSender sender, String sub) {
+        if (sub.equals("reset")) {
+            profiler.reset();
+            damageProcessor.getPipeline().reset();
+            sender.sendMessage(Component.text("프로파일 측정 구간을 초기화했습니다.", NamedTextColor.GREEN));
+            return;
+        }
+
+        if (sub.equals("dump")) {
+            try {
+                File file = profiler.dumpJson();
+                sender.sendMessage(Component.text("프로파일 덤프 완료: " + file.getPath(), NamedTextColor.GREEN));
+            } catch (IOException e) {
+                sender.sendMessage(Component.text("프로파일 덤프 실패: " + e.getMessage(), NamedTextColor.RED));
+            }
+            return;
+        }
+
+        // 수식 캐시/데미지 단계는 프로파일러 설정과 무관하게 항상 표시
+        com.github.benmanes.caffeine.cache.stats.CacheStats formulaStats = expressionEngine.getCacheStats();
+        sender.sendMessage(Component.text(String.format("수식 캐시: %d개 | 적중률 %.1f%% | 제거 %d",
+                expressionEngine.getCacheSize(), formulaStats.hitRate() * 100.0, formulaStats.evictionCount()),
+                NamedTextColor.GRAY));
+
+        // 데미지 파이프라인 단계별 누적 통계 (이벤트당 한 번 실행)
+        StringBuilder stages = new StringBuilder("데미지 단계(평균 us):");
+        for (DamagePipeline.StageTiming timing : damageProcessor.getPipeline().snapshot()) {
+            stages.append(String.format(" %s=%.1f(%d)", timing.getName(), timing.getAvgMicros(), timing.getCalls()));
+        }
+        sender.sendMessage(Component.text(stages.toString(), NamedTextColor.GRAY));
+
+        if (!profiler.isEnabled()) {
+            sender.sendMessage(Component.text("프로파일러가 비활성화되어 있습니다. (ecs.profiler.enabled)", NamedTextColor.RED));
+            return;
+        }
+
+        List<SystemProfiler.Snapshot> snapshots = profiler.snapshot();
+        long windowSeconds = (java.lang.System.currentTimeMillis() - profiler.getWindowStartMillis()) / 1000L;
+        sender.sendMessage(Component.text("ECS 시스템 프로파일 (최근 " + windowSeconds + "초)", NamedTextColor.GOLD));
+        if (snapshots.isEmpty()) {
+            sender.sendMessage(Component.text("측정된 시스템이 없습니다.", NamedTextColor.GRAY));
+            return;
+        }
+        sender.sendMessage(Component.text("시스템 | 실행 | p50/p99/max(us) | 평균(us) | 엔티티 | 할당", NamedTextColor.GRAY));
+        for (SystemProfiler.Snapshot s : snapshots) {
+            String line = String.format("%s | %d | %d/%d/%d | %.1f | %d | %s",
+                    s.getSystem(), s.getRuns(), s.getP50Micros(), s.getP99Micros(), s.getMaxMicros(),
+                    s.getAvgMicros(), s.getEntities(), formatBytes(s.getAllocatedBytes()));
+            sender.sendMessage(Component.text(line, NamedTextColor.WHITE));
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0)
+            return "N/A";
+        if (bytes < 1024)
+            return bytes + "B";
+        if (bytes < 1024 * 1024)
+            return String.format("%.1fKB", bytes / 1024.0);
+        return String.format("%.1fMB", bytes / (1024.0 * 1024.0));
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(Component.text("Usage:", NamedTextColor.YELLOW));
         sender.sendMessage(Component.text("/rpgadmin reload - Reload scripts/configs", NamedTextColor.YELLOW));
         sender.sendMessage(Component.text("/rpgadmin dump <player> - Export DB to YAML", NamedTextColor.YELLOW));
         sender.sendMessage(Component.text("/rpgadmin load <player> - Import YAML to DB", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("/rpgadmin profile [reset|dump] - ECS system profile", NamedTextColor.YELLOW));
     }
 }
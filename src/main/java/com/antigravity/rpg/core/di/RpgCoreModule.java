@@ -3,6 +3,7 @@ package com.antigravity.rpg.core.di;
 import com.antigravity.rpg.AntiGravityPlugin;
 import com.antigravity.rpg.core.ecs.EntityRegistry;
 import com.antigravity.rpg.core.ecs.SimpleEntityRegistry;
+import com.antigravity.rpg.core.ecs.SparseSetEntityRegistry;
 import com.antigravity.rpg.data.service.DatabaseService;
 import com.antigravity.rpg.data.sql.HikariDatabaseService;
 import com.google.inject.AbstractModule;
@@ -27,8 +28,13 @@ public class RpgCoreModule extends AbstractModule {
         // Data Services
         bind(DatabaseService.class).to(HikariDatabaseService.class).in(Singleton.class);
 
-        // ECS Services
-        bind(EntityRegistry.class).to(SimpleEntityRegistry.class).in(Singleton.class);
+        // ECS Services (ecs.registry: sparse-set | simple)
+        String registryType = plugin.getConfig().getString("ecs.registry", "sparse-set");
+        if ("simple".equalsIgnoreCase(registryType)) {
+            bind(EntityRegistry.class).to(SimpleEntityRegistry.class).in(Singleton.class);
+        } else {
+            bind(EntityRegistry.class).to(SparseSetEntityRegistry.class).in(Singleton.class);
+        }
 
         // Network Services
         bind(com.antigravity.rpg.core.network.NetworkService.class)
@@ -37,6 +43,7 @@ public class RpgCoreModule extends AbstractModule {
         // Config & Formula
         bind(com.antigravity.rpg.core.config.ConfigDirectoryLoader.class).in(Singleton.class);
         bind(com.antigravity.rpg.core.formula.PlaceholderService.class).in(Singleton.class);
+        bind(com.antigravity.rpg.core.formula.FormulaRegistry.class).in(Singleton.class);
         bind(com.antigravity.rpg.core.formula.ExpressionEngine.class).in(Singleton.class);
 
         // Engine
@@ -53,6 +60,7 @@ public class RpgCoreModule extends AbstractModule {
         bind(com.antigravity.rpg.feature.social.PartyManager.class).in(Singleton.class);
         bind(com.antigravity.rpg.feature.loot.LootManager.class).in(Singleton.class);
         bind(com.antigravity.rpg.feature.item.CustomItemFactory.class).in(Singleton.class);
+        bind(com.antigravity.rpg.feature.item.PDCAdapter.class).in(Singleton.class);
         bind(com.antigravity.rpg.feature.classes.ClassRegistry.class).asEagerSingleton();
         bind(com.antigravity.rpg.feature.player.PlayerProfileService.class).in(Singleton.class);
         bind(com.antigravity.rpg.feature.player.ResourceRegenTask.class).asEagerSingleton();
@@ -0,0 +1,115 @@
+package com.antigravity.rpg.core.ecs;
+
+import java.util.Arrays;
+
+/**
+ * 한 컴포넌트 타입의 인스턴스를 밀집(dense) 배열에 보관하는 Sparse Set 풀입니다.
+ * <p>
+ * sparse[슬롯] 은 dense 배열 내 인덱스를 가리키며, dense 배열에는 세대 태그가 포함된 엔티티 ID가 저장되므로
+ * 오래된 핸들로 조회하면 자연스럽게 불일치로 판정됩니다.
+ * dense 배열은 항상 앞쪽 size 개가 빈틈없이 채워져 있으므로 순회는 단순 선형 스캔입니다.
+ * 제거 시 마지막 원소를 빈 자리로 옮기는 swap-remove 방식을 사용합니다.
+ * <p>
+ * 쓰기는 명령 버퍼 flush 시점에 메인 스레드에서만 일어나며,
+ * 배열 참조와 size를 volatile로 두어 다른 스레드의 읽기에도 최신 배열이 보이도록 합니다.
+ */
+final class ComponentPool {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Slot -> dense 인덱스 (유효성은 denseEntities 역참조로 검증)
+    private volatile int[] sparse = new int[INITIAL_CAPACITY];
+    // dense 인덱스 -> Entity ID
+    private volatile int[] denseEntities = new int[INITIAL_CAPACITY];
+    // dense 인덱스 -> 컴포넌트
+    private volatile Component[] denseComponents = new Component[INITIAL_CAPACITY];
+    private volatile int size;
+
+    int size() {
+        return size;
+    }
+
+    int entityAt(int denseIndex) {
+        return denseEntities[denseIndex];
+    }
+
+    Component componentAt(int denseIndex) {
+        return denseComponents[denseIndex];
+    }
+
+    boolean contains(int entityId) {
+        return indexOf(entityId) >= 0;
+    }
+
+    Component get(int entityId) {
+        int index = indexOf(entityId);
+        return index >= 0 ? denseComponents[index] : null;
+    }
+
+    private int indexOf(int entityId) {
+        int slot = EntityIdAllocator.slot(entityId);
+        int[] sparseView = sparse;
+        if (entityId <= 0 || slot >= sparseView.length)
+            return -1;
+        int index = sparseView[slot];
+        int[] entities = denseEntities;
+        if (index < size && index < entities.length && entities[index] == entityId) {
+            return index;
+        }
+        return -1;
+    }
+
+    void put(int entityId, Component component) {
+        int slot = EntityIdAllocator.slot(entityId);
+        if (contains(entityId)) {
+            denseComponents[sparse[slot]] = component;
+            return;
+        }
+        if (slot >= sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.max(sparse.length * 2, slot + 1));
+        }
+        if (size == denseEntities.length) {
+            int newSize = denseEntities.length * 2;
+            denseEntities = Arrays.copyOf(denseEntities, newSize);
+            denseComponents = Arrays.copyOf(denseComponents, newSize);
+        }
+        int index = size;
+        sparse[slot] = index;
+        denseEntities[index] = entityId;
+        denseComponents[index] = component;
+        // size를 마지막에 갱신하여 원소가 완전히 기록된 뒤에 보이도록 함
+        size = index + 1;
+    }
+
+    boolean remove(int entityId) {
+        if (!contains(entityId))
+            return false;
+        int index = sparse[EntityIdAllocator.slot(entityId)];
+        int last = size - 1;
+        if (index != last) {
+            int movedEntity = denseEntities[last];
+            denseEntities[index] = movedEntity;
+            denseComponents[index] = denseComponents[last];
+            sparse[EntityIdAllocator.slot(movedEntity)] = index;
+        }
+        denseComponents[last] = null;
+        size = last;
+        return true;
+    }
+
+    /**
+     * 사용량에 비해 과도하게 커진 배열을 축소합니다.
+     *
+     * @param slotLimit 현재 사용 중인 최대 슬롯 + 1
+     */
+    void trim(int slotLimit) {
+        if (sparse.length > INITIAL_CAPACITY && sparse.length > slotLimit * 2) {
+            sparse = Arrays.copyOf(sparse, Math.max(INITIAL_CAPACITY, slotLimit));
+        }
+        if (denseEntities.length > INITIAL_CAPACITY && denseEntities.length > size * 4) {
+            int newSize = Math.max(INITIAL_CAPACITY, size * 2);
+            denseEntities = Arrays.copyOf(denseEntities, newSize);
+            denseComponents = Arrays.copyOf(denseComponents, newSize);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.antigravity.rpg.core.ecs;
+
+/**
+ * 두 컴포넌트를 모두 보유한 엔티티에 대한 재사용 가능한 뷰입니다.
+ * 시스템 필드에 한 번 만들어 두고 매 틱 {@link #forEach(IntBiObjConsumer)} 로 순회합니다.
+ */
+public final class ComponentQuery<A extends Component, B extends Component> {
+
+    private final EntityRegistry registry;
+    private final Class<A> first;
+    private final Class<B> second;
+
+    ComponentQuery(EntityRegistry registry, Class<A> first, Class<B> second) {
+        this.registry = registry;
+        this.first = first;
+        this.second = second;
+    }
+
+    public void forEach(IntBiObjConsumer<A, B> consumer) {
+        registry.forEach(first, second, consumer);
+    }
+}
@@ -0,0 +1,94 @@
+package com.antigravity.rpg.core.ecs;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * ECS 구조 변경(엔티티 생성/제거, 컴포넌트 추가/제거)과 지연 작업을 기록해 두는 명령 버퍼입니다.
+ * <p>
+ * 어느 스레드에서든 락 없이 명령을 쌓을 수 있으며, 기록된 명령은
+ * {@link SystemManager} 틱 시작 시점(단일 동기화 지점)에 메인 스레드에서 순서대로 적용됩니다.
+ * 따라서 저장소 배열은 메인 스레드만 변경하고, 읽기는 절대 블로킹되지 않습니다.
+ */
+final class EntityCommandBuffer {
+
+    enum Op {
+        REGISTER, REMOVE_ENTITY, ADD_COMPONENT, REMOVE_COMPONENT, RUN
+    }
+
+    static final class Command {
+        final Op op;
+        // UUID 기반 명령은 적용 시점에 ID를 해석합니다. (같은 버퍼 안에서 생성된 엔티티 지원)
+        final UUID uuid;
+        final int entityId;
+        final Component component;
+        final Class<? extends Component> componentType;
+        // RUN 명령의 작업
+        final Runnable task;
+
+        private Command(Op op, UUID uuid, int entityId, Component component,
+                Class<? extends Component> componentType) {
+            this(op, uuid, entityId, component, componentType, null);
+        }
+
+        private Command(Op op, UUID uuid, int entityId, Component component,
+                Class<? extends Component> componentType, Runnable task) {
+            this.op = op;
+            this.uuid = uuid;
+            this.entityId = entityId;
+            this.component = component;
+            this.componentType = componentType;
+            this.task = task;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Command> queue = new ConcurrentLinkedQueue<>();
+
+    void register(UUID uuid) {
+        queue.add(new Command(Op.REGISTER, uuid, -1, null, null));
+    }
+
+    void removeEntity(UUID uuid) {
+        queue.add(new Command(Op.REMOVE_ENTITY, uuid, -1, null, null));
+    }
+
+    void removeEntity(int entityId) {
+        queue.add(new Command(Op.REMOVE_ENTITY, null, entityId, null, null));
+    }
+
+    void addComponent(UUID uuid, Component component) {
+        queue.add(new Command(Op.ADD_COMPONENT, uuid, -1, component, component.getClass()));
+    }
+
+    void removeComponent(UUID uuid, Class<? extends Component> componentType) {
+        queue.add(new Command(Op.REMOVE_COMPONENT, uuid, -1, null, componentType));
+    }
+
+    void removeComponent(int entityId, Class<? extends Component> componentType) {
+        queue.add(new Command(Op.REMOVE_COMPONENT, null, entityId, null, componentType));
+    }
+
+    void run(Runnable task) {
+        queue.add(new Command(Op.RUN, null, -1, null, null, task));
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * 쌓인 명령을 기록 순서대로 모두 적용합니다. 메인 스레드에서만 호출해야 합니다.
+     *
+     * @return 적용한 명령 수
+     */
+    int drain(Consumer<Command> applier) {
+        int applied = 0;
+        Command command;
+        while ((command = queue.poll()) != null) {
+            applier.accept(command);
+            applied++;
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,150 @@
+package com.antigravity.rpg.core.ecs;
+
+import java.util.Arrays;
+
+/**
+ * 세대(generation) 태그가 붙은 엔티티 ID를 발급하고 재사용하는 할당기입니다.
+ * <p>
+ * 엔티티 ID(핸들)는 하위 {@value #SLOT_BITS}비트의 슬롯 번호와 상위 세대 번호로 구성됩니다.
+ * 엔티티가 제거되면 슬롯은 프리 리스트로 돌아가고 세대가 1 증가하므로,
+ * 제거된 엔티티의 오래된 핸들은 같은 슬롯을 재사용하는 새 엔티티와 구분됩니다.
+ * 따라서 저장소 크기는 누적 생성 수가 아니라 동시에 살아있는 엔티티 수를 따라갑니다.
+ * <p>
+ * 할당/해제는 레지스트리의 명령 버퍼 flush 시점(메인 스레드)에서만 호출되며,
+ * {@link #isAlive(int)} 등의 조회는 다른 스레드에서도 락 없이 호출될 수 있습니다.
+ */
+final class EntityIdAllocator {
+
+    static final int SLOT_BITS = 22;
+    static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    // 부호 비트를 쓰지 않도록 9비트만 사용 (-1은 "없음"을 의미)
+    static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    // 슬롯 -> 현재 세대
+    private volatile int[] generations = new int[1024];
+    // 슬롯 -> 사용 중 여부
+    private volatile boolean[] alive = new boolean[1024];
+    // 재사용 대기 슬롯 스택
+    private int[] freeSlots = new int[256];
+    private int freeCount;
+    // 한 번도 사용되지 않은 다음 슬롯 (슬롯 0은 사용하지 않음)
+    private volatile int nextSlot = 1;
+    private int liveCount;
+
+    static int slot(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    static int generation(int handle) {
+        return (handle >>> SLOT_BITS) & GENERATION_MASK;
+    }
+
+    private static int handle(int slot, int generation) {
+        return (generation << SLOT_BITS) | slot;
+    }
+
+    int allocate() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = nextSlot++;
+            if (slot > SLOT_MASK) {
+                nextSlot--;
+                throw new IllegalStateException("엔티티 슬롯이 고갈되었습니다: " + SLOT_MASK);
+            }
+            if (slot >= generations.length) {
+                int newSize = Math.max(generations.length * 2, slot + 1);
+                generations = Arrays.copyOf(generations, newSize);
+                alive = Arrays.copyOf(alive, newSize);
+            }
+        }
+        alive[slot] = true;
+        liveCount++;
+        return handle(slot, generations[slot]);
+    }
+
+    /**
+     * 핸들을 해제하고 슬롯을 프리 리스트에 반환합니다.
+     *
+     * @return 유효한 핸들이었는지 여부
+     */
+    boolean release(int handle) {
+        if (!isAlive(handle))
+            return false;
+
+        int slot = slot(handle);
+        alive[slot] = false;
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        liveCount--;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    boolean isAlive(int handle) {
+        if (handle <= 0)
+            return false;
+        int slot = slot(handle);
+        boolean[] aliveView = alive;
+        int[] generationView = generations;
+        return slot < nextSlot && slot < aliveView.length && slot < generationView.length
+                && aliveView[slot] && generationView[slot] == generation(handle);
+    }
+
+    /**
+     * 슬롯이 사용 중이라면 현재 핸들을, 아니면 -1을 반환합니다.
+     */
+    int handleAt(int slot) {
+        boolean[] aliveView = alive;
+        if (slot <= 0 || slot >= nextSlot || slot >= aliveView.length || !aliveView[slot])
+            return -1;
+        return handle(slot, generations[slot]);
+    }
+
+    /**
+     * 지금까지 사용된 가장 큰 슬롯 + 1 (슬롯 배열 순회 상한).
+     */
+    int slotLimit() {
+        return nextSlot;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    /**
+     * 프리 리스트를 정리합니다.
+     * 상단의 연속된 빈 슬롯은 잘라내고(slotLimit 감소), 나머지는 작은 번호부터 재사용되도록 정렬합니다.
+     * 세대 정보는 유지되므로 잘려나간 슬롯을 다시 사용해도 오래된 핸들과 충돌하지 않습니다.
+     *
+     * @return 정리 후 slotLimit
+     */
+    int compact() {
+        while (nextSlot > 1 && !alive[nextSlot - 1]) {
+            nextSlot--;
+        }
+
+        // nextSlot 이상의 슬롯을 제거하고, 스택 top(끝)에 가장 작은 슬롯이 오도록 내림차순 정렬
+        int kept = 0;
+        for (int i = 0; i < freeCount; i++) {
+            if (freeSlots[i] < nextSlot) {
+                freeSlots[kept++] = freeSlots[i];
+            }
+        }
+        freeCount = kept;
+        Arrays.sort(freeSlots, 0, freeCount);
+        for (int i = 0, j = freeCount - 1; i < j; i++, j--) {
+            int tmp = freeSlots[i];
+            freeSlots[i] = freeSlots[j];
+            freeSlots[j] = tmp;
+        }
+        if (freeSlots.length > 256 && freeSlots.length > freeCount * 4) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(256, freeCount * 2));
+        }
+        return nextSlot;
+    }
+}
@@ -5,6 +5,10 @@ import java.util.UUID;
 
 /**
  * 엔티티와 컴포넌트의 관계를 관리하는 레지스트리 인터페이스입니다.
+ * <p>
+ * 구조 변경(생성/제거/컴포넌트 추가·제거)은 명령 버퍼에 기록되었다가
+ * {@link #flushCommands()} 시점에 일괄 적용됩니다. 따라서 어느 스레드에서든 호출할 수 있으며,
+ * 변경 결과는 다음 ECS 틱부터 조회됩니다.
  */
 public interface EntityRegistry {
 
@@ -37,6 +41,14 @@ public interface EntityRegistry {
      */
     <T extends Component> void addComponent(UUID entityId, T component);
 
+    /**
+     * 엔티티에서 특정 타입의 컴포넌트를 제거합니다.
+     *
+     * @param entityId       대상 엔티티 ID
+     * @param componentClass 제거할 컴포넌트 클래스
+     */
+    void removeComponent(UUID entityId, Class<? extends Component> componentClass);
+
     /**
      * 엔티티에서 특정 타입의 컴포넌트를 조회합니다.
      * 
@@ -62,4 +74,96 @@ public interface EntityRegistry {
      * @return 엔티티 UUID 리스트
      */
     java.util.List<UUID> getEntitiesWithComponent(Class<? extends Component> componentClass);
+
+    // ===== Int Handle API (시스템 내부 핫패스용) =====
+
+    /**
+     * UUID에 대응하는 내부 엔티티 ID를 반환합니다.
+     *
+     * @param uuid 엔티티 UUID
+     * @return 엔티티 ID, 등록되지 않았다면 -1
+     */
+    int getEntityId(UUID uuid);
+
+    /**
+     * 내부 엔티티 ID에 대응하는 UUID를 반환합니다.
+     *
+     * @param entityId 엔티티 ID
+     * @return UUID, 존재하지 않으면 null
+     */
+    UUID getUuid(int entityId);
+
+    /**
+     * 엔티티 ID로 엔티티를 제거합니다.
+     *
+     * @param entityId 제거할 엔티티 ID
+     */
+    void removeEntity(int entityId);
+
+    /**
+     * 엔티티 ID로 컴포넌트를 제거합니다.
+     */
+    void removeComponent(int entityId, Class<? extends Component> componentClass);
+
+    /**
+     * 엔티티 ID로 컴포넌트를 조회합니다. Optional을 생성하지 않습니다.
+     *
+     * @return 컴포넌트, 없으면 null
+     */
+    <T extends Component> T getComponent(int entityId, Class<T> componentClass);
+
+    /**
+     * 엔티티 ID로 컴포넌트 보유 여부를 확인합니다.
+     */
+    boolean hasComponent(int entityId, Class<? extends Component> componentClass);
+
+    /**
+     * 특정 컴포넌트를 보유한 모든 엔티티를 리스트 할당 없이 순회합니다.
+     * 콜백 안에서의 구조 변경은 다음 flush 시점에 반영되므로 안전합니다.
+     *
+     * @param componentClass 순회할 컴포넌트 클래스
+     * @param consumer       (엔티티 ID, 컴포넌트) 콜백 (매 틱 호출 시 필드에 보관한 인스턴스 재사용, {@link IntObjConsumer} 참고)
+     */
+    <T extends Component> void forEach(Class<T> componentClass, IntObjConsumer<T> consumer);
+
+    /**
+     * 두 컴포넌트를 모두 보유한 엔티티를 순회합니다.
+     * 콜백 안에서의 구조 변경은 다음 flush 시점에 반영되므로 안전합니다.
+     */
+    <A extends Component, B extends Component> void forEach(Class<A> first, Class<B> second,
+            IntBiObjConsumer<A, B> consumer);
+
+    /**
+     * 두 컴포넌트를 모두 보유한 엔티티에 대한 재사용 가능한 뷰를 생성합니다.
+     *
+     * @return 순회용 쿼리 뷰
+     */
+    default <A extends Component, B extends Component> ComponentQuery<A, B> query(Class<A> first,
+            Class<B> second) {
+        return new ComponentQuery<>(this, first, second);
+    }
+
+    /**
+     * 작업을 명령 버퍼에 기록하여 다음 flush 시점에 메인 스레드에서 실행합니다.
+     * flush 시점에는 실행 중인 비동기 시스템이 없으므로, 비동기 시스템이 순회하는 컴포넌트의 데이터를
+     * 시스템 밖에서 변경할 때 사용합니다. (예: EffectComponent에 효과 추가)
+     *
+     * @param task 실행할 작업
+     */
+    void enqueue(Runnable task);
+
+    /**
+     * 명령 버퍼에 쌓인 구조 변경을 기록 순서대로 적용합니다.
+     * SystemManager가 매 틱 시작 시 메인 스레드에서 호출하는 단일 동기화 지점입니다.
+     *
+     * @return 적용된 명령 수
+     */
+    int flushCommands();
+
+    /**
+     * 제거된 엔티티로 인해 커진 내부 저장소를 정리합니다.
+     * 메인 스레드에서 주기적으로 호출되며, 기본 구현은 아무 것도 하지 않습니다.
+     */
+    default void compact() {
+    }
 }
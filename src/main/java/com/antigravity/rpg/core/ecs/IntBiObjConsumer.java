@@ -0,0 +1,11 @@
+package com.antigravity.rpg.core.ecs;
+
+/**
+ * 엔티티 ID(int)와 컴포넌트 두 개를 받는 콜백입니다.
+ * {@link ComponentQuery} 순회에 사용됩니다.
+ */
+@FunctionalInterface
+public interface IntBiObjConsumer<A, B> {
+
+    void accept(int entityId, A first, B second);
+}
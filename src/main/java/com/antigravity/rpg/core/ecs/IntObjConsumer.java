@@ -0,0 +1,14 @@
+package com.antigravity.rpg.core.ecs;
+
+/**
+ * 엔티티 ID(int)와 컴포넌트 하나를 받는 콜백입니다.
+ * 박싱이나 Optional 없이 컴포넌트 풀을 순회하기 위해 사용됩니다.
+ * <p>
+ * 매 틱 순회하는 시스템은 {@code this::step} 같은 메서드 참조를 tick 안에서 만들지 말고 필드에 한 번만 만들어 두고 재사용합니다.
+ * (인스턴스를 캡처하는 메서드 참조는 평가할 때마다 새 객체가 할당됩니다)
+ */
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+
+    void accept(int entityId, T component);
+}
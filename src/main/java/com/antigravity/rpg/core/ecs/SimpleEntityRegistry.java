@@ -8,25 +8,28 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * optimized EntityRegistry using int arrays and ComponentTypeRegistry.
+ * 엔티티 ID는 EntityIdAllocator가 발급하는 세대 태그 핸들이며, 저장소는 슬롯 번호로 인덱싱됩니다.
+ * 구조 변경은 EntityCommandBuffer를 거쳐 {@link #flushCommands()}에서만 적용되므로 락이 없습니다.
  */
 @Singleton
 public class SimpleEntityRegistry implements EntityRegistry {
 
-    private final AtomicInteger nextEntityId = new AtomicInteger(1);
+    private final EntityIdAllocator allocator = new EntityIdAllocator();
     private final Map<UUID, Integer> uuidToId = new ConcurrentHashMap<>();
-    private final Map<Integer, UUID> idToUuid = new ConcurrentHashMap<>();
+    private final EntityCommandBuffer commands = new EntityCommandBuffer();
+    private final Consumer<EntityCommandBuffer.Command> applier = this::apply;
 
-    // Entity ID -> Component Type ID -> Component
-    // Using simple array of arrays. Resized as needed.
-    // Index 0 is unused for entity ID 0.
-    private Component[][] componentStore = new Component[1024][];
+    // Slot -> UUID
+    private volatile UUID[] slotToUuid = new UUID[1024];
 
-    // Lock for resizing
-    private final Object lock = new Object();
+    // Slot -> Component Type ID -> Component
+    // Using simple array of arrays. Resized as needed.
+    // Index 0 is unused for slot 0.
+    private volatile Component[][] componentStore = new Component[1024][];
 
     @Override
     public UUID createEntity() {
@@ -37,120 +40,235 @@ public class SimpleEntityRegistry implements EntityRegistry {
 
     @Override
     public void registerEntity(UUID uuid) {
-        if (uuidToId.containsKey(uuid))
-            return;
-
-        int id = nextEntityId.getAndIncrement();
-        uuidToId.put(uuid, id);
-        idToUuid.put(id, uuid);
-
-        ensureCapacity(id);
-        // Initialize component array for this entity
-        // Initial size based on current max component ID, but we can grow it lazily
-        synchronized (lock) {
-            componentStore[id] = new Component[ComponentTypeRegistry.getMaxId() + 16];
-        }
+        commands.register(uuid);
     }
 
-    private void ensureCapacity(int entityId) {
-        synchronized (lock) {
-            if (entityId >= componentStore.length) {
-                int newSize = Math.max(componentStore.length * 2, entityId + 1);
-                componentStore = Arrays.copyOf(componentStore, newSize);
-            }
-        }
+    @Override
+    public void removeEntity(UUID entityId) {
+        commands.removeEntity(entityId);
     }
 
     @Override
-    public void removeEntity(UUID entityId) {
-        Integer id = uuidToId.remove(entityId);
-        if (id != null) {
-            idToUuid.remove(id);
-            synchronized (lock) {
-                if (id < componentStore.length) {
-                    componentStore[id] = null;
-                }
-            }
-        }
+    public void removeEntity(int entityId) {
+        commands.removeEntity(entityId);
     }
 
     @Override
     public <T extends Component> void addComponent(UUID entityId, T component) {
-        Integer id = uuidToId.get(entityId);
-        if (id == null)
-            return;
+        commands.addComponent(entityId, component);
+    }
 
-        int typeId = ComponentTypeRegistry.getId(component.getClass());
+    @Override
+    public void removeComponent(UUID entityId, Class<? extends Component> componentClass) {
+        commands.removeComponent(entityId, componentClass);
+    }
 
-        synchronized (lock) {
-            Component[] components = componentStore[id];
-            if (components == null)
-                return; // Entity removed
+    @Override
+    public void removeComponent(int entityId, Class<? extends Component> componentClass) {
+        commands.removeComponent(entityId, componentClass);
+    }
 
-            if (typeId >= components.length) {
-                // Grow component array
-                int newSize = Math.max(components.length * 2, typeId + 1);
-                components = Arrays.copyOf(components, newSize);
-                componentStore[id] = components;
-            }
-            components[typeId] = component;
-        }
+    @Override
+    public void enqueue(Runnable task) {
+        commands.run(task);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends Component> Optional<T> getComponent(UUID entityId, Class<T> componentClass) {
-        Integer id = uuidToId.get(entityId);
-        if (id == null)
+        int id = getEntityId(entityId);
+        if (id < 0)
             return Optional.empty();
+        return Optional.ofNullable(getComponent(id, componentClass));
+    }
+
+    @Override
+    public boolean hasComponent(UUID entityId, Class<? extends Component> componentClass) {
+        int id = getEntityId(entityId);
+        return id >= 0 && hasComponent(id, componentClass);
+    }
 
+    @Override
+    public List<UUID> getEntitiesWithComponent(Class<? extends Component> componentClass) {
+        List<UUID> result = new ArrayList<>();
         int typeId = ComponentTypeRegistry.getId(componentClass);
+        Component[][] store = componentStore;
+        UUID[] uuids = slotToUuid;
+        int limit = Math.min(allocator.slotLimit(), Math.min(store.length, uuids.length));
 
-        // Optimistic read (array read is atomic for reference, but we might race with
-        // resize)
-        // Since we only replace the array reference, worst case we read from old array
-        // and miss a new component add
-        // or get null. For thread safety strictness, we might want to sync,
-        // but for performance in game loop, we usually assume single-threaded tick or
-        // read-heavy.
-        // Let's stick to synchronized for correctness first as requested "Optimization"
-        // but safety first.
-        // Actually, pure array read:
-        Component[] components = componentStore[id];
-        if (components == null || typeId >= components.length)
-            return Optional.empty();
+        for (int slot = 1; slot < limit; slot++) {
+            Component[] components = store[slot];
+            if (components != null && typeId < components.length && components[typeId] != null
+                    && uuids[slot] != null) {
+                result.add(uuids[slot]);
+            }
+        }
+        return result;
+    }
 
-        return Optional.ofNullable((T) components[typeId]);
+    // ===== Int Handle API =====
+
+    @Override
+    public int getEntityId(UUID uuid) {
+        Integer id = uuidToId.get(uuid);
+        return id != null ? id : -1;
     }
 
     @Override
-    public boolean hasComponent(UUID entityId, Class<? extends Component> componentClass) {
-        Integer id = uuidToId.get(entityId);
-        if (id == null)
-            return false;
+    public UUID getUuid(int entityId) {
+        if (!allocator.isAlive(entityId))
+            return null;
+        UUID[] uuids = slotToUuid;
+        int slot = EntityIdAllocator.slot(entityId);
+        return slot < uuids.length ? uuids[slot] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Component> T getComponent(int entityId, Class<T> componentClass) {
+        if (!allocator.isAlive(entityId))
+            return null;
+
+        Component[][] store = componentStore;
+        int slot = EntityIdAllocator.slot(entityId);
+        if (slot >= store.length)
+            return null;
 
         int typeId = ComponentTypeRegistry.getId(componentClass);
-        Component[] components = componentStore[id];
-        return components != null && typeId < components.length && components[typeId] != null;
+        Component[] components = store[slot];
+        if (components == null || typeId >= components.length)
+            return null;
+        return (T) components[typeId];
     }
 
     @Override
-    public List<UUID> getEntitiesWithComponent(Class<? extends Component> componentClass) {
-        List<UUID> result = new ArrayList<>();
-        int typeId = ComponentTypeRegistry.getId(componentClass);
+    public boolean hasComponent(int entityId, Class<? extends Component> componentClass) {
+        return getComponent(entityId, componentClass) != null;
+    }
 
-        // Iterate over all active entities
-        // This is generic iteration, might be slow if many entities.
-        // But fast for array check.
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Component> void forEach(Class<T> componentClass, IntObjConsumer<T> consumer) {
+        int typeId = ComponentTypeRegistry.getId(componentClass);
+        Component[][] store = componentStore;
+        int limit = Math.min(allocator.slotLimit(), store.length);
 
-        // Snapshot of map keys or iterate store
-        for (Map.Entry<Integer, UUID> entry : idToUuid.entrySet()) {
-            int id = entry.getKey();
-            Component[] components = componentStore[id];
+        // 맵 대신 저장소 배열을 직접 순회합니다. (슬롯 재사용으로 상한은 동시 생존 수에 비례)
+        for (int slot = 1; slot < limit; slot++) {
+            Component[] components = store[slot];
             if (components != null && typeId < components.length && components[typeId] != null) {
-                result.add(entry.getValue());
+                int id = allocator.handleAt(slot);
+                if (id > 0) {
+                    consumer.accept(id, (T) components[typeId]);
+                }
             }
         }
-        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Component, B extends Component> void forEach(Class<A> first, Class<B> second,
+            IntBiObjConsumer<A, B> consumer) {
+        int typeA = ComponentTypeRegistry.getId(first);
+        int typeB = ComponentTypeRegistry.getId(second);
+        Component[][] store = componentStore;
+        int limit = Math.min(allocator.slotLimit(), store.length);
+
+        for (int slot = 1; slot < limit; slot++) {
+            Component[] components = store[slot];
+            if (components == null || typeA >= components.length || typeB >= components.length)
+                continue;
+            Component a = components[typeA];
+            Component b = components[typeB];
+            if (a != null && b != null) {
+                int id = allocator.handleAt(slot);
+                if (id > 0) {
+                    consumer.accept(id, (A) a, (B) b);
+                }
+            }
+        }
+    }
+
+    // ===== Structural Changes (메인 스레드 전용) =====
+
+    @Override
+    public int flushCommands() {
+        return commands.drain(applier);
+    }
+
+    private void apply(EntityCommandBuffer.Command command) {
+        switch (command.op) {
+            case REGISTER -> applyRegister(command.uuid);
+            case REMOVE_ENTITY -> applyRemove(resolve(command));
+            case RUN -> command.task.run();
+            case ADD_COMPONENT -> applyComponent(resolve(command),
+                    ComponentTypeRegistry.getId(command.componentType), command.component);
+            case REMOVE_COMPONENT -> applyComponent(resolve(command),
+                    ComponentTypeRegistry.getId(command.componentType), null);
+        }
+    }
+
+    private int resolve(EntityCommandBuffer.Command command) {
+        return command.uuid != null ? getEntityId(command.uuid) : command.entityId;
+    }
+
+    private void applyRegister(UUID uuid) {
+        if (uuidToId.containsKey(uuid))
+            return;
+
+        int id = allocator.allocate();
+        int slot = EntityIdAllocator.slot(id);
+        if (slot >= componentStore.length) {
+            int newSize = Math.max(componentStore.length * 2, slot + 1);
+            componentStore = Arrays.copyOf(componentStore, newSize);
+            slotToUuid = Arrays.copyOf(slotToUuid, newSize);
+        }
+
+        slotToUuid[slot] = uuid;
+        // Initialize component array for this entity
+        // Initial size based on current max component ID, but we can grow it lazily
+        componentStore[slot] = new Component[ComponentTypeRegistry.getMaxId() + 16];
+        uuidToId.put(uuid, id);
+    }
+
+    private void applyRemove(int entityId) {
+        if (!allocator.isAlive(entityId))
+            return;
+
+        int slot = EntityIdAllocator.slot(entityId);
+        uuidToId.remove(slotToUuid[slot]);
+        slotToUuid[slot] = null;
+        componentStore[slot] = null;
+        allocator.release(entityId);
+    }
+
+    private void applyComponent(int entityId, int typeId, Component component) {
+        if (!allocator.isAlive(entityId))
+            return;
+
+        int slot = EntityIdAllocator.slot(entityId);
+        Component[] components = componentStore[slot];
+        if (components == null)
+            return; // Entity removed
+
+        if (typeId >= components.length) {
+            if (component == null)
+                return;
+            // Grow component array
+            int newSize = Math.max(components.length * 2, typeId + 1);
+            components = Arrays.copyOf(components, newSize);
+            componentStore[slot] = components;
+        }
+        components[typeId] = component;
+    }
+
+    @Override
+    public void compact() {
+        int limit = allocator.compact();
+        // 살아있는 최대 슬롯 기준으로 저장소를 축소합니다.
+        int target = Math.max(1024, Integer.highestOneBit(Math.max(1, limit - 1)) << 1);
+        if (componentStore.length > target * 2) {
+            componentStore = Arrays.copyOf(componentStore, target);
+            slotToUuid = Arrays.copyOf(slotToUuid, target);
+        }
     }
 }
@@ -0,0 +1,276 @@
+package com.antigravity.rpg.core.ecs;
+
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 컴포넌트 타입별 Sparse Set 풀을 사용하는 EntityRegistry 구현체입니다.
+ * <p>
+ * 각 컴포넌트 타입은 자신만의 밀집 배열(ComponentPool)을 가지므로,
+ * "X 컴포넌트를 가진 모든 엔티티" 조회는 UUID 맵을 거치지 않고 해당 풀만 선형으로 훑습니다.
+ * Entity ID -> UUID 역참조도 배열로 관리합니다.
+ * 엔티티 ID는 EntityIdAllocator의 세대 태그 핸들이므로 제거된 슬롯은 재사용되며,
+ * 저장소 크기는 누적 생성 수가 아니라 동시에 살아있는 엔티티 수를 따라갑니다.
+ * UUID 기반 메서드는 int 핸들 API 위의 얇은 어댑터입니다.
+ * <p>
+ * 구조 변경은 EntityCommandBuffer에 기록되고 {@link #flushCommands()}에서만 적용되므로 락이 없습니다.
+ */
+@Singleton
+public class SparseSetEntityRegistry implements EntityRegistry {
+
+    private final EntityIdAllocator allocator = new EntityIdAllocator();
+    private final Map<UUID, Integer> uuidToId = new ConcurrentHashMap<>();
+    private final EntityCommandBuffer commands = new EntityCommandBuffer();
+    private final Consumer<EntityCommandBuffer.Command> applier = this::apply;
+
+    // Slot -> UUID (Index 0 is unused)
+    private volatile UUID[] idToUuid = new UUID[1024];
+
+    // Component Type ID -> Pool
+    private volatile ComponentPool[] pools = new ComponentPool[16];
+
+    @Override
+    public UUID createEntity() {
+        UUID uuid = UUID.randomUUID();
+        registerEntity(uuid);
+        return uuid;
+    }
+
+    @Override
+    public void registerEntity(UUID uuid) {
+        commands.register(uuid);
+    }
+
+    @Override
+    public void removeEntity(UUID entityId) {
+        commands.removeEntity(entityId);
+    }
+
+    @Override
+    public void removeEntity(int entityId) {
+        commands.removeEntity(entityId);
+    }
+
+    @Override
+    public <T extends Component> void addComponent(UUID entityId, T component) {
+        commands.addComponent(entityId, component);
+    }
+
+    @Override
+    public void removeComponent(UUID entityId, Class<? extends Component> componentClass) {
+        commands.removeComponent(entityId, componentClass);
+    }
+
+    @Override
+    public void removeComponent(int entityId, Class<? extends Component> componentClass) {
+        commands.removeComponent(entityId, componentClass);
+    }
+
+    @Override
+    public void enqueue(Runnable task) {
+        commands.run(task);
+    }
+
+    @Override
+    public <T extends Component> Optional<T> getComponent(UUID entityId, Class<T> componentClass) {
+        int id = getEntityId(entityId);
+        if (id < 0)
+            return Optional.empty();
+        return Optional.ofNullable(getComponent(id, componentClass));
+    }
+
+    @Override
+    public boolean hasComponent(UUID entityId, Class<? extends Component> componentClass) {
+        int id = getEntityId(entityId);
+        return id >= 0 && hasComponent(id, componentClass);
+    }
+
+    @Override
+    public List<UUID> getEntitiesWithComponent(Class<? extends Component> componentClass) {
+        ComponentPool pool = poolOf(componentClass);
+        if (pool == null)
+            return new ArrayList<>(0);
+
+        // 밀집 배열만 선형 스캔 (UUID 맵 미사용)
+        UUID[] uuids = idToUuid;
+        int size = pool.size();
+        List<UUID> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int slot = EntityIdAllocator.slot(pool.entityAt(i));
+            if (slot < uuids.length && uuids[slot] != null) {
+                result.add(uuids[slot]);
+            }
+        }
+        return result;
+    }
+
+    // ===== Int Handle API =====
+
+    @Override
+    public int getEntityId(UUID uuid) {
+        Integer id = uuidToId.get(uuid);
+        return id != null ? id : -1;
+    }
+
+    @Override
+    public UUID getUuid(int entityId) {
+        if (!allocator.isAlive(entityId))
+            return null;
+        UUID[] uuids = idToUuid;
+        int slot = EntityIdAllocator.slot(entityId);
+        return slot < uuids.length ? uuids[slot] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Component> T getComponent(int entityId, Class<T> componentClass) {
+        ComponentPool pool = poolOf(componentClass);
+        return pool != null ? (T) pool.get(entityId) : null;
+    }
+
+    @Override
+    public boolean hasComponent(int entityId, Class<? extends Component> componentClass) {
+        ComponentPool pool = poolOf(componentClass);
+        return pool != null && pool.contains(entityId);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Component> void forEach(Class<T> componentClass, IntObjConsumer<T> consumer) {
+        ComponentPool pool = poolOf(componentClass);
+        if (pool == null)
+            return;
+
+        // 순회 중 구조 변경은 명령 버퍼로 지연되므로 풀은 순회 동안 변하지 않습니다.
+        for (int i = pool.size() - 1; i >= 0; i--) {
+            consumer.accept(pool.entityAt(i), (T) pool.componentAt(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <A extends Component, B extends Component> void forEach(Class<A> first, Class<B> second,
+            IntBiObjConsumer<A, B> consumer) {
+        ComponentPool poolA = poolOf(first);
+        ComponentPool poolB = poolOf(second);
+        if (poolA == null || poolB == null)
+            return;
+
+        // 더 작은 풀을 기준으로 순회하고 나머지 풀은 sparse 조회로 확인합니다.
+        boolean driveA = poolA.size() <= poolB.size();
+        ComponentPool driver = driveA ? poolA : poolB;
+        ComponentPool other = driveA ? poolB : poolA;
+
+        for (int i = driver.size() - 1; i >= 0; i--) {
+            int id = driver.entityAt(i);
+            Component match = other.get(id);
+            if (match == null)
+                continue;
+            Component own = driver.componentAt(i);
+            if (driveA) {
+                consumer.accept(id, (A) own, (B) match);
+            } else {
+                consumer.accept(id, (A) match, (B) own);
+            }
+        }
+    }
+
+    // ===== Structural Changes (메인 스레드 전용) =====
+
+    @Override
+    public int flushCommands() {
+        return commands.drain(applier);
+    }
+
+    private void apply(EntityCommandBuffer.Command command) {
+        switch (command.op) {
+            case REGISTER -> applyRegister(command.uuid);
+            case REMOVE_ENTITY -> applyRemove(resolve(command));
+            case RUN -> command.task.run();
+            case ADD_COMPONENT -> applyAddComponent(resolve(command), command.component,
+                    ComponentTypeRegistry.getId(command.componentType));
+            case REMOVE_COMPONENT -> {
+                int id = resolve(command);
+                ComponentPool pool = poolOf(command.componentType);
+                if (id > 0 && pool != null) {
+                    pool.remove(id);
+                }
+            }
+        }
+    }
+
+    private int resolve(EntityCommandBuffer.Command command) {
+        return command.uuid != null ? getEntityId(command.uuid) : command.entityId;
+    }
+
+    private void applyRegister(UUID uuid) {
+        if (uuidToId.containsKey(uuid))
+            return;
+
+        int id = allocator.allocate();
+        int slot = EntityIdAllocator.slot(id);
+        if (slot >= idToUuid.length) {
+            idToUuid = Arrays.copyOf(idToUuid, Math.max(idToUuid.length * 2, slot + 1));
+        }
+        idToUuid[slot] = uuid;
+        uuidToId.put(uuid, id);
+    }
+
+    private void applyRemove(int entityId) {
+        UUID uuid = getUuid(entityId);
+        if (uuid == null)
+            return;
+
+        uuidToId.remove(uuid);
+        idToUuid[EntityIdAllocator.slot(entityId)] = null;
+        for (ComponentPool pool : pools) {
+            if (pool != null) {
+                pool.remove(entityId);
+            }
+        }
+        allocator.release(entityId);
+    }
+
+    private void applyAddComponent(int entityId, Component component, int typeId) {
+        if (!allocator.isAlive(entityId))
+            return;
+
+        ComponentPool[] current = pools;
+        if (typeId >= current.length) {
+            current = Arrays.copyOf(current, Math.max(current.length * 2, typeId + 1));
+        }
+        ComponentPool pool = current[typeId];
+        if (pool == null) {
+            pool = new ComponentPool();
+            current[typeId] = pool;
+        }
+        pool.put(entityId, component);
+        pools = current;
+    }
+
+    @Override
+    public void compact() {
+        int limit = allocator.compact();
+        for (ComponentPool pool : pools) {
+            if (pool != null) {
+                pool.trim(limit);
+            }
+        }
+        if (idToUuid.length > 1024 && idToUuid.length > limit * 2) {
+            idToUuid = Arrays.copyOf(idToUuid, Math.max(1024, limit));
+        }
+    }
+
+    private ComponentPool poolOf(Class<? extends Component> componentClass) {
+        int typeId = ComponentTypeRegistry.getId(componentClass);
+        ComponentPool[] current = pools;
+        return typeId < current.length ? current[typeId] : null;
+    }
+}
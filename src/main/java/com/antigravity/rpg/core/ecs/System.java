@@ -1,5 +1,8 @@
 package com.antigravity.rpg.core.ecs;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * ECS(Entity Component System)의 '시스템' 인터페이스입니다.
  * 게임 로직을 처리하며, 주기적으로 tick 메서드가 호출됩니다.
@@ -12,10 +15,73 @@ public interface System {
      */
     void tick(double deltaTime);
 
+    /**
+     * 시간 예산과 함께 시스템 로직을 업데이트합니다. 스케줄러는 이 메서드를 호출합니다.
+     * 순회량이 많은 시스템은 이 메서드를 재정의하여 예산 초과 시 작업을 다음 틱으로 넘길 수 있습니다.
+     *
+     * @param deltaTime 지난 실행 이후 경과된 시간 (초 단위)
+     * @param budget    이번 실행에 허용된 시간 예산
+     */
+    default void tick(double deltaTime, TickBudget budget) {
+        tick(deltaTime);
+    }
+
     /**
      * 해당 시스템이 비동기적으로 실행되는지 여부를 반환합니다.
+     * 비동기 시스템은 Bukkit API를 호출해서는 안 되며, ECS 워커 풀에서 병렬로 실행됩니다.
      * 
      * @return 비동기 실행 여부
      */
     boolean isAsync();
+
+    /**
+     * 실행 주기(틱 단위)입니다. N이면 N틱마다 한 번 실행되며, deltaTime에는 그 사이 경과 시간이 누적됩니다.
+     * config의 ecs.systems.&lt;클래스명&gt;.interval 로 재정의할 수 있습니다.
+     *
+     * @return 실행 주기 (1 이상)
+     */
+    default int getTickInterval() {
+        return 1;
+    }
+
+    /**
+     * 고정 스텝으로 실행할지 여부입니다.
+     * true이면 deltaTime은 항상 정확히 (실행 주기 × 50ms)이며, 서버 렉으로 밀린 시간은
+     * 누산기에 쌓였다가 상한(ecs.fixed-step.max-catch-up-steps) 내에서 보충 스텝으로 실행됩니다.
+     * 투사체, 지속 피해, 리젠처럼 결과가 재현 가능해야 하는 시스템에 사용합니다.
+     *
+     * @return 고정 스텝 여부
+     */
+    default boolean isFixedStep() {
+        return false;
+    }
+
+    /**
+     * 한 번 실행에 허용되는 시간 예산(마이크로초)입니다. 0이면 무제한입니다.
+     * config의 ecs.systems.&lt;클래스명&gt;.budget-micros 로 재정의할 수 있습니다.
+     *
+     * @return 시간 예산 (마이크로초)
+     */
+    default long getTickBudgetMicros() {
+        return 0L;
+    }
+
+    /**
+     * 이 시스템이 읽는 컴포넌트 타입 목록입니다. 스케줄러의 의존성 그래프 구성에 사용됩니다.
+     *
+     * @return 읽기 컴포넌트 집합
+     */
+    default Set<Class<? extends Component>> getReadComponents() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * 이 시스템이 수정하는 컴포넌트 타입 목록입니다.
+     * 쓰기 집합이 다른 시스템의 읽기/쓰기 집합과 겹치면 등록 순서대로 직렬화됩니다.
+     *
+     * @return 쓰기 컴포넌트 집합
+     */
+    default Set<Class<? extends Component>> getWriteComponents() {
+        return Collections.emptySet();
+    }
 }
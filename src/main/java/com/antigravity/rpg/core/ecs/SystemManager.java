@@ -2,7 +2,6 @@ package com.antigravity.rpg.core.ecs;
 
 import com.antigravity.rpg.AntiGravityPlugin;
 import com.antigravity.rpg.api.service.Service;
-import com.antigravity.rpg.core.engine.StatCalculator;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
@@ -13,37 +12,79 @@ import java.util.List;
 
 /**
  * ECS 시스템들을 통합 관리하고 주기적으로 실행하는 매니저입니다.
- * BukkitRunnable을 상속받아 메인 게임 루프 역할을 수행하며, 스탯 캐시 초기화를 담당합니다.
+ * BukkitRunnable을 상속받아 메인 게임 루프 역할을 수행합니다.
+ * 스탯 캐시는 틱마다 비우지 않으며, 변경된 대상/스탯만 {@link com.antigravity.rpg.core.engine.StatCalculator#invalidate}로 무효화됩니다.
+ * 시스템 실행 순서와 병렬화는 {@link SystemScheduler}가 담당합니다.
  */
 @Singleton
 public class SystemManager extends BukkitRunnable implements Service {
 
     private final AntiGravityPlugin plugin;
     private final Injector injector;
-    private final StatCalculator statCalculator;
+    private final EntityRegistry entityRegistry;
+    private final SystemProfiler profiler;
     private final List<System> systems = new ArrayList<>();
 
-    // 마지막 업데이트 시간을 기록하여 델타 타임(초 단위) 계산
-    private long lastTickTime;
+    private SystemScheduler scheduler;
+    // 시스템 목록이 바뀌면 다음 틱에 의존성 그래프를 다시 구성
+    private boolean scheduleDirty = true;
+
+    // 마지막 업데이트 시간(System.nanoTime)을 기록하여 델타 타임 계산
+    // (currentTimeMillis는 해상도가 낮고 시계 조정에 영향을 받으므로 사용하지 않음)
+    private long lastTickNanos;
 
     @Inject
-    public SystemManager(AntiGravityPlugin plugin, Injector injector, StatCalculator statCalculator) {
+    public SystemManager(AntiGravityPlugin plugin, Injector injector, EntityRegistry entityRegistry,
+            SystemProfiler profiler) {
         this.plugin = plugin;
         this.injector = injector;
-        this.statCalculator = statCalculator;
+        this.entityRegistry = entityRegistry;
+        this.profiler = profiler;
     }
 
     @Override
     public void onEnable() {
-        this.lastTickTime = java.lang.System.currentTimeMillis();
+        this.lastTickNanos = java.lang.System.nanoTime();
+
+        // ECS 워커 풀 (0 이하이면 코어 수 - 1)
+        int parallelism = plugin.getConfig().getInt("ecs.parallelism", 0);
+        if (parallelism <= 0) {
+            parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        this.scheduler = new SystemScheduler(plugin.getLogger(), parallelism, profiler);
+
+        // 고정 스텝 모드 (투사체, 지속 피해, 리젠 등 isFixedStep() 시스템은 항상 50ms 단위로 실행)
+        boolean fixedStep = plugin.getConfig().getBoolean("ecs.fixed-step.enabled", true);
+        int maxCatchUp = plugin.getConfig().getInt("ecs.fixed-step.max-catch-up-steps", 4);
+        scheduler.setFixedStep(fixedStep ? 50_000_000L : 0L, maxCatchUp);
+
         // 1틱(50ms)마다 실행
         this.runTaskTimer(plugin, 0L, 1L);
-        plugin.getLogger().info("[SystemManager] ECS 게임 루프가 시작되었습니다.");
+
+        // 엔티티 저장소 정리 (0 이하이면 비활성화, 저장소 배열을 줄이므로 순회 중인 비동기 시스템이 끝난 뒤 실행)
+        long compactionTicks = plugin.getConfig().getLong("ecs.compaction-interval-seconds", 300L) * 20L;
+        if (compactionTicks > 0) {
+            plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
+                scheduler.awaitOutstanding();
+                entityRegistry.compact();
+            }, compactionTicks, compactionTicks);
+        }
+
+        // 시스템 프로파일러 CSV 기록 (0 이하이면 비활성화)
+        long csvTicks = plugin.getConfig().getLong("ecs.profiler.csv-interval-seconds", 60L) * 20L;
+        if (csvTicks > 0) {
+            plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, profiler::rollWindow, csvTicks,
+                    csvTicks);
+        }
+        plugin.getLogger().info("[SystemManager] ECS 게임 루프가 시작되었습니다. (워커: " + parallelism + ")");
     }
 
     @Override
     public void onDisable() {
         this.cancel();
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
         plugin.getLogger().info("[SystemManager] ECS 게임 루프가 종료되었습니다.");
     }
 
@@ -60,28 +101,44 @@ public class SystemManager extends BukkitRunnable implements Service {
     public void registerSystem(Class<? extends System> systemClass) {
         System system = injector.getInstance(systemClass);
         systems.add(system);
+        scheduleDirty = true;
         plugin.getLogger().info("[SystemManager] 시스템 등록됨: " + system.getClass().getSimpleName());
     }
 
     @Override
     public void run() {
-        // 1. 매 틱 시작 시 스탯 계산기 캐시 초기화 (성능 최적화)
-        statCalculator.clearAllCache();
-
-        long currentTime = java.lang.System.currentTimeMillis();
-        // 델타 타임 계산 (초 단위)
-        double deltaTime = (currentTime - lastTickTime) / 1000.0;
-        lastTickTime = currentTime;
-
-        // 2. 모든 등록된 시스템 업데이트
-        for (System system : systems) {
-            try {
-                system.tick(deltaTime);
-            } catch (Exception e) {
-                plugin.getLogger().severe("[SystemManager] 시스템 오류 발생: " + system.getClass().getSimpleName());
-                e.printStackTrace();
-            }
+        // 0. 지난 틱의 비동기 시스템 합류 후, 쌓인 ECS 구조 변경 적용 (단일 동기화 지점)
+        scheduler.awaitOutstanding();
+        entityRegistry.flushCommands();
+
+        long currentNanos = java.lang.System.nanoTime();
+        // 델타 타임 계산 (나노초, 시스템에는 초 단위로 전달됨)
+        long deltaNanos = currentNanos - lastTickNanos;
+        lastTickNanos = currentNanos;
+
+        if (scheduleDirty) {
+            rebuildSchedule();
+            scheduleDirty = false;
+        }
+
+        // 1. 모든 등록된 시스템 업데이트 (비동기 시스템은 워커 풀에서 병렬 실행)
+        scheduler.execute(deltaNanos);
+    }
+
+    /**
+     * 시스템별 실행 주기와 시간 예산을 config(ecs.systems.&lt;클래스명&gt;)에서 읽어 스케줄을 다시 구성합니다.
+     * 설정이 없으면 시스템이 선언한 기본값을 사용합니다.
+     */
+    private void rebuildSchedule() {
+        int[] intervals = new int[systems.size()];
+        long[] budgets = new long[systems.size()];
+        for (int i = 0; i < systems.size(); i++) {
+            System system = systems.get(i);
+            String path = "ecs.systems." + system.getClass().getSimpleName();
+            intervals[i] = plugin.getConfig().getInt(path + ".interval", system.getTickInterval());
+            budgets[i] = plugin.getConfig().getLong(path + ".budget-micros", system.getTickBudgetMicros());
         }
+        scheduler.rebuild(systems, intervals, budgets);
     }
 
     /**
@@ -89,6 +146,7 @@ public class SystemManager extends BukkitRunnable implements Service {
      */
     public void registerSystemInstance(System system) {
         systems.add(system);
+        scheduleDirty = true;
         plugin.getLogger().info("[SystemManager] 시스템 인스턴스 등록됨: " + system.getClass().getSimpleName());
     }
 }
@@ -0,0 +1,354 @@
+package com.antigravity.rpg.core.ecs;
+
+import com.antigravity.rpg.AntiGravityPlugin;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * ECS 시스템별 실행 시간 분포(p50/p99/max), 처리 엔티티 수, 할당량 추정치를 수집하는 프로파일러입니다.
+ * <p>
+ * 측정값은 "측정 구간" 단위로 누적되며, 주기적으로 CSV(profiler/systems.csv)에 한 줄씩 기록된 뒤 초기화됩니다.
+ * /rpgadmin profile 명령으로 현재 구간을 조회하거나 JSON으로 덤프할 수 있습니다.
+ * 할당량은 HotSpot의 스레드별 할당 카운터로 측정하며, 지원되지 않는 JVM에서는 -1로 표시됩니다.
+ */
+@Singleton
+public class SystemProfiler {
+
+    private static final String CSV_HEADER = "timestamp,system,runs,p50_us,p99_us,max_us,avg_us,entities,alloc_bytes";
+    private static final int CSV_BACKUPS = 5;
+
+    private final AntiGravityPlugin plugin;
+    private final Map<String, Stats> statsByName = new ConcurrentHashMap<>();
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private volatile boolean enabled;
+    private volatile long windowStartMillis = java.lang.System.currentTimeMillis();
+
+    @Inject
+    public SystemProfiler(AntiGravityPlugin plugin) {
+        this.plugin = plugin;
+        this.enabled = plugin.getConfig().getBoolean("ecs.profiler.enabled", true);
+
+        com.sun.management.ThreadMXBean bean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported()) {
+            if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            bean = sunBean;
+        }
+        this.threadBean = bean;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 시스템에 대응하는 측정 버킷을 반환합니다. 스케줄 재구성 시 한 번만 호출됩니다.
+     */
+    Stats statsFor(System system) {
+        return statsByName.computeIfAbsent(system.getClass().getSimpleName(), Stats::new);
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트 수입니다. 측정 불가 시 -1.
+     */
+    long currentThreadAllocatedBytes() {
+        return threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : -1L;
+    }
+
+    /**
+     * 현재 측정 구간의 시스템별 통계를 이름순으로 반환합니다.
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> result = new ArrayList<>();
+        for (Stats stats : statsByName.values()) {
+            result.add(stats.snapshot(false));
+        }
+        result.sort(Comparator.comparing(Snapshot::getSystem));
+        return result;
+    }
+
+    /**
+     * 측정 구간을 초기화합니다.
+     */
+    public void reset() {
+        for (Stats stats : statsByName.values()) {
+            stats.snapshot(true);
+        }
+        windowStartMillis = java.lang.System.currentTimeMillis();
+    }
+
+    public long getWindowStartMillis() {
+        return windowStartMillis;
+    }
+
+    /**
+     * 현재 측정 구간을 CSV에 한 줄씩 기록하고 구간을 초기화합니다. 비동기 타이머에서 호출됩니다.
+     */
+    void rollWindow() {
+        if (!enabled)
+            return;
+
+        List<Snapshot> rows = new ArrayList<>();
+        for (Stats stats : statsByName.values()) {
+            Snapshot snapshot = stats.snapshot(true);
+            if (snapshot.getRuns() > 0) {
+                rows.add(snapshot);
+            }
+        }
+        windowStartMillis = java.lang.System.currentTimeMillis();
+        if (rows.isEmpty())
+            return;
+
+        try {
+            File csv = new File(profilerFolder(), "systems.csv");
+            long maxBytes = plugin.getConfig().getLong("ecs.profiler.max-csv-kb", 1024L) * 1024L;
+            if (csv.exists() && csv.length() > maxBytes) {
+                rotate(csv);
+            }
+
+            boolean newFile = !csv.exists();
+            String timestamp = String.valueOf(java.lang.System.currentTimeMillis());
+            StringBuilder sb = new StringBuilder();
+            if (newFile) {
+                sb.append(CSV_HEADER).append('\n');
+            }
+            for (Snapshot row : rows) {
+                sb.append(timestamp).append(',')
+                        .append(row.getSystem()).append(',')
+                        .append(row.getRuns()).append(',')
+                        .append(row.getP50Micros()).append(',')
+                        .append(row.getP99Micros()).append(',')
+                        .append(row.getMaxMicros()).append(',')
+                        .append(String.format("%.1f", row.getAvgMicros())).append(',')
+                        .append(row.getEntities()).append(',')
+                        .append(row.getAllocatedBytes()).append('\n');
+            }
+            Files.writeString(csv.toPath(), sb.toString(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[SystemProfiler] CSV 기록 실패", e);
+        }
+    }
+
+    /**
+     * 현재 측정 구간을 JSON 파일로 덤프합니다.
+     *
+     * @return 생성된 파일
+     */
+    public File dumpJson() throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("windowStart", windowStartMillis);
+        root.put("dumpedAt", java.lang.System.currentTimeMillis());
+        root.put("systems", snapshot());
+
+        String name = "profile-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".json";
+        File file = new File(profilerFolder(), name);
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            gson.toJson(root, writer);
+        }
+        return file;
+    }
+
+    private File profilerFolder() throws IOException {
+        File folder = new File(plugin.getDataFolder(), "profiler");
+        Files.createDirectories(folder.toPath());
+        return folder;
+    }
+
+    private void rotate(File csv) throws IOException {
+        // systems.csv -> systems.csv.1 -> ... -> systems.csv.N (가장 오래된 파일은 삭제)
+        for (int i = CSV_BACKUPS - 1; i >= 1; i--) {
+            File from = new File(csv.getPath() + "." + i);
+            if (from.exists()) {
+                Files.move(from.toPath(), new File(csv.getPath() + "." + (i + 1)).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(csv.toPath(), new File(csv.getPath() + ".1").toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 한 시스템의 측정 버킷입니다. 같은 시스템은 동시에 두 번 실행되지 않으므로 경합은 조회 시에만 발생합니다.
+     */
+    static final class Stats {
+
+        private final String system;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long runs;
+        private long totalNanos;
+        private long maxNanos;
+        private long entities;
+        private long allocatedBytes;
+
+        Stats(String system) {
+            this.system = system;
+        }
+
+        synchronized void record(long nanos, int processed, long bytes) {
+            runs++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+            entities += processed;
+            if (bytes > 0) {
+                allocatedBytes += bytes;
+            }
+            histogram.record(nanos / 1000L);
+        }
+
+        synchronized Snapshot snapshot(boolean reset) {
+            Snapshot snapshot = new Snapshot(system, runs,
+                    histogram.percentile(0.50), histogram.percentile(0.99), maxNanos / 1000L,
+                    runs > 0 ? totalNanos / 1000.0 / runs : 0.0, entities, allocatedBytes);
+            if (reset) {
+                histogram.clear();
+                runs = 0;
+                totalNanos = 0;
+                maxNanos = 0;
+                entities = 0;
+                allocatedBytes = 0;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 마이크로초 단위 로그-선형 히스토그램입니다. (16us 미만은 1us 단위, 이후 옥타브당 8구간, 오차 12.5% 이내)
+     */
+    static final class LatencyHistogram {
+
+        private static final int LINEAR = 16;
+        private static final int SUB_BUCKETS = 8;
+        private final long[] counts = new long[LINEAR + 60 * SUB_BUCKETS];
+        private long total;
+
+        static int indexOf(long micros) {
+            if (micros < LINEAR)
+                return (int) Math.max(0, micros);
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            int sub = (int) ((micros >>> (exponent - 3)) & (SUB_BUCKETS - 1));
+            return LINEAR + (exponent - 4) * SUB_BUCKETS + sub;
+        }
+
+        static long upperBoundOf(int index) {
+            if (index < LINEAR)
+                return index;
+            int exponent = (index - LINEAR) / SUB_BUCKETS + 4;
+            int sub = (index - LINEAR) % SUB_BUCKETS;
+            long lower = (long) (SUB_BUCKETS + sub) << (exponent - 3);
+            return lower + (1L << (exponent - 3)) - 1;
+        }
+
+        void record(long micros) {
+            counts[Math.min(counts.length - 1, indexOf(micros))]++;
+            total++;
+        }
+
+        long percentile(double fraction) {
+            if (total == 0)
+                return 0L;
+            long target = (long) Math.ceil(total * fraction);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return upperBoundOf(i);
+                }
+            }
+            return upperBoundOf(counts.length - 1);
+        }
+
+        void clear() {
+            java.util.Arrays.fill(counts, 0L);
+            total = 0;
+        }
+    }
+
+    /**
+     * 한 시스템의 측정 결과입니다. (시간 단위: 마이크로초)
+     */
+    public static final class Snapshot {
+
+        private final String system;
+        private final long runs;
+        private final long p50Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+        private final double avgMicros;
+        private final long entities;
+        private final long allocatedBytes;
+
+        Snapshot(String system, long runs, long p50Micros, long p99Micros, long maxMicros, double avgMicros,
+                long entities, long allocatedBytes) {
+            this.system = system;
+            this.runs = runs;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+            this.avgMicros = avgMicros;
+            this.entities = entities;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getSystem() {
+            return system;
+        }
+
+        public long getRuns() {
+            return runs;
+        }
+
+        public long getP50Micros() {
+            return p50Micros;
+        }
+
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        public double getAvgMicros() {
+            return avgMicros;
+        }
+
+        public long getEntities() {
+            return entities;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
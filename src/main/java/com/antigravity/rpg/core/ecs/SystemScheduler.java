@@ -0,0 +1,254 @@
+package com.antigravity.rpg.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 등록된 ECS 시스템을 의존성 그래프(DAG)에 따라 실행하는 스케줄러입니다.
+ * <p>
+ * 시스템 간 의존성은 등록 순서와 읽기/쓰기 컴포넌트 집합으로 결정됩니다.
+ * 앞서 등록된 시스템과 쓰기 집합이 겹치는 경우에만 간선이 생기며,
+ * {@link System#isAsync()} 시스템은 ForkJoinPool에서 병렬로 실행됩니다.
+ * 메인 스레드는 Bukkit을 다루는 동기 시스템을 실행하기 직전에, 그 시스템이 의존하는 비동기 시스템만 기다립니다.
+ * 나머지 비동기 작업은 다음 틱의 명령 버퍼 flush 전에 {@link #awaitOutstanding()}으로 합류합니다.
+ * <p>
+ * 시스템마다 실행 주기(N틱마다)와 시간 예산을 가질 수 있습니다.
+ * 건너뛴 틱의 deltaTime은 누적되어 다음 실행에 전달됩니다.
+ * 고정 스텝 시스템은 누산기(나노초 정수)에서 정확히 한 스텝씩 차감하며 실행되므로 결과가 재현 가능합니다.
+ */
+final class SystemScheduler {
+
+    private final Logger logger;
+    private final ForkJoinPool pool;
+    private final SystemProfiler profiler;
+
+    private System[] systems = new System[0];
+    // 시스템 인덱스 -> 먼저 끝나야 하는 (앞선) 비동기 시스템 인덱스
+    private int[][] dependencies = new int[0][];
+    // 이번 틱에 제출된 비동기 시스템의 Future (동기 시스템은 null)
+    private CompletableFuture<?>[] futures = new CompletableFuture<?>[0];
+    // 시스템 인덱스 -> 실행 주기 / 시간 예산 / 누적 deltaTime
+    private int[] intervals = new int[0];
+    private TickBudget[] budgets = new TickBudget[0];
+    private SystemProfiler.Stats[] stats = new SystemProfiler.Stats[0];
+    private long[] pendingNanos = new long[0];
+    private long tickCounter;
+
+    // 고정 스텝 설정 (stepNanos가 0 이하이면 비활성화되어 고정 스텝 시스템도 가변 deltaTime을 받음)
+    private long fixedStepNanos = 50_000_000L;
+    private int maxCatchUpSteps = 4;
+
+    SystemScheduler(Logger logger, int parallelism, SystemProfiler profiler) {
+        this.logger = logger;
+        this.profiler = profiler;
+        this.pool = new ForkJoinPool(parallelism, SystemScheduler::newWorker, null, false);
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("AntiGravity-ECS-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        thread.setContextClassLoader(SystemScheduler.class.getClassLoader());
+        return thread;
+    }
+
+    int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * 고정 스텝 모드를 설정합니다.
+     *
+     * @param stepNanos       1틱 주기 시스템의 스텝 길이 (0 이하이면 비활성화)
+     * @param maxCatchUpSteps 한 번에 실행할 최대 스텝 수 (초과분은 버림)
+     */
+    void setFixedStep(long stepNanos, int maxCatchUpSteps) {
+        this.fixedStepNanos = stepNanos;
+        this.maxCatchUpSteps = Math.max(1, maxCatchUpSteps);
+    }
+
+    /**
+     * 시스템 목록으로 의존성 그래프를 다시 구성합니다. 이전 틱의 비동기 작업이 끝난 뒤 호출해야 합니다.
+     *
+     * @param registered    등록 순서대로의 시스템 목록
+     * @param tickIntervals 시스템별 실행 주기 (틱)
+     * @param budgetMicros  시스템별 시간 예산 (마이크로초, 0이면 무제한)
+     */
+    void rebuild(List<System> registered, int[] tickIntervals, long[] budgetMicros) {
+        System[] ordered = registered.toArray(new System[0]);
+        int[][] deps = new int[ordered.length][];
+
+        for (int i = 0; i < ordered.length; i++) {
+            List<Integer> edges = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                // 동기 시스템끼리는 메인 스레드에서 순서대로 실행되므로 간선이 필요 없음
+                if (!ordered[i].isAsync() && !ordered[j].isAsync())
+                    continue;
+                if (conflicts(ordered[i], ordered[j])) {
+                    edges.add(j);
+                }
+            }
+            deps[i] = edges.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        TickBudget[] tickBudgets = new TickBudget[ordered.length];
+        SystemProfiler.Stats[] systemStats = new SystemProfiler.Stats[ordered.length];
+        int[] periods = new int[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            tickBudgets[i] = new TickBudget(Math.max(0L, budgetMicros[i]));
+            systemStats[i] = profiler.statsFor(ordered[i]);
+            periods[i] = Math.max(1, tickIntervals[i]);
+        }
+
+        this.systems = ordered;
+        this.dependencies = deps;
+        this.futures = new CompletableFuture<?>[ordered.length];
+        this.intervals = periods;
+        this.budgets = tickBudgets;
+        this.stats = systemStats;
+        this.pendingNanos = new long[ordered.length];
+    }
+
+    /**
+     * 한 틱 분량의 시스템을 실행합니다. 메인 스레드에서 호출됩니다.
+     *
+     * @param deltaNanos 지난 틱 이후 경과 시간 (System.nanoTime 기준)
+     */
+    void execute(long deltaNanos) {
+        tickCounter++;
+        for (int i = 0; i < systems.length; i++) {
+            System system = systems[i];
+            int[] deps = dependencies[i];
+
+            // 실행 주기 확인 (같은 주기의 시스템이 한 틱에 몰리지 않도록 인덱스만큼 위상을 어긋나게 함)
+            pendingNanos[i] += deltaNanos;
+            if ((tickCounter + i) % intervals[i] != 0) {
+                futures[i] = null;
+                continue;
+            }
+
+            double elapsed;
+            int steps;
+            if (system.isFixedStep() && fixedStepNanos > 0) {
+                long stepNanos = fixedStepNanos * intervals[i];
+                // 틱 간격의 미세한 흔들림(49.9ms/50.1ms)으로 0스텝/2스텝이 번갈아 나오지 않도록 10% 허용 오차 적용
+                long tolerance = stepNanos / 10;
+                steps = (int) Math.min(Integer.MAX_VALUE, (pendingNanos[i] + tolerance) / stepNanos);
+                if (steps > maxCatchUpSteps) {
+                    // 상한을 넘는 밀린 시간은 버림
+                    steps = maxCatchUpSteps;
+                    pendingNanos[i] = 0L;
+                } else {
+                    pendingNanos[i] -= steps * stepNanos;
+                }
+                if (steps == 0) {
+                    futures[i] = null;
+                    continue;
+                }
+                elapsed = stepNanos / 1_000_000_000.0;
+            } else {
+                steps = 1;
+                elapsed = pendingNanos[i] / 1_000_000_000.0;
+                pendingNanos[i] = 0L;
+            }
+            TickBudget budget = budgets[i];
+            SystemProfiler.Stats systemStats = stats[i];
+            int stepCount = steps;
+
+            if (system.isAsync()) {
+                Runnable task = () -> runSafely(system, elapsed, stepCount, budget, systemStats);
+                CompletableFuture<?> ready = dependencyBarrier(deps);
+                futures[i] = ready == null
+                        ? CompletableFuture.runAsync(task, pool)
+                        : ready.thenRunAsync(task, pool);
+            } else {
+                // Bukkit을 다루는 시스템 직전에만 의존 비동기 시스템과 합류
+                for (int dep : deps) {
+                    CompletableFuture<?> future = futures[dep];
+                    if (future != null) {
+                        future.join();
+                    }
+                }
+                runSafely(system, elapsed, stepCount, budget, systemStats);
+                futures[i] = null;
+            }
+        }
+    }
+
+    /**
+     * 아직 실행 중인 비동기 시스템이 모두 끝날 때까지 기다립니다.
+     */
+    void awaitOutstanding() {
+        for (int i = 0; i < futures.length; i++) {
+            CompletableFuture<?> future = futures[i];
+            if (future != null) {
+                future.join();
+                futures[i] = null;
+            }
+        }
+    }
+
+    void shutdown() {
+        awaitOutstanding();
+        pool.shutdown();
+    }
+
+    private CompletableFuture<?> dependencyBarrier(int[] deps) {
+        CompletableFuture<?> single = null;
+        List<CompletableFuture<?>> pending = null;
+        for (int dep : deps) {
+            CompletableFuture<?> future = futures[dep];
+            if (future == null)
+                continue;
+            if (single == null) {
+                single = future;
+            } else {
+                if (pending == null) {
+                    pending = new ArrayList<>();
+                    pending.add(single);
+                }
+                pending.add(future);
+            }
+        }
+        if (pending != null) {
+            return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+        }
+        return single;
+    }
+
+    private void runSafely(System system, double deltaTime, int steps, TickBudget budget,
+            SystemProfiler.Stats systemStats) {
+        boolean profiling = profiler.isEnabled();
+        long allocBefore = profiling ? profiler.currentThreadAllocatedBytes() : 0L;
+        long startNanos = java.lang.System.nanoTime();
+        try {
+            budget.start();
+            for (int step = 0; step < steps; step++) {
+                system.tick(deltaTime, budget);
+            }
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "[SystemManager] 시스템 오류 발생: " + system.getClass().getSimpleName(), e);
+        } finally {
+            if (profiling) {
+                long elapsedNanos = java.lang.System.nanoTime() - startNanos;
+                long allocated = allocBefore >= 0 ? profiler.currentThreadAllocatedBytes() - allocBefore : -1L;
+                systemStats.record(elapsedNanos, budget.getProcessed(), allocated);
+            }
+        }
+    }
+
+    static boolean conflicts(System a, System b) {
+        Set<Class<? extends Component>> writeA = a.getWriteComponents();
+        Set<Class<? extends Component>> writeB = b.getWriteComponents();
+        return !Collections.disjoint(writeA, b.getReadComponents())
+                || !Collections.disjoint(writeA, writeB)
+                || !Collections.disjoint(writeB, a.getReadComponents());
+    }
+}
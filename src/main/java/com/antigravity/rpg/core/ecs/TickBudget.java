@@ -0,0 +1,56 @@
+package com.antigravity.rpg.core.ecs;
+
+/**
+ * 시스템 한 번의 실행에 허용된 시간 예산입니다.
+ * <p>
+ * 많은 엔티티를 순회하는 시스템은 {@link #isExhausted()}를 확인하여 예산을 넘기면
+ * 순회를 멈추고 다음 틱에 이어서 처리할 수 있습니다. 예산이 0이면 무제한입니다.
+ * 스케줄러가 시스템마다 하나씩 재사용하므로 시스템 밖으로 보관해서는 안 됩니다.
+ */
+public final class TickBudget {
+
+    private final long budgetNanos;
+    private long deadlineNanos;
+    // 이번 실행에서 처리한 엔티티 수 (프로파일러 보고용)
+    private int processed;
+
+    public TickBudget(long budgetMicros) {
+        this.budgetNanos = budgetMicros * 1000L;
+    }
+
+    /**
+     * 예산 측정을 시작합니다. 스케줄러가 시스템 실행 직전에 호출합니다.
+     */
+    void start() {
+        processed = 0;
+        if (budgetNanos > 0) {
+            deadlineNanos = java.lang.System.nanoTime() + budgetNanos;
+        }
+    }
+
+    public boolean isUnlimited() {
+        return budgetNanos <= 0;
+    }
+
+    /**
+     * 이번 실행의 예산을 모두 사용했는지 확인합니다.
+     */
+    public boolean isExhausted() {
+        return budgetNanos > 0 && java.lang.System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public long getBudgetMicros() {
+        return budgetNanos / 1000L;
+    }
+
+    /**
+     * 처리한 엔티티 수를 기록합니다. SystemProfiler가 시스템별 처리량으로 집계합니다.
+     */
+    public void addProcessed(int count) {
+        processed += count;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+}
@@ -1,12 +1,14 @@
 package com.antigravity.rpg.core.ecs.component;
 
+import com.antigravity.rpg.core.ecs.Component;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Lua 스크립트 등에서 정의하는 커스텀 자원(예: 콤보 포인트, 영혼 조각 등)을 관리하는 컴포넌트입니다.
  */
-public class CustomResourceComponent {
+public class CustomResourceComponent implements Component {
     private final Map<String, Double> resources = new ConcurrentHashMap<>();
     private final Map<String, Double> maxResources = new ConcurrentHashMap<>();
 
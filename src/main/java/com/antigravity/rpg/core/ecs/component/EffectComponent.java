@@ -1,5 +1,7 @@
 package com.antigravity.rpg.core.ecs.component;
 
+import com.antigravity.rpg.core.ecs.Component;
+
 import java.util.ArrayList;
 
 import java.util.List;
@@ -7,8 +9,11 @@ import java.util.List;
 /**
  * 엔티티에 적용된 효과(버프/디버프)를 관리하는 컴포넌트입니다.
  * EffectSystem에 의해 주기적으로 시간이 차감되고 만료됩니다.
+ * <p>
+ * EffectSystem은 워커 스레드에서 효과 목록을 순회하므로, ECS 시스템 밖(이벤트, 스킬 등)에서 효과를 추가할 때는
+ * {@link com.antigravity.rpg.core.ecs.EntityRegistry#enqueue(Runnable)}로 감싸 다음 flush 시점에 적용해야 합니다.
  */
-public class EffectComponent {
+public class EffectComponent implements Component {
 
     public static class ActiveEffect {
         public String effectId;
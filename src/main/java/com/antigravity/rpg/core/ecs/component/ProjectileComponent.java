@@ -24,6 +24,8 @@ public class ProjectileComponent implements Component {
     private final List<Map<String, Object>> onHitMechanics;
 
     private int lifeTicksRemaining = 200; // 최대 10초
+    // 충돌/수명 종료로 제거 예약됨 (제거는 명령 버퍼가 비워질 때 반영되므로 같은 틱의 보충 스텝에서 다시 처리하지 않도록 표시)
+    private boolean dead;
     private final SkillCastContext context;
 
     private final double hitboxSize;
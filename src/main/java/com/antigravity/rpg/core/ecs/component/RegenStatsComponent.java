@@ -0,0 +1,62 @@
+package com.antigravity.rpg.core.ecs.component;
+
+import com.antigravity.rpg.core.ecs.Component;
+import com.antigravity.rpg.feature.player.PlayerData;
+import lombok.Getter;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Player;
+
+/**
+ * 자원 회복에 필요한 스탯을 미리 계산해 두는 스냅샷 컴포넌트입니다.
+ * <p>
+ * HealthRegenSystem은 매 틱 문자열 키로 스탯을 조회하는 대신 이 스냅샷의 필드를 읽고,
+ * StatCalculator의 스탯 버전이 바뀐 경우에만 {@link #refresh(long)}로 다시 계산합니다.
+ */
+@Getter
+public class RegenStatsComponent implements Component {
+
+    private final PlayerData data;
+
+    // 스냅샷을 계산한 시점의 스탯 버전 (-1이면 아직 계산 전)
+    private long statVersion = -1L;
+    private double maxMana;
+    private double manaRegen;
+    private double maxStamina;
+    private double staminaRegen;
+    private double healthRegen;
+
+    // 접속 세션 동안 유지되는 Bukkit 객체 (null이면 체력 회복 생략)
+    private final Player player;
+    // 최대 체력 속성 인스턴스 (메인 스레드에서 처음 사용할 때 조회)
+    private AttributeInstance maxHealthAttribute;
+
+    public RegenStatsComponent(PlayerData data, Player player) {
+        this.data = data;
+        this.player = player;
+    }
+
+    /**
+     * 회복 관련 스탯을 다시 계산합니다.
+     *
+     * @param version 현재 스탯 버전
+     */
+    public void refresh(long version) {
+        this.maxMana = data.getStat("MAX_MANA", 100.0);
+        this.manaRegen = data.getStat("MANA_REGEN", 5.0);
+        this.maxStamina = data.getStat("MAX_STAMINA", 100.0);
+        this.staminaRegen = data.getStat("STAMINA_REGEN", 10.0);
+        this.healthRegen = data.getStat("HEALTH_REGEN", 1.0);
+        this.statVersion = version;
+    }
+
+    /**
+     * 최대 체력 속성 인스턴스를 반환합니다. 메인 스레드에서만 호출해야 합니다.
+     */
+    public AttributeInstance resolveMaxHealthAttribute() {
+        if (maxHealthAttribute == null && player != null) {
+            maxHealthAttribute = player.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+        }
+        return maxHealthAttribute;
+    }
+}
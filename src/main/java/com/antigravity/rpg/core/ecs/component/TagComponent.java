@@ -1,5 +1,7 @@
 package com.antigravity.rpg.core.ecs.component;
 
+import com.antigravity.rpg.core.ecs.Component;
+
 import java.util.HashSet;
 import java.util.Set;
 
@@ -7,7 +9,7 @@ import java.util.Set;
  * 엔티티의 태그 정보를 저장하는 컴포넌트입니다.
  * 태그는 상성, 타겟팅, 조건문 등 다양한 로직에서 활용됩니다.
  */
-public class TagComponent {
+public class TagComponent implements Component {
 
     private final Set<String> tags = new HashSet<>();
 
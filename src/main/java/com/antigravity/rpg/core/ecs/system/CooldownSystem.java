@@ -24,4 +24,10 @@ public class CooldownSystem implements System {
     public boolean isAsync() {
         return true; // 별도의 Bukkit API 호출이 없다면 비동기 가능
     }
+
+    @Override
+    public int getTickInterval() {
+        // 현재 타임스탬프 기반이므로 매 틱 실행할 필요가 없음
+        return 20;
+    }
 }
@@ -1,67 +1,78 @@
 package com.antigravity.rpg.core.ecs.system;
 
+import com.antigravity.rpg.core.ecs.Component;
+import com.antigravity.rpg.core.ecs.EntityRegistry;
+import com.antigravity.rpg.core.ecs.IntObjConsumer;
 import com.antigravity.rpg.core.ecs.System;
+import com.antigravity.rpg.core.ecs.TickBudget;
 import com.antigravity.rpg.core.ecs.component.EffectComponent;
-import com.antigravity.rpg.feature.player.PlayerProfileService;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
 
-import java.util.Iterator;
-import java.util.UUID;
+import java.util.List;
+import java.util.Set;
 
 /**
  * 주기적으로 실행되어 EffectComponent 내의 효과 지속시간을 감소시키고
  * 만료된 효과를 제거하는 ECS 시스템입니다.
+ * 플레이어는 PlayerEntityBridge를 통해 엔티티로 등록되므로 EffectComponent 풀만 순회합니다.
+ * <p>
+ * Bukkit API를 사용하지 않고 컴포넌트 데이터만 다루므로 워커 스레드에서 실행됩니다.
+ * 같은 컴포넌트를 쓰는 PeriodicDamageSystem(메인 스레드)과는 스케줄러의 의존성 간선으로 순서가 보장됩니다.
  */
 @Singleton
 public class EffectSystem implements System {
 
-    private final PlayerProfileService playerProfileService;
+    private final EntityRegistry entityRegistry;
+    private final IntObjConsumer<EffectComponent> updater = this::update;
+    private double stepDelta;
+    private int processed;
 
     @Inject
-    public EffectSystem(PlayerProfileService playerProfileService) {
-        this.playerProfileService = playerProfileService;
+    public EffectSystem(EntityRegistry entityRegistry) {
+        this.entityRegistry = entityRegistry;
     }
 
     @Override
     public boolean isAsync() {
-        return false;
+        return true;
     }
 
     @Override
-    public void tick(double deltaTime) {
-        // 모든 온라인 플레이어의 EffectComponent를 순회 (EntityRegistry 구조에 따라 조정 필요)
-        // 현재는 PlayerProfileService를 통해 접근한다고 가정
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            processPlayerEffects(player.getUniqueId(), deltaTime);
-        }
+    public boolean isFixedStep() {
+        return true;
     }
 
-    private void processPlayerEffects(UUID playerId, double deltaTime) {
-        // PlayerData에서 Component 가져오기
-        var future = playerProfileService.find(playerId);
-        // 온라인 플레이어이므로 데이터가 캐시에 있어야 함
-        var playerData = future.getNow(null);
+    @Override
+    public Set<Class<? extends Component>> getWriteComponents() {
+        return Set.of(EffectComponent.class);
+    }
 
-        if (playerData == null) {
-            return;
-        }
+    @Override
+    public void tick(double deltaTime) {
+        stepDelta = deltaTime;
+        entityRegistry.forEach(EffectComponent.class, updater);
+    }
 
-        EffectComponent effectComponent = playerData.getComponent(EffectComponent.class);
-        if (effectComponent == null)
-            return;
+    @Override
+    public void tick(double deltaTime, TickBudget budget) {
+        processed = 0;
+        tick(deltaTime);
+        budget.addProcessed(processed);
+    }
 
-        Iterator<EffectComponent.ActiveEffect> iterator = effectComponent.getActiveEffects().iterator();
-        while (iterator.hasNext()) {
-            EffectComponent.ActiveEffect effect = iterator.next();
-            effect.duration -= deltaTime;
+    private void update(int entityId, EffectComponent effectComponent) {
+        processed++;
+        List<EffectComponent.ActiveEffect> effects = effectComponent.getActiveEffects();
+        // 역순 인덱스 순회로 Iterator 할당 없이 만료 효과 제거
+        for (int i = effects.size() - 1; i >= 0; i--) {
+            EffectComponent.ActiveEffect effect = effects.get(i);
+            effect.duration -= stepDelta;
 
             // 만료 처리
             if (effect.duration <= 0) {
                 // 효과 종료 시 로직 (예: 스탯 보너스 제거 등)이 필요하면 여기서 처리
-                iterator.remove();
+                effects.remove(i);
             }
         }
     }
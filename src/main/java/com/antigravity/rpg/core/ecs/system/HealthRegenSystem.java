@@ -1,80 +1,106 @@
 package com.antigravity.rpg.core.ecs.system;
 
+import com.antigravity.rpg.core.ecs.Component;
+import com.antigravity.rpg.core.ecs.EntityRegistry;
+import com.antigravity.rpg.core.ecs.IntObjConsumer;
 import com.antigravity.rpg.core.ecs.System;
+import com.antigravity.rpg.core.ecs.TickBudget;
+import com.antigravity.rpg.core.ecs.component.RegenStatsComponent;
+import com.antigravity.rpg.core.engine.StatCalculator;
 import com.antigravity.rpg.feature.player.PlayerData;
-import com.antigravity.rpg.feature.player.PlayerProfileService;
-import com.antigravity.rpg.core.engine.StatRegistry;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import org.bukkit.Bukkit;
+import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.Player;
 
+import java.util.Set;
+
 /**
  * 플레이어의 체력, 마나, 스태미나 등 리소스를 주기적으로 회복시키는 시스템입니다.
  * 전투 상태 여부에 따라 회복량을 다르게 적용합니다.
+ * <p>
+ * RegenStatsComponent 풀을 한 번에 순회하며, 회복 스탯은 스탯 버전이 바뀐 플레이어만 다시 계산합니다.
+ * 순회 중에는 객체를 할당하지 않습니다.
  */
 @Singleton
 public class HealthRegenSystem implements System {
 
-    private final PlayerProfileService playerProfileService;
-    private final StatRegistry statRegistry;
+    // 최근 5초 내 피격/공격 시 전투 중으로 간주
+    private static final long COMBAT_WINDOW_MILLIS = 5000L;
+
+    private final EntityRegistry entityRegistry;
+    private final StatCalculator statCalculator;
+    private final IntObjConsumer<RegenStatsComponent> updater = this::updateRegen;
+
+    // 한 번의 순회 동안 공유하는 값
+    private double stepDelta;
+    private long now;
+    private int processed;
 
     @Inject
-    public HealthRegenSystem(PlayerProfileService playerProfileService, StatRegistry statRegistry) {
-        this.playerProfileService = playerProfileService;
-        this.statRegistry = statRegistry;
+    public HealthRegenSystem(EntityRegistry entityRegistry, StatCalculator statCalculator) {
+        this.entityRegistry = entityRegistry;
+        this.statCalculator = statCalculator;
     }
 
     @Override
     public void tick(double deltaTime) {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            playerProfileService.find(player.getUniqueId()).thenAccept(data -> {
-                if (data != null && data.isLoaded()) {
-                    updatePlayerRegen(player, data, deltaTime);
-                }
-            });
-        }
+        stepDelta = deltaTime;
+        now = java.lang.System.currentTimeMillis();
+        entityRegistry.forEach(RegenStatsComponent.class, updater);
     }
 
-    private void updatePlayerRegen(Player player, PlayerData data, double deltaTime) {
-        // 전투 상태 확인: 최근 5초 내 피격/공격 여부 체크
-        long lastCombatTime = data.getLastCombatTime();
-        long now = java.lang.System.currentTimeMillis();
-        boolean isCombat = (now - lastCombatTime) < 5000; // 5초 이내 전투 = 전투 중
+    @Override
+    public void tick(double deltaTime, TickBudget budget) {
+        processed = 0;
+        tick(deltaTime);
+        budget.addProcessed(processed);
+    }
+
+    private void updateRegen(int entityId, RegenStatsComponent regen) {
+        PlayerData data = regen.getData();
+        if (!data.isLoaded())
+            return;
+        processed++;
+
+        // 스탯이 무효화된 경우에만 스냅샷 갱신
+        long version = statCalculator.getStatVersion(data.getUuid());
+        if (version != regen.getStatVersion()) {
+            regen.refresh(version);
+        }
 
-        // 마나 회복
-        double maxMana = data.getStat("MAX_MANA", 100.0);
-        double manaRegenBase = data.getStat("MANA_REGEN", 5.0);
-        // 전투 중일 경우 50% 효율
-        double manaRegen = isCombat ? manaRegenBase * 0.5 : manaRegenBase;
+        // 전투 상태 확인: 최근 5초 내 피격/공격 여부 체크
+        boolean isCombat = (now - data.getLastCombatTime()) < COMBAT_WINDOW_MILLIS;
 
+        // 마나 회복 (전투 중일 경우 50% 효율)
+        double maxMana = regen.getMaxMana();
         double currentMana = data.getMana();
         if (currentMana < maxMana) {
-            double newValue = Math.min(maxMana, currentMana + (manaRegen * deltaTime));
-            data.setMana(newValue);
+            double manaRegen = isCombat ? regen.getManaRegen() * 0.5 : regen.getManaRegen();
+            data.setMana(Math.min(maxMana, currentMana + (manaRegen * stepDelta)));
         }
 
-        // 스태미나 회복
-        double maxStamina = data.getStat("MAX_STAMINA", 100.0);
-        double staminaRegenBase = data.getStat("STAMINA_REGEN", 10.0);
-        // 전투 중에는 스태미나 회복 20%
-        double staminaRegen = isCombat ? staminaRegenBase * 0.2 : staminaRegenBase;
-
+        // 스태미나 회복 (전투 중에는 20%)
+        double maxStamina = regen.getMaxStamina();
         double currentStamina = data.getStamina();
         if (currentStamina < maxStamina) {
-            double newValue = Math.min(maxStamina, currentStamina + (staminaRegen * deltaTime));
-            data.setStamina(newValue);
+            double staminaRegen = isCombat ? regen.getStaminaRegen() * 0.2 : regen.getStaminaRegen();
+            data.setStamina(Math.min(maxStamina, currentStamina + (staminaRegen * stepDelta)));
         }
 
-        // 체력 회복
-        double healthRegenBase = data.getStat("HEALTH_REGEN", 1.0);
-        // 전투 중에는 체력 자연 회복 없음
-        double healthRegen = isCombat ? 0.0 : healthRegenBase;
+        // 체력 회복 (전투 중에는 자연 회복 없음)
+        double healthRegen = isCombat ? 0.0 : regen.getHealthRegen();
+        Player player = regen.getPlayer();
+        if (healthRegen <= 0 || player == null)
+            return;
 
-        double maxHealth = player.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue();
-        if (player.getHealth() < maxHealth && healthRegen > 0) {
-            double newHealth = Math.min(maxHealth, player.getHealth() + (healthRegen * deltaTime));
-            player.setHealth(newHealth);
+        AttributeInstance maxHealthAttribute = regen.resolveMaxHealthAttribute();
+        if (maxHealthAttribute == null)
+            return;
+        double maxHealth = maxHealthAttribute.getValue();
+        double health = player.getHealth();
+        if (health < maxHealth && health > 0) {
+            player.setHealth(Math.min(maxHealth, health + (healthRegen * stepDelta)));
         }
     }
 
@@ -82,4 +108,14 @@ public class HealthRegenSystem implements System {
     public boolean isAsync() {
         return false;
     }
+
+    @Override
+    public boolean isFixedStep() {
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends Component>> getWriteComponents() {
+        return Set.of(RegenStatsComponent.class);
+    }
 }
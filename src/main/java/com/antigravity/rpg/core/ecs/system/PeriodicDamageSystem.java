@@ -1,75 +1,103 @@
 package com.antigravity.rpg.core.ecs.system;
 
+import com.antigravity.rpg.core.ecs.Component;
+import com.antigravity.rpg.core.ecs.EntityRegistry;
+import com.antigravity.rpg.core.ecs.IntObjConsumer;
 import com.antigravity.rpg.core.ecs.System;
+import com.antigravity.rpg.core.ecs.TickBudget;
 import com.antigravity.rpg.core.ecs.component.EffectComponent;
 import com.antigravity.rpg.core.engine.DamageContext;
 import com.antigravity.rpg.core.engine.DamageProcessor;
-import com.antigravity.rpg.feature.player.PlayerProfileService;
+import com.antigravity.rpg.core.engine.DamageTag;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
+import org.bukkit.entity.LivingEntity;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * 지속 피해(DoT) 효과를 처리하는 시스템입니다.
  * 주기적으로 Trigger되어 DamageProcessor를 호출합니다.
+ * EffectComponent 풀을 순회하며, Bukkit 엔티티는 실제로 피해가 발동할 때만 조회합니다.
  */
 @Singleton
 public class PeriodicDamageSystem implements System {
 
-    private final PlayerProfileService playerProfileService;
+    private final EntityRegistry entityRegistry;
     private final DamageProcessor damageProcessor;
+    private final IntObjConsumer<EffectComponent> processor = this::processPeriodicDamage;
+    private double stepDelta;
+    private int processed;
 
     @Inject
-    public PeriodicDamageSystem(PlayerProfileService playerProfileService, DamageProcessor damageProcessor) {
-        this.playerProfileService = playerProfileService;
+    public PeriodicDamageSystem(EntityRegistry entityRegistry, DamageProcessor damageProcessor) {
+        this.entityRegistry = entityRegistry;
         this.damageProcessor = damageProcessor;
     }
 
     @Override
     public void tick(double deltaTime) {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            processPeriodicDamage(player, deltaTime);
-        }
+        stepDelta = deltaTime;
+        entityRegistry.forEach(EffectComponent.class, processor);
     }
 
-    private void processPeriodicDamage(Player player, double deltaTime) {
-        UUID playerId = player.getUniqueId();
-        EffectComponent effectComponent = playerProfileService.getComponent(playerId, EffectComponent.class);
-        if (effectComponent == null)
-            return;
+    @Override
+    public void tick(double deltaTime, TickBudget budget) {
+        processed = 0;
+        tick(deltaTime);
+        budget.addProcessed(processed);
+    }
 
-        for (EffectComponent.ActiveEffect effect : effectComponent.getActiveEffects()) {
+    private void processPeriodicDamage(int entityId, EffectComponent effectComponent) {
+        processed++;
+        List<EffectComponent.ActiveEffect> effects = effectComponent.getActiveEffects();
+        for (int i = 0; i < effects.size(); i++) {
+            EffectComponent.ActiveEffect effect = effects.get(i);
             if (!effect.isPeriodic)
                 continue;
 
-            effect.timeSinceLastTick += deltaTime;
+            effect.timeSinceLastTick += stepDelta;
             if (effect.timeSinceLastTick >= effect.period) {
                 effect.timeSinceLastTick -= effect.period;
-                applyPeriodicDamage(player, effect);
+                Entity victim = resolveEntity(entityId);
+                if (victim != null) {
+                    applyPeriodicDamage(victim, effect);
+                }
             }
         }
     }
 
+    private Entity resolveEntity(int entityId) {
+        UUID uuid = entityRegistry.getUuid(entityId);
+        return uuid != null ? Bukkit.getEntity(uuid) : null;
+    }
+
     private void applyPeriodicDamage(Entity victim, EffectComponent.ActiveEffect effect) {
         // DoT 데미지 계산 (이펙트 레벨에 비례 등 단순화된 로직)
         double damageAmount = effect.level * 10.0;
 
-        // DamageContext 생성 (공격자는 null 또는 시스템으로 간주)
-        DamageContext context = new DamageContext(null, victim, damageAmount);
-
-        // DamageProcessor 호출
-        damageProcessor.process(context);
+        // DamageContext를 풀에서 빌림 (공격자는 null 또는 시스템으로 간주)
+        DamageContext context = damageProcessor.acquire(null, victim, null, null, damageAmount);
+        context.addTag(DamageTag.DOT);
+        double finalDamage;
+        try {
+            // DamageProcessor 호출
+            damageProcessor.process(context);
+            finalDamage = context.getFinalDamage();
+        } finally {
+            damageProcessor.release(context);
+        }
 
         // 실제 마인크래프트 엔티티에 데미지 적용
         // 주의: DamageProcessor 내에서 적용할지, 여기서 할지 결정 필요.
         // 보통은 Processor가 최종 void를 반환하지 않고 값을 반환하거나, Processor가 직접 이벤트를 발생시키기도 함.
         // 여기서는 직접 damage 메소드 호출
-        if (victim instanceof Player) {
-            ((Player) victim).damage(context.getFinalDamage());
+        if (victim instanceof LivingEntity) {
+            ((LivingEntity) victim).damage(finalDamage);
         }
     }
 
@@ -77,4 +105,14 @@ public class PeriodicDamageSystem implements System {
     public boolean isAsync() {
         return false;
     }
+
+    @Override
+    public boolean isFixedStep() {
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends Component>> getWriteComponents() {
+        return Set.of(EffectComponent.class);
+    }
 }
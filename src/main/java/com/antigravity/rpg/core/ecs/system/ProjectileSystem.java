@@ -1,7 +1,10 @@
 package com.antigravity.rpg.core.ecs.system;
 
+import com.antigravity.rpg.core.ecs.Component;
 import com.antigravity.rpg.core.ecs.EntityRegistry;
+import com.antigravity.rpg.core.ecs.IntObjConsumer;
 import com.antigravity.rpg.core.ecs.System;
+import com.antigravity.rpg.core.ecs.TickBudget;
 import com.antigravity.rpg.core.ecs.component.ProjectileComponent;
 import com.antigravity.rpg.feature.skill.context.SkillCastContext;
 import com.antigravity.rpg.feature.skill.runtime.ScriptRunner;
@@ -13,8 +16,7 @@ import org.bukkit.entity.LivingEntity;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 
 /**
  * ECS 기반 투사체의 이동 및 충돌을 처리하는 시스템입니다.
@@ -26,6 +28,10 @@ public class ProjectileSystem implements System {
     private final EntityRegistry entityRegistry;
     private final ScriptRunner scriptRunner;
 
+    private final IntObjConsumer<ProjectileComponent> stepper = this::step;
+    // 이번 실행에서 처리한 투사체 수 (프로파일러 보고용)
+    private int processed;
+
     @Inject
     public ProjectileSystem(EntityRegistry entityRegistry, ScriptRunner scriptRunner) {
         this.entityRegistry = entityRegistry;
@@ -34,49 +40,58 @@ public class ProjectileSystem implements System {
 
     @Override
     public void tick(double deltaTime) {
-        List<UUID> entities = entityRegistry.getEntitiesWithComponent(ProjectileComponent.class);
-
-        for (UUID entityId : entities) {
-            entityRegistry.getComponent(entityId, ProjectileComponent.class).ifPresent(proj -> {
-                // 1. 수명 다함 체크
-                if (proj.getLifeTicksRemaining() <= 0) {
-                    entityRegistry.removeEntity(entityId);
-                    return;
-                }
-                proj.setLifeTicksRemaining(proj.getLifeTicksRemaining() - 1);
-
-                // 2. 이동
-                Location oldLoc = proj.getCurrentLocation();
-                Location newLoc = oldLoc.clone().add(proj.getVelocity());
-                proj.setCurrentLocation(newLoc);
-
-                // 3. On-Tick 메카닉 실행
-                if (proj.getOnTickMechanics() != null) {
-                    SkillCastContext tickCtx = proj.getContext().copy();
-                    tickCtx.setOriginLocation(newLoc);
-                    scriptRunner.runSubScriptMap(proj.getOnTickMechanics(), tickCtx);
-                }
-
-                // 4. 충돌 체크 (블록 또는 엔티티)
-                if (newLoc.getBlock().getType().isSolid()) {
-                    triggerHit(entityId, proj, null, newLoc);
-                    return;
-                }
-
-                Collection<Entity> nearby = newLoc.getWorld().getNearbyEntities(newLoc, proj.getHitboxSize(),
-                        proj.getHitboxSize(), proj.getHitboxSize());
-                for (Entity hit : nearby) {
-                    if (hit instanceof LivingEntity
-                            && (!proj.isIgnoreCaster() || !hit.equals(proj.getContext().getCasterEntity()))) {
-                        triggerHit(entityId, proj, hit, newLoc);
-                        return;
-                    }
-                }
-            });
+        entityRegistry.forEach(ProjectileComponent.class, stepper);
+    }
+
+    @Override
+    public void tick(double deltaTime, TickBudget budget) {
+        processed = 0;
+        tick(deltaTime);
+        budget.addProcessed(processed);
+    }
+
+    private void step(int entityId, ProjectileComponent proj) {
+        // 이미 제거 예약된 투사체 (보충 스텝 사이에는 명령 버퍼가 비워지지 않음)
+        if (proj.isDead())
+            return;
+        processed++;
+        // 1. 수명 다함 체크
+        if (proj.getLifeTicksRemaining() <= 0) {
+            remove(entityId, proj);
+            return;
+        }
+        proj.setLifeTicksRemaining(proj.getLifeTicksRemaining() - 1);
+
+        // 2. 이동
+        Location oldLoc = proj.getCurrentLocation();
+        Location newLoc = oldLoc.clone().add(proj.getVelocity());
+        proj.setCurrentLocation(newLoc);
+
+        // 3. On-Tick 메카닉 실행
+        if (proj.getOnTickMechanics() != null) {
+            SkillCastContext tickCtx = proj.getContext().copy();
+            tickCtx.setOriginLocation(newLoc);
+            scriptRunner.runSubScriptMap(proj.getOnTickMechanics(), tickCtx);
+        }
+
+        // 4. 충돌 체크 (블록 또는 엔티티)
+        if (newLoc.getBlock().getType().isSolid()) {
+            triggerHit(entityId, proj, null, newLoc);
+            return;
+        }
+
+        Collection<Entity> nearby = newLoc.getWorld().getNearbyEntities(newLoc, proj.getHitboxSize(),
+                proj.getHitboxSize(), proj.getHitboxSize());
+        for (Entity hit : nearby) {
+            if (hit instanceof LivingEntity
+                    && (!proj.isIgnoreCaster() || !hit.equals(proj.getContext().getCasterEntity()))) {
+                triggerHit(entityId, proj, hit, newLoc);
+                return;
+            }
         }
     }
 
-    private void triggerHit(UUID entityId, ProjectileComponent proj, Entity hitEntity, Location hitLoc) {
+    private void triggerHit(int entityId, ProjectileComponent proj, Entity hitEntity, Location hitLoc) {
         if (proj.getOnHitMechanics() != null) {
             SkillCastContext hitCtx = proj.getContext().copy();
             if (hitEntity != null) {
@@ -89,6 +104,11 @@ public class ProjectileSystem implements System {
             // ScriptRunner에게 위임
             scriptRunner.runSubScriptMap(proj.getOnHitMechanics(), hitCtx);
         }
+        remove(entityId, proj);
+    }
+
+    private void remove(int entityId, ProjectileComponent proj) {
+        proj.setDead(true);
         entityRegistry.removeEntity(entityId);
     }
 
@@ -96,4 +116,14 @@ public class ProjectileSystem implements System {
     public boolean isAsync() {
         return false;
     }
+
+    @Override
+    public boolean isFixedStep() {
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends Component>> getWriteComponents() {
+        return Set.of(ProjectileComponent.class);
+    }
 }
@@ -1,7 +1,10 @@
 package com.antigravity.rpg.core.ecs.system;
 
+import com.antigravity.rpg.core.ecs.Component;
 import com.antigravity.rpg.core.ecs.EntityRegistry;
+import com.antigravity.rpg.core.ecs.IntObjConsumer;
 import com.antigravity.rpg.core.ecs.System;
+import com.antigravity.rpg.core.ecs.TickBudget;
 import com.antigravity.rpg.core.ecs.component.ScriptComponent;
 import com.antigravity.rpg.feature.skill.SkillDefinition;
 import com.antigravity.rpg.feature.skill.condition.ConditionFactory;
@@ -19,13 +22,18 @@ import com.google.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import org.bukkit.entity.Entity;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 
 /**
  * 스킬 스크립트 실행을 담당하는 ECS 시스템입니다.
  * Targeting, Condition, Timeline(Delay) 단계를 포함한 전체 파이프라인을 처리합니다.
+ * <p>
+ * 한 번의 패스는 시작 시점의 스크립트 엔티티 목록을 스냅샷으로 잡고 순서대로 처리하며,
+ * 시간 예산을 넘기면 남은 엔티티는 다음 틱에 이어서 처리합니다.
+ * 지연(Delay) 시간은 패스가 여러 틱에 걸치더라도 매 틱 모든 스크립트에서 한 번씩 감소합니다.
  */
 @Singleton
 @Slf4j
@@ -37,6 +45,14 @@ public class ScriptExecutionSystem implements System {
     private final ConditionFactory conditionFactory;
     private final EffectFactory effectFactory;
 
+    // 현재 패스의 엔티티 ID 스냅샷과 처리 위치 (예산 초과 시 다음 틱에 이어서 처리)
+    private int[] passEntities = new int[256];
+    private int passSize;
+    private int passCursor;
+
+    private final IntObjConsumer<ScriptComponent> collector = this::collect;
+    private final IntObjConsumer<ScriptComponent> delayCounter = this::countDown;
+
     @Inject
     public ScriptExecutionSystem(EntityRegistry entityRegistry,
             MechanicFactory mechanicFactory,
@@ -52,133 +68,164 @@ public class ScriptExecutionSystem implements System {
 
     @Override
     public void tick(double deltaTime) {
-        List<UUID> entities = entityRegistry.getEntitiesWithComponent(ScriptComponent.class);
-
-        for (UUID entityId : entities) {
-            entityRegistry.getComponent(entityId, ScriptComponent.class).ifPresent(script -> {
-                // 1. 지연 시간 처리
-                if (script.getDelayTicks() > 0) {
-                    script.setDelayTicks(script.getDelayTicks() - 1);
-                    return;
-                }
+        tick(deltaTime, new TickBudget(0L));
+    }
 
-                // 2. 실행 루프
-                while (!script.isFinished() && script.getDelayTicks() <= 0) {
-                    SkillCastContext ctx = script.getContext();
-
-                    // [NEW] FlowStep 처리
-                    FlowStep step = script.getCurrentFlowStep();
-                    if (step != null) {
-                        try {
-                            // 1. Pre-Conditions 검사 (Caster/Global)
-                            if (step.getConditionConfigs() != null
-                                    && !evaluateConditions(ctx, step.getConditionConfigs(), false)) {
-                                script.next();
-                                continue;
-                            }
+    @Override
+    public void tick(double deltaTime, TickBudget budget) {
+        // 지연 시간은 패스 진행과 무관하게 매 틱 모든 스크립트에서 1씩 감소 (예산은 실행에만 적용)
+        entityRegistry.forEach(ScriptComponent.class, delayCounter);
 
-                            // 2. Targeting 업데이트
-                            if (step.getTargeterConfig() != null) {
-                                Targeter targeter = targeterFactory.create(step.getTargeterConfig());
-                                if (targeter != null) {
-                                    ctx.setTargets(targeter.getTargetEntities(ctx));
-                                }
-                            }
+        // 이전 패스를 모두 처리했다면 새 패스 시작
+        if (passCursor >= passSize) {
+            passSize = 0;
+            passCursor = 0;
+            entityRegistry.forEach(ScriptComponent.class, collector);
+        }
 
-                            // 3. Post-Conditions 검사 (Target Filter)
-                            if (step.getConditionConfigs() != null && !ctx.getTargets().isEmpty()) {
-                                filterTargets(ctx, step.getConditionConfigs());
-                            }
+        while (passCursor < passSize) {
+            int entityId = passEntities[passCursor++];
+            // 패스 도중 제거된 엔티티는 세대 태그 검사로 null이 반환됨
+            ScriptComponent script = entityRegistry.getComponent(entityId, ScriptComponent.class);
+            // 지연 중인 스크립트는 실행할 것이 없으므로 예산을 쓰지 않고 건너뜀
+            if (script != null && script.getDelayTicks() <= 0) {
+                execute(entityId, script);
+                budget.addProcessed(1);
+            }
+            if (budget.isExhausted())
+                break;
+        }
+    }
 
-                            // 4. Effects 재생
-                            playEffects(step.getEffectConfigs(), ctx);
-
-                            // 5. Mechanics 실행
-                            if (step.getMechanicConfigs() != null) {
-                                for (SkillDefinition.MechanicConfig mCfg : step.getMechanicConfigs()) {
-                                    Mechanic mechanic = mechanicFactory.create(mCfg.getType());
-                                    if (mechanic != null) {
-                                        mechanic.cast(ctx, mCfg.getConfig());
-                                    }
-                                }
-                            }
+    private void collect(int entityId, ScriptComponent script) {
+        if (passSize == passEntities.length) {
+            passEntities = Arrays.copyOf(passEntities, passEntities.length * 2);
+        }
+        passEntities[passSize++] = entityId;
+    }
 
-                            // 6. Delay 등록
-                            if (step.getDelay() > 0) {
-                                script.setDelayTicks(step.getDelay());
-                                script.next();
-                                break;
-                            }
-                        } catch (Exception e) {
-                            log.error("Error executing Script FlowStep: {}", e.getMessage(), e);
-                        }
+    private void countDown(int entityId, ScriptComponent script) {
+        if (script.getDelayTicks() > 0) {
+            script.setDelayTicks(script.getDelayTicks() - 1);
+        }
+    }
+
+    private void execute(int entityId, ScriptComponent script) {
+        // 1. 실행 루프 (지연 시간은 tick에서 매 틱 감소)
+        while (!script.isFinished() && script.getDelayTicks() <= 0) {
+            SkillCastContext ctx = script.getContext();
 
+            // [NEW] FlowStep 처리
+            FlowStep step = script.getCurrentFlowStep();
+            if (step != null) {
+                try {
+                    // 1. Pre-Conditions 검사 (Caster/Global)
+                    if (step.getConditionConfigs() != null
+                            && !evaluateConditions(ctx, step.getConditionConfigs(), false)) {
                         script.next();
                         continue;
                     }
 
-                    // [Legacy/Direct] MechanicConfig 처리
-                    SkillDefinition.MechanicConfig config = script.getCurrentMechanic();
-                    if (config != null) {
-                        Map<String, Object> cfg = config.getConfig();
-
-                        // 1. Pre-Conditions (Global)
-                        if (cfg.containsKey("conditions")) {
-                            @SuppressWarnings("unchecked")
-                            List<Map<String, Object>> conditions = (List<Map<String, Object>>) cfg.get("conditions");
-                            if (!evaluateConditions(ctx, conditions, false)) {
-                                script.next();
-                                continue;
-                            }
+                    // 2. Targeting 업데이트
+                    if (step.getTargeterConfig() != null) {
+                        Targeter targeter = targeterFactory.create(step.getTargeterConfig());
+                        if (targeter != null) {
+                            ctx.setTargets(targeter.getTargetEntities(ctx));
                         }
+                    }
 
-                        // (DELAY 메카닉 특수 처리)
-                        if ("DELAY".equalsIgnoreCase(config.getType())) {
-                            int ticks = ((Number) cfg.getOrDefault("ticks", 0)).intValue();
-                            script.setDelayTicks(ticks);
-                            script.next();
-                            break;
-                        }
+                    // 3. Post-Conditions 검사 (Target Filter)
+                    if (step.getConditionConfigs() != null && !ctx.getTargets().isEmpty()) {
+                        filterTargets(ctx, step.getConditionConfigs());
+                    }
 
-                        // 2. Targeting
-                        if (cfg.containsKey("target")) {
-                            Object tObj = cfg.get("target");
-                            if (tObj instanceof List && !((List<?>) tObj).isEmpty()) {
-                                tObj = ((List<?>) tObj).get(0);
-                            }
+                    // 4. Effects 재생
+                    playEffects(step.getEffectConfigs(), ctx);
 
-                            if (tObj instanceof Map) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> targetCfg = (Map<String, Object>) tObj;
-                                Targeter targeter = targeterFactory.create(targetCfg);
-                                if (targeter != null) {
-                                    ctx.setTargets(targeter.getTargetEntities(ctx));
-                                }
+                    // 5. Mechanics 실행
+                    if (step.getMechanicConfigs() != null) {
+                        for (SkillDefinition.MechanicConfig mCfg : step.getMechanicConfigs()) {
+                            Mechanic mechanic = mechanicFactory.create(mCfg.getType());
+                            if (mechanic != null) {
+                                mechanic.cast(ctx, mCfg.getConfig());
                             }
                         }
+                    }
 
-                        // 3. Post-Condition (Filter)
-                        if (cfg.containsKey("conditions")) {
-                            @SuppressWarnings("unchecked")
-                            List<Map<String, Object>> conditions = (List<Map<String, Object>>) cfg.get("conditions");
-                            filterTargets(ctx, conditions);
-                        }
+                    // 6. Delay 등록
+                    if (step.getDelay() > 0) {
+                        script.setDelayTicks(step.getDelay());
+                        script.next();
+                        break;
+                    }
+                } catch (Exception e) {
+                    log.error("Error executing Script FlowStep: {}", e.getMessage(), e);
+                }
 
-                        // 4. Mechanic 실행
-                        Mechanic mechanic = mechanicFactory.create(config.getType());
-                        if (mechanic != null) {
-                            mechanic.cast(ctx, cfg);
-                        }
+                script.next();
+                continue;
+            }
+
+            // [Legacy/Direct] MechanicConfig 처리
+            SkillDefinition.MechanicConfig config = script.getCurrentMechanic();
+            if (config != null) {
+                Map<String, Object> cfg = config.getConfig();
 
+                // 1. Pre-Conditions (Global)
+                if (cfg.containsKey("conditions")) {
+                    @SuppressWarnings("unchecked")
+                    List<Map<String, Object>> conditions = (List<Map<String, Object>>) cfg.get("conditions");
+                    if (!evaluateConditions(ctx, conditions, false)) {
                         script.next();
+                        continue;
                     }
                 }
 
-                // 3. 종료 확인
-                if (script.isFinished() && script.getDelayTicks() <= 0) {
-                    entityRegistry.removeEntity(entityId);
+                // (DELAY 메카닉 특수 처리)
+                if ("DELAY".equalsIgnoreCase(config.getType())) {
+                    int ticks = ((Number) cfg.getOrDefault("ticks", 0)).intValue();
+                    script.setDelayTicks(ticks);
+                    script.next();
+                    break;
                 }
-            });
+
+                // 2. Targeting
+                if (cfg.containsKey("target")) {
+                    Object tObj = cfg.get("target");
+                    if (tObj instanceof List && !((List<?>) tObj).isEmpty()) {
+                        tObj = ((List<?>) tObj).get(0);
+                    }
+
+                    if (tObj instanceof Map) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> targetCfg = (Map<String, Object>) tObj;
+                        Targeter targeter = targeterFactory.create(targetCfg);
+                        if (targeter != null) {
+                            ctx.setTargets(targeter.getTargetEntities(ctx));
+                        }
+                    }
+                }
+
+                // 3. Post-Condition (Filter)
+                if (cfg.containsKey("conditions")) {
+                    @SuppressWarnings("unchecked")
+                    List<Map<String, Object>> conditions = (List<Map<String, Object>>) cfg.get("conditions");
+                    filterTargets(ctx, conditions);
+                }
+
+                // 4. Mechanic 실행
+                Mechanic mechanic = mechanicFactory.create(config.getType());
+                if (mechanic != null) {
+                    mechanic.cast(ctx, cfg);
+                }
+
+                script.next();
+            }
+        }
+
+        // 2. 종료 확인
+        if (script.isFinished() && script.getDelayTicks() <= 0) {
+            entityRegistry.removeEntity(entityId);
         }
     }
 
@@ -237,4 +284,15 @@ public class ScriptExecutionSystem implements System {
     public boolean isAsync() {
         return false;
     }
+
+    @Override
+    public long getTickBudgetMicros() {
+        // 50ms 프레임 중 최대 10ms
+        return 10_000L;
+    }
+
+    @Override
+    public Set<Class<? extends Component>> getWriteComponents() {
+        return Set.of(ScriptComponent.class);
+    }
 }
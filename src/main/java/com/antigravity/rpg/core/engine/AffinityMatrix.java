@@ -0,0 +1,155 @@
+package com.antigravity.rpg.core.engine;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * 공격자 태그 x 피해자 태그 속성 상성표입니다. (global/elements.yml)
+ * <p>
+ * 태그는 {@link ElementTags}의 비트 인덱스로 미리 변환되어 64x64 배율 배열에 저장됩니다.
+ * 히트마다 공격자/피해자 마스크의 켜진 비트 중 상성이 정의된 조합만 순회하여 배율을 곱하므로,
+ * 속성 종류가 늘어나도 문자열 집합 비교 없이 비트 연산과 배열 조회만 수행합니다.
+ * <p>
+ * 생성 후 변경되지 않으므로 여러 스레드에서 공유할 수 있습니다. (리로드 시 새 인스턴스로 교체)
+ */
+public final class AffinityMatrix {
+
+    /** 상성이 하나도 없는 표 */
+    public static final AffinityMatrix EMPTY = new Builder().build();
+
+    /** elements.yml이 없을 때 사용하는 기본 상성 (기존 하드코딩 규칙) */
+    public static final AffinityMatrix DEFAULT = new Builder()
+            .set("FIRE_WEAPON", "ICE_TYPE", 2.0)
+            .set("LIGHTNING_DAMAGE", "WET", 1.5)
+            .build();
+
+    private static final int SIZE = ElementTags.MAX_TAGS;
+
+    // [공격자 비트 * 64 + 피해자 비트] -> 배율 (정의되지 않은 조합은 1.0)
+    private final double[] multipliers;
+    // 공격자 비트 -> 상성이 정의된 피해자 비트 마스크
+    private final long[] victimMasks;
+    // 상성이 하나라도 정의된 공격자 비트 마스크
+    private final long attackerMask;
+    private final int entryCount;
+
+    private AffinityMatrix(double[] multipliers, long[] victimMasks, int entryCount) {
+        this.multipliers = multipliers;
+        this.victimMasks = victimMasks;
+        this.entryCount = entryCount;
+        long mask = 0L;
+        for (int bit = 0; bit < SIZE; bit++) {
+            if (victimMasks[bit] != 0L) {
+                mask |= 1L << bit;
+            }
+        }
+        this.attackerMask = mask;
+    }
+
+    /**
+     * elements.yml의 affinities 섹션에서 상성표를 만듭니다.
+     * <pre>
+     * affinities:
+     *   FIRE_WEAPON:     # 공격자 태그
+     *     ICE_TYPE: 2.0  # 피해자 태그: 배율
+     * </pre>
+     *
+     * @param section affinities 섹션 (null이면 빈 표)
+     * @param logger  잘못된 항목 경고용 (null 가능)
+     */
+    public static AffinityMatrix load(ConfigurationSection section, Logger logger) {
+        Builder builder = new Builder();
+        if (section == null)
+            return builder.build();
+
+        for (String attackerTag : section.getKeys(false)) {
+            ConfigurationSection row = section.getConfigurationSection(attackerTag);
+            if (row == null) {
+                warn(logger, "공격자 태그 '" + attackerTag + "'의 상성은 '피해자 태그: 배율' 형식이어야 합니다.");
+                continue;
+            }
+            for (String victimTag : row.getKeys(false)) {
+                if (!row.isDouble(victimTag) && !row.isInt(victimTag)) {
+                    warn(logger, attackerTag + " -> " + victimTag + " 배율이 숫자가 아닙니다.");
+                    continue;
+                }
+                if (!builder.trySet(attackerTag, victimTag, row.getDouble(victimTag))) {
+                    warn(logger, "속성 태그가 " + ElementTags.MAX_TAGS + "개를 초과하여 " + attackerTag + " -> "
+                            + victimTag + " 상성을 무시합니다.");
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 공격자/피해자 태그 마스크에 해당하는 모든 상성 배율의 곱을 반환합니다. (상성이 없으면 1.0)
+     */
+    public double multiplier(long attackerTags, long victimTags) {
+        long attackers = attackerTags & attackerMask;
+        if (attackers == 0L || victimTags == 0L)
+            return 1.0;
+
+        double multiplier = 1.0;
+        do {
+            int attacker = Long.numberOfTrailingZeros(attackers);
+            attackers &= attackers - 1;
+
+            long victims = victimTags & victimMasks[attacker];
+            int row = attacker * SIZE;
+            while (victims != 0L) {
+                multiplier *= multipliers[row + Long.numberOfTrailingZeros(victims)];
+                victims &= victims - 1;
+            }
+        } while (attackers != 0L);
+        return multiplier;
+    }
+
+    /**
+     * 정의된 상성 조합 수
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    private static void warn(Logger logger, String message) {
+        if (logger != null) {
+            logger.warning("[Elements] " + message);
+        }
+    }
+
+    private static final class Builder {
+        private final double[] multipliers = new double[SIZE * SIZE];
+        private final long[] victimMasks = new long[SIZE];
+        private int entryCount;
+
+        Builder() {
+            Arrays.fill(multipliers, 1.0);
+        }
+
+        Builder set(String attackerTag, String victimTag, double multiplier) {
+            trySet(attackerTag, victimTag, multiplier);
+            return this;
+        }
+
+        boolean trySet(String attackerTag, String victimTag, double multiplier) {
+            int attacker = ElementTags.intern(attackerTag);
+            int victim = ElementTags.intern(victimTag);
+            if (attacker < 0 || victim < 0)
+                return false;
+
+            if ((victimMasks[attacker] & (1L << victim)) == 0L) {
+                entryCount++;
+            }
+            multipliers[attacker * SIZE + victim] = multiplier;
+            victimMasks[attacker] |= 1L << victim;
+            return true;
+        }
+
+        AffinityMatrix build() {
+            return new AffinityMatrix(multipliers.clone(), victimMasks.clone(), entryCount);
+        }
+    }
+}
@@ -2,29 +2,44 @@ package com.antigravity.rpg.core.engine;
 
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * 데미지 계산에 필요한 모든 정보를 담는 컨텍스트입니다.
+ * <p>
+ * 히트마다 새로 만들지 않고 {@link DamageProcessor#acquire}로 빌려 쓴 뒤 {@link DamageProcessor#release}로 반납합니다.
+ * 데미지 태그({@link DamageTag})와 속성 태그는 비트마스크로 저장되므로, 문자열 태그를 쓰지 않는 한 히트당 집합을 할당하지 않습니다.
+ * 반납된 컨텍스트는 다른 히트에 재사용되므로 처리가 끝난 뒤에는 참조를 보관하면 안 됩니다.
  */
 public class DamageContext {
 
-    private final Entity attacker;
-    private final Entity victim;
-    private final EntityStatData attackerStats;
-    private final EntityStatData victimStats;
+    private Entity attacker;
+    private Entity victim;
+    // 스탯 원본에 대한 읽기 전용 뷰 (복사본 아님)
+    private StatView attackerStats;
+    private StatView victimStats;
 
     private double initialDamage;
     private double finalDamage;
     private boolean isCritical;
 
-    private Set<String> tags = new HashSet<>();
-    private Set<String> attackerTags = new HashSet<>();
-    private Set<String> victimTags = new HashSet<>();
+    // DamageTag 비트마스크 (1 << ordinal)
+    private long damageTags;
+    // DamageTag가 아닌 문자열 태그 (사용할 때만 생성)
+    private Set<String> customTags;
+    // 속성 상성용 공격자/피해자 태그 (마스크는 ElementTags 비트, 태그 변경 시 함께 갱신, 집합은 사용할 때만 생성)
+    private Set<String> attackerTags;
+    private Set<String> victimTags;
+    private long attackerTagMask;
+    private long victimTagMask;
+
+    // 풀에 반납된 상태인지 (중복 반납 방지)
+    boolean pooled;
 
     // 기존 CombatService 호환 생성자
-    public DamageContext(Entity attacker, Entity victim, EntityStatData attackerStats, EntityStatData victimStats,
+    public DamageContext(Entity attacker, Entity victim, StatView attackerStats, StatView victimStats,
             double initialDamage) {
         this.attacker = attacker;
         this.victim = victim;
@@ -38,6 +53,30 @@ public class DamageContext {
         this(attacker, victim, null, null, initialDamage);
     }
 
+    /**
+     * 재사용을 위해 컨텍스트를 새 히트 정보로 초기화합니다. (이전 히트의 태그, 데미지, 치명타 여부는 모두 지워짐)
+     */
+    public DamageContext reset(Entity attacker, Entity victim, StatView attackerStats, StatView victimStats,
+            double initialDamage) {
+        this.attacker = attacker;
+        this.victim = victim;
+        this.attackerStats = attackerStats;
+        this.victimStats = victimStats;
+        this.initialDamage = initialDamage;
+        this.finalDamage = 0.0;
+        this.isCritical = false;
+        this.damageTags = 0L;
+        this.attackerTagMask = 0L;
+        this.victimTagMask = 0L;
+        if (customTags != null)
+            customTags.clear();
+        if (attackerTags != null)
+            attackerTags.clear();
+        if (victimTags != null)
+            victimTags.clear();
+        return this;
+    }
+
     public Entity getAttacker() {
         return attacker;
     }
@@ -46,11 +85,11 @@ public class DamageContext {
         return victim;
     }
 
-    public EntityStatData getAttackerStats() {
+    public StatView getAttackerStats() {
         return attackerStats;
     }
 
-    public EntityStatData getVictimStats() {
+    public StatView getVictimStats() {
         return victimStats;
     }
 
@@ -75,35 +114,110 @@ public class DamageContext {
     }
 
     // Tag Methods
+    public void addTag(DamageTag tag) {
+        damageTags |= 1L << tag.ordinal();
+    }
+
     public void addTag(String tag) {
-        tags.add(tag);
+        DamageTag damageTag = toDamageTag(tag);
+        if (damageTag != null) {
+            addTag(damageTag);
+            return;
+        }
+        if (customTags == null) {
+            customTags = new HashSet<>();
+        }
+        customTags.add(tag);
     }
 
     public void addTag(Enum<?> tag) {
-        tags.add(tag.name());
+        if (tag instanceof DamageTag damageTag) {
+            addTag(damageTag);
+        } else {
+            addTag(tag.name());
+        }
+    }
+
+    public boolean hasTag(DamageTag tag) {
+        return (damageTags & (1L << tag.ordinal())) != 0L;
     }
 
     public boolean hasTag(String tag) {
-        return tags.contains(tag);
+        DamageTag damageTag = toDamageTag(tag);
+        if (damageTag != null)
+            return hasTag(damageTag);
+        return customTags != null && customTags.contains(tag);
     }
 
+    /**
+     * 모든 태그 이름 (호출할 때마다 새 집합 생성, 판정에는 hasTag 사용)
+     */
     public Set<String> getTags() {
+        Set<String> tags = new HashSet<>();
+        for (DamageTag tag : DamageTag.VALUES) {
+            if (hasTag(tag)) {
+                tags.add(tag.name());
+            }
+        }
+        if (customTags != null) {
+            tags.addAll(customTags);
+        }
         return tags;
     }
 
+    /**
+     * 공격자 태그 (읽기 전용, 변경은 addAttackerTag/setAttackerTags 사용)
+     */
     public Set<String> getAttackerTags() {
-        return attackerTags;
+        return attackerTags != null ? Collections.unmodifiableSet(attackerTags) : Collections.emptySet();
     }
 
     public void setAttackerTags(Set<String> attackerTags) {
-        this.attackerTags = attackerTags;
+        this.attackerTags = attackerTags != null ? new HashSet<>(attackerTags) : null;
+        this.attackerTagMask = ElementTags.maskOf(attackerTags);
+    }
+
+    public void addAttackerTag(String tag) {
+        if (attackerTags == null) {
+            attackerTags = new HashSet<>();
+        }
+        attackerTags.add(tag);
+        attackerTagMask |= ElementTags.maskOf(tag);
     }
 
+    public long getAttackerTagMask() {
+        return attackerTagMask;
+    }
+
+    /**
+     * 피해자 태그 (읽기 전용, 변경은 addVictimTag/setVictimTags 사용)
+     */
     public Set<String> getVictimTags() {
-        return victimTags;
+        return victimTags != null ? Collections.unmodifiableSet(victimTags) : Collections.emptySet();
     }
 
     public void setVictimTags(Set<String> victimTags) {
-        this.victimTags = victimTags;
+        this.victimTags = victimTags != null ? new HashSet<>(victimTags) : null;
+        this.victimTagMask = ElementTags.maskOf(victimTags);
+    }
+
+    public void addVictimTag(String tag) {
+        if (victimTags == null) {
+            victimTags = new HashSet<>();
+        }
+        victimTags.add(tag);
+        victimTagMask |= ElementTags.maskOf(tag);
+    }
+
+    public long getVictimTagMask() {
+        return victimTagMask;
+    }
+
+    private static DamageTag toDamageTag(String tag) {
+        for (DamageTag damageTag : DamageTag.VALUES) {
+            if (damageTag.name().equals(tag))
+                return damageTag;
+        }
+        return null;
     }
 }
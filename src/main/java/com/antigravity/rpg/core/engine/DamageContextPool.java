@@ -0,0 +1,40 @@
+package com.antigravity.rpg.core.engine;
+
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayDeque;
+
+/**
+ * 재사용 가능한 {@link DamageContext} 풀입니다. (스레드별)
+ * <p>
+ * 데미지 처리 중 다른 데미지가 발생할 수 있으므로(예: onHit 훅의 추가 피해 -> 데미지 이벤트) 컨텍스트를 하나만 두지 않고
+ * 스택처럼 여러 개를 빌려줄 수 있습니다. 풀에 보관하는 수는 제한되며, 초과분은 버려져 GC가 회수합니다.
+ */
+final class DamageContextPool {
+
+    private static final int MAX_POOLED = 32;
+
+    private final ThreadLocal<ArrayDeque<DamageContext>> pool = ThreadLocal.withInitial(ArrayDeque::new);
+
+    DamageContext acquire(Entity attacker, Entity victim, StatView attackerStats, StatView victimStats,
+            double initialDamage) {
+        DamageContext context = pool.get().pollFirst();
+        if (context == null) {
+            return new DamageContext(attacker, victim, attackerStats, victimStats, initialDamage);
+        }
+        context.pooled = false;
+        return context.reset(attacker, victim, attackerStats, victimStats, initialDamage);
+    }
+
+    void release(DamageContext context) {
+        if (context == null || context.pooled)
+            return;
+        ArrayDeque<DamageContext> contexts = pool.get();
+        if (contexts.size() >= MAX_POOLED)
+            return;
+        // 엔티티/스탯 참조를 바로 놓아 풀에 있는 동안 엔티티가 GC되지 않는 일이 없도록 함
+        context.reset(null, null, null, null, 0.0);
+        context.pooled = true;
+        contexts.addFirst(context);
+    }
+}
@@ -0,0 +1,20 @@
+package com.antigravity.rpg.core.engine;
+
+/**
+ * 기본 데미지(공격력 + 방어력 감소)를 계산하는 공식입니다.
+ * <p>
+ * {@link DamageProcessor#registerFormula(String, DamageFormula)}로 이름과 함께 등록하고,
+ * config.yml의 combat.damage-formula로 사용할 공식을 선택합니다.
+ * 치명타는 별도 단계(critical)에서 적용되므로 공식에서 처리하지 않습니다. (lua 공식 제외)
+ */
+@FunctionalInterface
+public interface DamageFormula {
+
+    /**
+     * 데미지를 계산합니다.
+     *
+     * @param context 데미지 컨텍스트 (스탯 뷰는 null일 수 있음)
+     * @return 계산된 데미지
+     */
+    double calculate(DamageContext context);
+}
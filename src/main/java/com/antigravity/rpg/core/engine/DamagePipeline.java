@@ -0,0 +1,148 @@
+package com.antigravity.rpg.core.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 순서가 있는 데미지 처리 단계({@link DamageStage})의 레지스트리입니다.
+ * <p>
+ * 단계는 이름과 순서 값으로 등록되며, {@link #run(DamageContext)}는 순서 값이 작은 단계부터 한 번씩 실행합니다.
+ * 같은 이름으로 다시 등록하면 기존 단계가 교체되므로 외부 모듈이 기본 단계를 대체할 수 있습니다.
+ * 단계별 실행 횟수와 누적 시간을 기록합니다. (/rpgadmin profile)
+ */
+public final class DamagePipeline {
+
+    // 기본 단계 순서 (외부 단계는 사이 값으로 끼워 넣을 수 있음)
+    public static final int FORMULA = 100;
+    public static final int MITIGATION = 200;
+    public static final int CRITICAL = 300;
+    public static final int AFFINITY = 400;
+    public static final int CLAMP = 500;
+    public static final int HOOK = 600;
+    public static final int FEEDBACK = 700;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt((Entry e) -> e.order);
+
+    // 등록/해제 시에만 교체 (실행 중에는 잠금 없이 배열만 읽음)
+    private volatile Entry[] stages = new Entry[0];
+
+    /**
+     * 단계를 등록합니다. 같은 이름의 단계가 있으면 교체됩니다.
+     *
+     * @param name  단계 이름 (예: "tag-affinity")
+     * @param order 실행 순서 (작을수록 먼저, 같으면 등록 순)
+     * @param stage 단계 구현
+     */
+    public synchronized void register(String name, int order, DamageStage stage) {
+        List<Entry> list = new ArrayList<>(Arrays.asList(stages));
+        list.removeIf(e -> e.name.equals(name));
+        list.add(new Entry(name, order, stage));
+        list.sort(ORDER);
+        stages = list.toArray(new Entry[0]);
+    }
+
+    /**
+     * 단계를 제거합니다.
+     *
+     * @return 제거되었으면 true
+     */
+    public synchronized boolean unregister(String name) {
+        List<Entry> list = new ArrayList<>(Arrays.asList(stages));
+        boolean removed = list.removeIf(e -> e.name.equals(name));
+        if (removed) {
+            stages = list.toArray(new Entry[0]);
+        }
+        return removed;
+    }
+
+    /**
+     * 등록된 모든 단계를 순서대로 한 번씩 실행합니다.
+     */
+    public void run(DamageContext context) {
+        for (Entry entry : stages) {
+            long start = java.lang.System.nanoTime();
+            try {
+                entry.stage.apply(context);
+            } finally {
+                entry.calls.increment();
+                entry.nanos.add(java.lang.System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * 단계별 실행 통계를 실행 순서대로 반환합니다.
+     */
+    public List<StageTiming> snapshot() {
+        Entry[] current = stages;
+        List<StageTiming> result = new ArrayList<>(current.length);
+        for (Entry entry : current) {
+            result.add(new StageTiming(entry.name, entry.order, entry.calls.sum(), entry.nanos.sum()));
+        }
+        return result;
+    }
+
+    /**
+     * 단계별 실행 통계를 초기화합니다.
+     */
+    public void reset() {
+        for (Entry entry : stages) {
+            entry.calls.reset();
+            entry.nanos.reset();
+        }
+    }
+
+    private static final class Entry {
+        final String name;
+        final int order;
+        final DamageStage stage;
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        Entry(String name, int order, DamageStage stage) {
+            this.name = name;
+            this.order = order;
+            this.stage = stage;
+        }
+    }
+
+    /**
+     * 단계 하나의 실행 통계입니다.
+     */
+    public static final class StageTiming {
+        private final String name;
+        private final int order;
+        private final long calls;
+        private final long totalNanos;
+
+        StageTiming(String name, int order, long calls, long totalNanos) {
+            this.name = name;
+            this.order = order;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getOrder() {
+            return order;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public double getAvgMicros() {
+            return calls == 0 ? 0.0 : totalNanos / 1000.0 / calls;
+        }
+    }
+}
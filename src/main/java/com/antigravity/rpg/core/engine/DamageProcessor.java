@@ -1,22 +1,170 @@
 package com.antigravity.rpg.core.engine;
 
+import com.antigravity.rpg.AntiGravityPlugin;
 import com.antigravity.rpg.core.script.LuaScriptService;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 데미지 계산 및 처리를 담당하는 핵심 클래스입니다.
- * Lua 스크립트 기반 계산과 태그 상성 로직을 수행합니다.
+ * 계산은 {@link DamagePipeline}의 단계들을 순서대로 한 번씩 실행하여 수행합니다.
+ * <p>
+ * 기본 단계: 데미지 공식(formula) -> 치명타(critical) -> 태그 상성(tag-affinity, global/elements.yml) -> 음수 방지(clamp) -> onHit 훅(lua-hook).
+ * 데미지 공식은 combat.damage-formula로 선택합니다.
+ * <ul>
+ * <li>native (기본값): {@link NativeDamageFormula}</li>
+ * <li>combat.damage-formulas에 정의된 수식 이름: {@link ExpressionDamageFormula}</li>
+ * <li>registerFormula로 등록된 Java 공식 이름</li>
+ * <li>lua: Lua calculate_damage 함수 (치명타도 스크립트에서 처리하므로 critical 단계 제외)</li>
+ * </ul>
+ * 인디케이터 등 Bukkit 의존 단계는 CombatService가 등록합니다.
  */
 @Singleton
 public class DamageProcessor {
 
+    public static final String NATIVE = "native";
+    public static final String LUA = "lua";
+
+    private static final int CRITICAL_CHANCE = StatIds.intern("CRITICAL_CHANCE");
+    private static final int CRITICAL_DAMAGE = StatIds.intern("CRITICAL_DAMAGE");
+    private static final double DEFAULT_CRITICAL_DAMAGE = 150.0;
+
+    private final AntiGravityPlugin plugin;
     private final LuaScriptService luaScriptService;
+    private final DamagePipeline pipeline = new DamagePipeline();
+    private final DamageContextPool contextPool = new DamageContextPool();
 
-    @Inject
+    // 이름 -> 데미지 공식 (Java 등록 공식 + 설정 수식)
+    private final Map<String, DamageFormula> formulas = new ConcurrentHashMap<>();
+    // 설정에서 로드된 수식 이름 (리로드 시 교체 대상)
+    private final Set<String> configFormulas = ConcurrentHashMap.newKeySet();
+    private volatile String activeFormula = NATIVE;
+    // 속성 상성표 (리로드 시 교체)
+    private volatile AffinityMatrix affinity = AffinityMatrix.DEFAULT;
+
+    // 설정 없이 기본값(native 공식)으로 생성 (테스트 등)
     public DamageProcessor(LuaScriptService luaScriptService) {
+        this(luaScriptService, null);
+    }
+
+    @Inject
+    public DamageProcessor(LuaScriptService luaScriptService, AntiGravityPlugin plugin) {
+        this.plugin = plugin;
         this.luaScriptService = luaScriptService;
+
+        formulas.put(LUA, luaScriptService::calculateDamage);
+
+        // 태그 상성 적용 (global/elements.yml)
+        pipeline.register("tag-affinity", DamagePipeline.AFFINITY, context -> context.setFinalDamage(
+                context.getFinalDamage()
+                        * affinity.multiplier(context.getAttackerTagMask(), context.getVictimTagMask())));
+        // 음수 데미지 방지
+        pipeline.register("clamp", DamagePipeline.CLAMP,
+                context -> context.setFinalDamage(Math.max(0, context.getFinalDamage())));
+        // onHit 훅 호출 (아이템 효과, 패시브 스킬 등)
+        pipeline.register("lua-hook", DamagePipeline.HOOK, context -> luaScriptService.callHook("onHit", context));
+
+        reload();
+    }
+
+    /**
+     * config.yml의 combat 섹션과 global/elements.yml을 다시 읽어 데미지 공식과 속성 상성표를 다시 구성합니다.
+     */
+    public void reload() {
+        FileConfiguration config = plugin != null ? plugin.getConfig() : null;
+        loadAffinities();
+
+        double defenseConstant = config != null
+                ? config.getDouble("combat.defense-constant", NativeDamageFormula.DEFAULT_DEFENSE_CONSTANT)
+                : NativeDamageFormula.DEFAULT_DEFENSE_CONSTANT;
+        formulas.put(NATIVE, new NativeDamageFormula(defenseConstant));
+
+        // 설정 수식 다시 컴파일
+        configFormulas.forEach(formulas::remove);
+        configFormulas.clear();
+        ConfigurationSection section = config != null ? config.getConfigurationSection("combat.damage-formulas") : null;
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                if (name.equals(NATIVE) || name.equals(LUA))
+                    continue;
+                try {
+                    ExpressionDamageFormula formula = new ExpressionDamageFormula(section.getString(name, ""));
+                    if (!formula.getUnknownVariables().isEmpty()) {
+                        warn("데미지 공식 '" + name + "'의 변수 " + formula.getUnknownVariables()
+                                + "는 attacker_/victim_ 접두사가 없어 0으로 계산됩니다.");
+                    }
+                    formulas.put(name, formula);
+                    configFormulas.add(name);
+                } catch (IllegalArgumentException e) {
+                    warn("데미지 공식 '" + name + "' 오류: " + e.getMessage());
+                }
+            }
+        }
+
+        useFormula(config != null ? config.getString("combat.damage-formula", NATIVE) : NATIVE);
+    }
+
+    /**
+     * Java 데미지 공식을 등록합니다. 같은 이름이 있으면 교체되며, 사용 중인 공식이면 즉시 반영됩니다.
+     */
+    public void registerFormula(String name, DamageFormula formula) {
+        formulas.put(name, formula);
+        configFormulas.remove(name);
+        if (name.equals(activeFormula)) {
+            useFormula(name);
+        }
+    }
+
+    /**
+     * 사용할 데미지 공식을 선택합니다. 없는 이름이면 native 공식을 사용합니다.
+     */
+    public synchronized void useFormula(String name) {
+        DamageFormula formula = formulas.get(name);
+        if (formula == null) {
+            warn("알 수 없는 데미지 공식 '" + name + "', native 공식을 사용합니다.");
+            name = NATIVE;
+            formula = formulas.get(NATIVE);
+        }
+        activeFormula = name;
+
+        DamageFormula selected = formula;
+        pipeline.register("formula", DamagePipeline.FORMULA,
+                context -> context.setFinalDamage(selected.calculate(context)));
+        // Lua 공식은 치명타까지 스크립트에서 처리
+        if (name.equals(LUA)) {
+            pipeline.unregister("critical");
+        } else {
+            pipeline.register("critical", DamagePipeline.CRITICAL, DamageProcessor::applyCritical);
+        }
+    }
+
+    private void loadAffinities() {
+        if (plugin == null)
+            return;
+        File file = new File(plugin.getDataFolder(), "global/elements.yml");
+        if (!file.exists()) {
+            plugin.saveResource("global/elements.yml", false);
+        }
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        affinity = AffinityMatrix.load(config.getConfigurationSection("affinities"), plugin.getLogger());
+        plugin.getLogger().info("[DamageProcessor] 속성 상성 " + affinity.size() + "개를 로드했습니다.");
+    }
+
+    public AffinityMatrix getAffinity() {
+        return affinity;
+    }
+
+    public String getActiveFormula() {
+        return activeFormula;
     }
 
     /**
@@ -25,38 +173,53 @@ public class DamageProcessor {
      * @param context 데미지 정보가 담긴 컨텍스트
      */
     public void process(DamageContext context) {
-        // Lua 스크립트를 통한 기본 데미지 계산
-        double damage = luaScriptService.calculateDamage(context);
-
-        // 태그 상성 적용
-        damage = applyTagMultipliers(damage, context.getAttackerTags(), context.getVictimTags());
+        pipeline.run(context);
+    }
 
-        // 음수 데미지 방지
-        context.setFinalDamage(Math.max(0, damage));
+    /**
+     * 풀에서 초기화된 데미지 컨텍스트를 빌립니다. 처리(onHit 훅, 결과 적용)가 끝나면 반드시 {@link #release}로 반납합니다.
+     */
+    public DamageContext acquire(org.bukkit.entity.Entity attacker, org.bukkit.entity.Entity victim,
+            StatView attackerStats, StatView victimStats, double initialDamage) {
+        return contextPool.acquire(attacker, victim, attackerStats, victimStats, initialDamage);
+    }
 
-        // onHit 훅 호출 (아이템 효과, 패시브 스킬 등)
-        luaScriptService.callHook("onHit", context);
+    /**
+     * 빌린 데미지 컨텍스트를 풀에 반납합니다. 반납 후에는 컨텍스트를 사용하면 안 됩니다.
+     */
+    public void release(DamageContext context) {
+        contextPool.release(context);
     }
 
     /**
-     * 공격자와 피해자의 태그를 비교하여 데미지 배율을 적용합니다.
-     * 예: 공격자 #FIRE, 피해자 #ICE -> 200% 데미지
+     * 데미지 처리 단계 레지스트리를 반환합니다. (단계 추가/교체, 단계별 실행 통계 조회)
      */
-    private double applyTagMultipliers(double baseDamage, Set<String> attackerTags, Set<String> victimTags) {
-        double multiplier = 1.0;
+    public DamagePipeline getPipeline() {
+        return pipeline;
+    }
 
-        if (attackerTags == null || victimTags == null)
-            return baseDamage;
+    /**
+     * 공격자의 CRITICAL_CHANCE(%) 확률로 치명타를 적용합니다. 배율은 CRITICAL_DAMAGE(%, 없으면 150%)입니다.
+     */
+    private static void applyCritical(DamageContext context) {
+        StatView attacker = context.getAttackerStats();
+        if (attacker == null)
+            return;
+        double chance = attacker.getStat(CRITICAL_CHANCE) / 100.0;
+        if (chance <= 0 || ThreadLocalRandom.current().nextDouble() >= chance)
+            return;
 
-        // 예시 로직: 태그 기반 상성
-        // 하드코딩된 예시이며, 추후 설정 파일(global/elements.yml)에서 로드하도록 변경 가능
-        if (attackerTags.contains("FIRE_WEAPON") && victimTags.contains("ICE_TYPE")) {
-            multiplier *= 2.0;
-        }
-        if (attackerTags.contains("LIGHTNING_DAMAGE") && victimTags.contains("WET")) {
-            multiplier *= 1.5;
+        double multiplier = attacker.getStat(CRITICAL_DAMAGE);
+        if (multiplier <= 0) {
+            multiplier = DEFAULT_CRITICAL_DAMAGE;
         }
+        context.setCritical(true);
+        context.setFinalDamage(context.getFinalDamage() * multiplier / 100.0);
+    }
 
-        return baseDamage * multiplier;
+    private void warn(String message) {
+        if (plugin != null) {
+            plugin.getLogger().warning("[DamageProcessor] " + message);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.antigravity.rpg.core.engine;
+
+/**
+ * 데미지 파이프라인의 한 단계입니다. {@link DamagePipeline}에 순서와 함께 등록됩니다.
+ * <p>
+ * 단계 사이의 중간 데미지 값은 {@link DamageContext#getFinalDamage()}로 전달되며,
+ * 각 단계는 이 값을 읽고 갱신합니다.
+ */
+@FunctionalInterface
+public interface DamageStage {
+
+    /**
+     * 단계를 실행합니다.
+     *
+     * @param context 데미지 컨텍스트
+     */
+    void apply(DamageContext context);
+}
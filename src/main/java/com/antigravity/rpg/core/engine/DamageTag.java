@@ -7,5 +7,8 @@ public enum DamageTag {
     SKILL, // Damage from skills
     DOT, // Damage over time
     NO_PROC, // Prevents triggering on-hit effects
-    IGNORE_DEFENSE // True damage
+    IGNORE_DEFENSE; // True damage
+
+    // values() 배열 복사를 피하기 위한 캐시 (DamageContext 태그 비트마스크 변환용)
+    static final DamageTag[] VALUES = values();
 }
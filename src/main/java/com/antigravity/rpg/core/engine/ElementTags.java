@@ -0,0 +1,86 @@
+package com.antigravity.rpg.core.engine;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 속성 상성에 쓰이는 태그 문자열에 비트 인덱스(0~63)를 부여합니다.
+ * 공격자/피해자의 태그 집합은 long 비트마스크 하나로 표현되어, 상성 계산 시 문자열 비교 없이 비트 연산만 사용합니다.
+ * <p>
+ * 비트는 global/elements.yml에 등장한 태그에만 부여되며, 한 번 부여되면 서버 종료 시까지 바뀌지 않습니다.
+ * (리로드 후에도 기존 마스크가 유효) 상성표에 없는 태그는 배율에 영향이 없으므로 마스크에서 제외됩니다.
+ */
+public final class ElementTags {
+
+    public static final int MAX_TAGS = Long.SIZE;
+
+    private static final Map<String, Integer> bitByTag = new ConcurrentHashMap<>();
+    private static final String[] tags = new String[MAX_TAGS];
+    private static volatile int count;
+
+    private ElementTags() {
+    }
+
+    /**
+     * 태그의 비트 인덱스를 반환하며, 처음 보는 태그라면 새 비트를 부여합니다.
+     *
+     * @return 비트 인덱스, 64개를 모두 사용한 경우 -1
+     */
+    public static int intern(String tag) {
+        Integer bit = bitByTag.get(tag);
+        if (bit != null)
+            return bit;
+
+        synchronized (ElementTags.class) {
+            bit = bitByTag.get(tag);
+            if (bit != null)
+                return bit;
+            if (count >= MAX_TAGS)
+                return -1;
+
+            int next = count;
+            tags[next] = tag;
+            count = next + 1;
+            bitByTag.put(tag, next);
+            return next;
+        }
+    }
+
+    /**
+     * 이미 부여된 비트 인덱스를 반환합니다. 등록되지 않은 태그이면 -1.
+     */
+    public static int indexOf(String tag) {
+        Integer bit = bitByTag.get(tag);
+        return bit != null ? bit : -1;
+    }
+
+    /**
+     * 태그 하나의 마스크를 반환합니다. 등록되지 않은 태그이면 0.
+     */
+    public static long maskOf(String tag) {
+        int bit = indexOf(tag);
+        return bit >= 0 ? 1L << bit : 0L;
+    }
+
+    /**
+     * 태그 집합을 비트마스크로 변환합니다. 등록되지 않은 태그는 무시됩니다.
+     */
+    public static long maskOf(Collection<String> tagSet) {
+        if (tagSet == null)
+            return 0L;
+        long mask = 0L;
+        for (String tag : tagSet) {
+            mask |= maskOf(tag);
+        }
+        return mask;
+    }
+
+    public static String tagOf(int bit) {
+        return bit >= 0 && bit < count ? tags[bit] : null;
+    }
+
+    public static int size() {
+        return count;
+    }
+}
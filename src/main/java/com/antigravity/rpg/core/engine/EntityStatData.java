@@ -2,24 +2,45 @@ package com.antigravity.rpg.core.engine;
 
 import com.antigravity.rpg.core.ecs.Component;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-public class EntityStatData implements Component {
-    private final Map<String, Double> statValues = new ConcurrentHashMap<>();
+public class EntityStatData implements Component, StatView {
+    // 스탯 값은 StatIds 인덱스 기반 배열에 저장 (문자열 메서드는 호환용)
+    private final StatVector statValues = new StatVector();
 
     public void setStat(String id, double value) {
-        statValues.put(id, value);
+        statValues.set(id, value);
     }
 
+    public void setStat(int index, double value) {
+        statValues.set(index, value);
+    }
+
+    @Override
     public double getStat(String id) {
-        return statValues.getOrDefault(id, 0.0);
+        return statValues.get(id);
     }
 
     public double getStat(String id, double fallback) {
-        return statValues.getOrDefault(id, fallback);
+        return statValues.get(id, fallback);
     }
 
-    public Map<String, Double> getAllStats() {
+    @Override
+    public double getStat(int index) {
+        return statValues.get(index);
+    }
+
+    public double getStat(int index, double fallback) {
+        return statValues.get(index, fallback);
+    }
+
+    public StatVector getStats() {
         return statValues;
     }
+
+    /**
+     * 모든 스탯을 Map으로 복사하여 반환합니다. (호환용, 반환된 Map을 수정해도 반영되지 않음)
+     */
+    public Map<String, Double> getAllStats() {
+        return statValues.toMap();
+    }
 }
@@ -0,0 +1,125 @@
+package com.antigravity.rpg.core.engine;
+
+import com.antigravity.rpg.core.formula.CompiledFormula;
+import com.antigravity.rpg.core.formula.FormulaCompiler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * config.yml에 수식으로 정의된 데미지 공식입니다. (combat.damage-formulas.&lt;이름&gt;)
+ * <p>
+ * 사용 가능한 변수:
+ * <ul>
+ * <li>{damage}: 초기 데미지</li>
+ * <li>{attacker_STAT}: 공격자 스탯 (예: {attacker_PHYSICAL_DAMAGE})</li>
+ * <li>{victim_STAT}: 피해자 스탯 (예: {victim_DEFENSE})</li>
+ * </ul>
+ * 수식은 로드 시 한 번만 컴파일되며, 변수는 컴파일 시 공격자/피해자 스탯 인덱스로 미리 분해됩니다.
+ * 평가 시에는 스레드별로 재사용하는 어댑터를 통해 스탯 뷰를 읽으므로 히트마다 객체를 할당하지 않습니다.
+ */
+public final class ExpressionDamageFormula implements DamageFormula {
+
+    public static final String DAMAGE_PARAMETER = "damage";
+    private static final String ATTACKER_PREFIX = "attacker_";
+    private static final String VICTIM_PREFIX = "victim_";
+
+    private static final byte ATTACKER = 1;
+    private static final byte VICTIM = 2;
+
+    private final CompiledFormula formula;
+    // 수식 변수 이름 -> 변수 번호 (getVariables() 순서)
+    private final Map<String, Integer> slots = new HashMap<>();
+    // 변수 번호 -> (공격자/피해자, 실제 스탯 인덱스)
+    private final byte[] sides;
+    private final int[] targets;
+    private final List<String> unknownVariables = new ArrayList<>();
+    // 스레드별 어댑터 (평가 중에만 컨텍스트를 참조)
+    private final ThreadLocal<Variables> adapters = ThreadLocal.withInitial(Variables::new);
+
+    /**
+     * @param expression 수식 문자열
+     * @throws IllegalArgumentException 문법 오류
+     */
+    public ExpressionDamageFormula(String expression) {
+        this.formula = FormulaCompiler.compile(expression, DAMAGE_PARAMETER);
+
+        int size = formula.getVariables().size();
+        sides = new byte[size];
+        targets = new int[size];
+        int slot = 0;
+        for (String var : formula.getVariables()) {
+            // 접두사를 뗀 실제 스탯만 등록 (attacker_/victim_ 이름 자체는 스탯 인덱스를 받지 않음)
+            if (var.startsWith(ATTACKER_PREFIX)) {
+                sides[slot] = ATTACKER;
+                targets[slot] = StatIds.intern(var.substring(ATTACKER_PREFIX.length()));
+            } else if (var.startsWith(VICTIM_PREFIX)) {
+                sides[slot] = VICTIM;
+                targets[slot] = StatIds.intern(var.substring(VICTIM_PREFIX.length()));
+            } else {
+                unknownVariables.add(var);
+            }
+            slots.put(var, slot++);
+        }
+    }
+
+    /**
+     * attacker_/victim_ 접두사가 없어 항상 0으로 평가되는 변수 목록입니다. (설정 오류 경고용)
+     */
+    public List<String> getUnknownVariables() {
+        return unknownVariables;
+    }
+
+    @Override
+    public double calculate(DamageContext context) {
+        Variables variables = adapters.get();
+        variables.context = context;
+        try {
+            return formula.evaluate(variables, context.getInitialDamage());
+        } finally {
+            // 풀에 반납된 컨텍스트(엔티티 참조)를 붙잡지 않도록 해제
+            variables.context = null;
+        }
+    }
+
+    // 수식 변수를 공격자/피해자 스탯 뷰로 연결하는 어댑터 (스탯 복사 없음)
+    private final class Variables implements StatHolder {
+        private DamageContext context;
+
+        @Override
+        public double getStat(String statId) {
+            Integer slot = slots.get(statId);
+            if (slot == null || context == null)
+                return 0.0;
+            StatView view;
+            switch (sides[slot]) {
+                case ATTACKER:
+                    view = context.getAttackerStats();
+                    break;
+                case VICTIM:
+                    view = context.getVictimStats();
+                    break;
+                default:
+                    return 0.0;
+            }
+            return view != null ? view.getStat(targets[slot]) : 0.0;
+        }
+
+        @Override
+        public double getRawStat(String statId) {
+            return getStat(statId);
+        }
+
+        @Override
+        public double getNativeAttributeValue(String attributeName) {
+            return 0.0;
+        }
+
+        @Override
+        public String getName() {
+            return "damage-formula";
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.antigravity.rpg.core.engine;
+
+/**
+ * 스탯 수정자의 적용 방식입니다.
+ * 최종 값 = (기본값 + FLAT 합) * (1 + PERCENT 합) * (MULTIPLY 곱)
+ */
+public enum ModifierOperation {
+    FLAT, // 고정 수치 가산 (예: 공격력 +10)
+    PERCENT, // 퍼센트 가산, 같은 레이어끼리 합산 (예: 0.1 = +10%)
+    MULTIPLY; // 곱연산, 수정자마다 따로 곱함 (예: 0.2 = x1.2)
+
+    /**
+     * 설정 문자열을 파싱합니다. 알 수 없는 값이면 FLAT.
+     */
+    public static ModifierOperation parse(String value) {
+        if (value == null || value.isEmpty())
+            return FLAT;
+        switch (value.trim().toUpperCase()) {
+            case "PERCENT":
+            case "PERCENTAGE":
+            case "ADD_PERCENT":
+                return PERCENT;
+            case "MULTIPLY":
+            case "MULTIPLIER":
+            case "MULT":
+                return MULTIPLY;
+            default:
+                return FLAT;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.antigravity.rpg.core.engine;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 대상에 적용된 스탯 수정자 모음입니다. 수정자는 출처(source) ID로 구분됩니다.
+ * <p>
+ * 같은 (출처, 스탯, 레이어)에 다시 설정하면 값이 교체되므로, 매초 같은 버프를 다시 적용해도 중복되지 않고
+ * 값이 그대로면 아무것도 바뀌지 않습니다. 변경 메서드는 영향받은 스탯(StatIds 인덱스)을 알려주며,
+ * 호출자는 해당 스탯만 무효화하면 됩니다.
+ * <p>
+ * 레이어별 합산 결과는 스탯마다 미리 접어 두므로 {@link #apply(int, double)}는 잠금 없이 배열만 읽습니다.
+ */
+public final class ModifierStack {
+
+    private static final int LAYERS = ModifierOperation.values().length;
+    private static final int[] NONE = new int[0];
+
+    // 출처 -> (스탯 인덱스 * LAYERS + 레이어) -> 값
+    private final Map<String, Map<Integer, Double>> bySource = new HashMap<>();
+
+    // 스탯별 합산 결과 (변경된 스탯만 다시 접음)
+    private final StatVector flat = new StatVector();
+    private final StatVector percent = new StatVector();
+    private final StatVector multiply = new StatVector();
+
+    /**
+     * 수정자를 설정합니다. 같은 출처/스탯/레이어의 기존 값은 교체됩니다.
+     *
+     * @return 값이 바뀌었으면 true (false면 무효화 불필요)
+     */
+    public synchronized boolean set(String source, int statIndex, ModifierOperation operation, double value) {
+        Map<Integer, Double> entries = bySource.computeIfAbsent(source, k -> new HashMap<>());
+        Double previous = entries.put(key(statIndex, operation), value);
+        if (previous != null && previous == value)
+            return false;
+        fold(statIndex);
+        return true;
+    }
+
+    /**
+     * 기존 값에 더합니다. 합이 0이 되면 수정자를 제거합니다. (누적형 API 호환용)
+     *
+     * @return 값이 바뀌었으면 true
+     */
+    public synchronized boolean adjust(String source, int statIndex, ModifierOperation operation, double delta) {
+        if (delta == 0.0)
+            return false;
+        Map<Integer, Double> entries = bySource.computeIfAbsent(source, k -> new HashMap<>());
+        double value = entries.getOrDefault(key(statIndex, operation), 0.0) + delta;
+        if (value == 0.0) {
+            entries.remove(key(statIndex, operation));
+            if (entries.isEmpty()) {
+                bySource.remove(source);
+            }
+        } else {
+            entries.put(key(statIndex, operation), value);
+        }
+        fold(statIndex);
+        return true;
+    }
+
+    /**
+     * 한 출처의 특정 수정자를 제거합니다.
+     *
+     * @return 제거되었으면 true
+     */
+    public synchronized boolean remove(String source, int statIndex, ModifierOperation operation) {
+        Map<Integer, Double> entries = bySource.get(source);
+        if (entries == null || entries.remove(key(statIndex, operation)) == null)
+            return false;
+        if (entries.isEmpty()) {
+            bySource.remove(source);
+        }
+        fold(statIndex);
+        return true;
+    }
+
+    /**
+     * 한 출처의 수정자를 모두 제거합니다. (예: 버프 만료)
+     *
+     * @return 영향받은 스탯 인덱스
+     */
+    public synchronized int[] removeSource(String source) {
+        Map<Integer, Double> entries = bySource.remove(source);
+        if (entries == null)
+            return NONE;
+        return refold(entries);
+    }
+
+    /**
+     * 출처 ID가 접두사로 시작하는 수정자를 모두 제거합니다. (예: "mastery:")
+     *
+     * @return 영향받은 스탯 인덱스
+     */
+    public synchronized int[] removeSourcesByPrefix(String prefix) {
+        List<Map<Integer, Double>> removed = new ArrayList<>();
+        Iterator<Map.Entry<String, Map<Integer, Double>>> it = bySource.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Map<Integer, Double>> entry = it.next();
+            if (entry.getKey().startsWith(prefix)) {
+                removed.add(entry.getValue());
+                it.remove();
+            }
+        }
+        if (removed.isEmpty())
+            return NONE;
+        Map<Integer, Double> merged = new HashMap<>();
+        removed.forEach(merged::putAll);
+        return refold(merged);
+    }
+
+    public synchronized void clear() {
+        bySource.clear();
+        flat.clear();
+        percent.clear();
+        multiply.clear();
+    }
+
+    public synchronized boolean isEmpty() {
+        return bySource.isEmpty();
+    }
+
+    /**
+     * 스탯 값에 수정자를 적용합니다. (잠금 없음)
+     *
+     * @param statIndex StatIds 인덱스
+     * @param base      수정자 적용 전 값
+     */
+    public double apply(int statIndex, double base) {
+        return (base + flat.get(statIndex)) * (1.0 + percent.get(statIndex)) * multiply.get(statIndex, 1.0);
+    }
+
+    /**
+     * 특정 레이어의 합산 결과를 반환합니다. (MULTIPLY는 곱, 수정자가 없으면 1)
+     */
+    public double getTotal(int statIndex, ModifierOperation operation) {
+        switch (operation) {
+            case PERCENT:
+                return percent.get(statIndex);
+            case MULTIPLY:
+                return multiply.get(statIndex, 1.0);
+            case FLAT:
+            default:
+                return flat.get(statIndex);
+        }
+    }
+
+    private int[] refold(Map<Integer, Double> entries) {
+        BitSet stats = new BitSet();
+        for (Integer key : entries.keySet()) {
+            stats.set(key / LAYERS);
+        }
+        int[] affected = stats.stream().toArray();
+        for (int statIndex : affected) {
+            fold(statIndex);
+        }
+        return affected;
+    }
+
+    // 한 스탯의 레이어별 합산 결과를 다시 계산 (잠금 보유 상태에서 호출)
+    private void fold(int statIndex) {
+        double flatSum = 0.0;
+        double percentSum = 0.0;
+        double product = 1.0;
+        boolean hasFlat = false;
+        boolean hasPercent = false;
+        boolean hasMultiply = false;
+
+        for (Map<Integer, Double> entries : bySource.values()) {
+            Double value = entries.get(key(statIndex, ModifierOperation.FLAT));
+            if (value != null) {
+                flatSum += value;
+                hasFlat = true;
+            }
+            value = entries.get(key(statIndex, ModifierOperation.PERCENT));
+            if (value != null) {
+                percentSum += value;
+                hasPercent = true;
+            }
+            value = entries.get(key(statIndex, ModifierOperation.MULTIPLY));
+            if (value != null) {
+                product *= 1.0 + value;
+                hasMultiply = true;
+            }
+        }
+
+        store(flat, statIndex, hasFlat, flatSum);
+        store(percent, statIndex, hasPercent, percentSum);
+        store(multiply, statIndex, hasMultiply, product);
+    }
+
+    private static void store(StatVector vector, int statIndex, boolean present, double value) {
+        if (present) {
+            vector.set(statIndex, value);
+        } else {
+            vector.remove(statIndex);
+        }
+    }
+
+    private static Integer key(int statIndex, ModifierOperation operation) {
+        return statIndex * LAYERS + operation.ordinal();
+    }
+}
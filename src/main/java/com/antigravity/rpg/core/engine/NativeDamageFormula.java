@@ -0,0 +1,48 @@
+package com.antigravity.rpg.core.engine;
+
+/**
+ * 기본 데미지 공식의 Java 구현입니다. (combat.damage-formula: native)
+ * <p>
+ * 데미지 = (초기 데미지 + 공격자 PHYSICAL_DAMAGE 또는 MAGIC_DAMAGE) * K / (K + 피해자 DEFENSE)
+ * <br>
+ * K는 방어 상수(combat.defense-constant)로, 방어력이 K일 때 데미지가 절반이 됩니다.
+ * 공격력은 데미지 태그(PHYSICAL/MAGIC)에 맞는 스탯만 더하며, IGNORE_DEFENSE 태그는 방어력 감소를 무시합니다.
+ */
+public final class NativeDamageFormula implements DamageFormula {
+
+    public static final double DEFAULT_DEFENSE_CONSTANT = 400.0;
+
+    private static final int PHYSICAL_DAMAGE = StatIds.intern("PHYSICAL_DAMAGE");
+    private static final int MAGIC_DAMAGE = StatIds.intern("MAGIC_DAMAGE");
+    private static final int DEFENSE = StatIds.intern("DEFENSE");
+
+    private final double defenseConstant;
+
+    public NativeDamageFormula(double defenseConstant) {
+        this.defenseConstant = defenseConstant > 0 ? defenseConstant : DEFAULT_DEFENSE_CONSTANT;
+    }
+
+    @Override
+    public double calculate(DamageContext context) {
+        double damage = context.getInitialDamage();
+
+        StatView attacker = context.getAttackerStats();
+        if (attacker != null) {
+            if (context.hasTag(DamageTag.PHYSICAL)) {
+                damage += attacker.getStat(PHYSICAL_DAMAGE);
+            }
+            if (context.hasTag(DamageTag.MAGIC)) {
+                damage += attacker.getStat(MAGIC_DAMAGE);
+            }
+        }
+
+        StatView victim = context.getVictimStats();
+        if (victim != null && !context.hasTag(DamageTag.IGNORE_DEFENSE)) {
+            double defense = victim.getStat(DEFENSE);
+            if (defense > 0) {
+                damage *= defenseConstant / (defenseConstant + defense);
+            }
+        }
+        return damage;
+    }
+}
@@ -10,7 +10,14 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 엔티티의 최종 스탯을 계산하는 클래스입니다.
- * 수식 계산 및 마인크래프트 기본 스탯과의 연동을 담당하며, 성능을 위해 틱 단위 캐싱을 수행합니다.
+ * 수식 계산 및 마인크래프트 기본 스탯과의 연동을 담당하며, 계산 결과는 무효화될 때까지 캐싱됩니다.
+ * <p>
+ * 스탯 간 의존성은 StatRegistry가 컴파일한 {@link StatGraph}를 따르며, 계산 결과는 대상별로
+ * 그래프 인덱스 기반 배열에 저장됩니다. 특정 스탯이 바뀌면 그 하위 스탯만 무효화됩니다.
+ * <p>
+ * 캐시는 틱마다 초기화되지 않습니다. 값을 바꾸는 쪽(수정자 추가/제거, 장비 변경, 레벨/직업 변경 등)이
+ * {@link #invalidate(UUID, String)} 또는 {@link #invalidate(UUID)}로 변경을 알려야 합니다.
+ * 직업 스탯(Lua/성장 수식)은 모든 스탯에 의존하는 것으로 취급되며, NATIVE_ATTRIBUTE 스탯과 그 하위 스탯은 캐싱하지 않습니다.
  */
 @Singleton
 public class StatCalculator {
@@ -19,15 +26,23 @@ public class StatCalculator {
     private final ExpressionEngine expressionEngine;
     private final com.antigravity.rpg.feature.classes.ClassRegistry classRegistry;
 
-    // Persistent Cache: Map<HolderUUID, Map<StatId, Value>>
+    // Persistent Cache: 대상별 스탯 값 배열 (StatGraph 인덱스 기준)
     // Not cleared every tick, but invalidated on dirty events.
-    private final Map<UUID, Map<String, Double>> statCache = new ConcurrentHashMap<>();
+    private final Map<UUID, HolderStats> statCache = new ConcurrentHashMap<>();
 
-    // [NEW] 틱 단위 직업 스탯 캐시 (Lua 결과 캐싱)
+    // [NEW] 직업 스탯 캐시 (Lua 결과 캐싱, 직업/레벨 변경 시 무효화)
     private final Map<UUID, ClassStatCacheEntry> classStatCache = new ConcurrentHashMap<>();
 
-    // 순환 참조 감지용 스택 (스레드별로 현재 계산 중인 스탯 ID 추적)
-    private final ThreadLocal<java.util.Set<String>> calculationStack = ThreadLocal.withInitial(java.util.HashSet::new);
+    // [NEW] 대상별 공유 스탯 스냅샷 (스탯 버전이 바뀔 때만 다시 생성)
+    private final Map<UUID, StatSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 캐시 대상이 아닌 보유자의 계산 중 임시 배열 (최상위 호출 동안만 유지)
+    private final ThreadLocal<HolderStats> transientStats = new ThreadLocal<>();
+
+    // [NEW] 스탯 버전: 무효화될 때마다 증가하는 단조 카운터 (스냅샷 갱신 여부 판단용)
+    private final java.util.concurrent.atomic.AtomicLong versionCounter = new java.util.concurrent.atomic.AtomicLong();
+    private final Map<UUID, Long> holderVersions = new ConcurrentHashMap<>();
+    private volatile long globalVersion;
 
     @Inject
     public StatCalculator(StatRegistry statRegistry, ExpressionEngine expressionEngine,
@@ -39,127 +54,321 @@ public class StatCalculator {
 
     /**
      * Mark stats as dirty for a holder, clearing the cache.
-     * Should be called on equipment change, buff application, etc.
+     * Should be called on level-up, class change, etc. (직업 스탯 Lua 결과까지 다시 계산)
      */
     public void invalidate(UUID holderId) {
         statCache.remove(holderId);
         classStatCache.remove(holderId);
+        snapshots.remove(holderId);
+        holderVersions.put(holderId, versionCounter.incrementAndGet());
+    }
+
+    /**
+     * 대상의 캐시를 모두 해제합니다. 플레이어 퇴장 시 호출하여 캐시가 계속 쌓이지 않도록 합니다.
+     */
+    public void evict(UUID holderId) {
+        statCache.remove(holderId);
+        classStatCache.remove(holderId);
+        snapshots.remove(holderId);
+        holderVersions.remove(holderId);
+    }
+
+    /**
+     * 특정 스탯이 바뀌었음을 알립니다. 해당 스탯과 그 스탯에 의존하는 하위 스탯만 다시 계산됩니다.
+     * (예: STR 수정자 변경 시 STR -> ATTACK_DAMAGE 보너스 경로만 무효화)
+     */
+    public void invalidate(UUID holderId, String statId) {
+        invalidate(holderId, StatIds.indexOf(statId));
+    }
+
+    /**
+     * {@link #invalidate(UUID, String)}의 인덱스 버전입니다. (StatIds 인덱스)
+     */
+    public void invalidate(UUID holderId, int statIndex) {
+        HolderStats stats = statCache.get(holderId);
+        if (stats != null) {
+            stats.invalidateStat(statIndex);
+        }
+        // 직업 스탯(Lua calculate_stats, 성장 수식)은 어떤 스탯이든 읽을 수 있지만 그래프에 간선이 없으므로
+        // 모든 스탯에 의존하는 것으로 간주: 직업 스탯 결과와 그 결과가 반영된 스탯을 함께 무효화
+        ClassStatCacheEntry classStats = classStatCache.get(holderId);
+        if (classStats != null && !classStats.derived.isEmpty()) {
+            classStatCache.remove(holderId, classStats);
+            if (stats != null) {
+                for (String derived : classStats.derived) {
+                    int derivedIndex = StatIds.indexOf(derived);
+                    if (derivedIndex >= 0) {
+                        stats.invalidateStat(derivedIndex);
+                    }
+                }
+            }
+        }
+        holderVersions.put(holderId, versionCounter.incrementAndGet());
     }
 
-    // For specific stat invalidation if needed:
-    // public void invalidate(UUID holderId, String statId) { ... }
+    /**
+     * 대상의 스탯 버전을 반환합니다.
+     * 값이 이전과 같다면 그 사이 스탯이 무효화되지 않았으므로, 호출자는 캐싱한 스탯 스냅샷을 그대로 사용할 수 있습니다.
+     * 할당 없이 조회되므로 매 틱 호출해도 됩니다.
+     */
+    public long getStatVersion(UUID holderId) {
+        Long holderVersion = holderVersions.get(holderId);
+        long global = globalVersion;
+        return holderVersion != null && holderVersion > global ? holderVersion : global;
+    }
+
+    /**
+     * 정의된 모든 스탯의 불변 스냅샷을 반환합니다.
+     * <p>
+     * 스탯 버전이 그대로면 이전에 만든 인스턴스를 그대로 반환하므로, 여러 번 호출해도 계산과 할당이 반복되지 않습니다.
+     * 반환된 스냅샷은 공유되므로 호출자는 복사 없이 참조만 보관하면 됩니다.
+     *
+     * @param holder 스탯 보유 대상
+     * @return 스탯 스냅샷 (대상이 null이면 {@link StatSnapshot#EMPTY})
+     */
+    public StatSnapshot snapshot(StatHolder holder) {
+        if (holder == null)
+            return StatSnapshot.EMPTY;
+        StatGraph graph = statRegistry.getGraph();
+        UUID holderId = getHolderId(holder);
+        if (holderId == null) {
+            return buildSnapshot(holder, graph, -1L);
+        }
+
+        // 버전을 계산 전에 읽어 두므로, 생성 도중 무효화되면 다음 호출에서 다시 생성됨
+        long version = getStatVersion(holderId);
+        StatSnapshot cached = snapshots.get(holderId);
+        if (cached != null && cached.getVersion() == version && cached.getGraphRevision() == graph.getRevision()) {
+            return cached;
+        }
+        StatSnapshot snapshot = buildSnapshot(holder, graph, version);
+        snapshots.put(holderId, snapshot);
+        return snapshot;
+    }
+
+    private StatSnapshot buildSnapshot(StatHolder holder, StatGraph graph, long version) {
+        int capacity = 0;
+        for (int node = 0; node < graph.size(); node++) {
+            capacity = Math.max(capacity, graph.statIndexAt(node) + 1);
+        }
+        double[] values = new double[capacity];
+        long[] present = new long[(capacity + 63) >>> 6];
+        for (int node = 0; node < graph.size(); node++) {
+            // 정의된 스탯만 포함 (보너스/수식에서 참조만 되는 스탯 제외)
+            if (graph.definitionAt(node) == null)
+                continue;
+            int statIndex = graph.statIndexAt(node);
+            values[statIndex] = getStat(holder, statIndex);
+            present[statIndex >>> 6] |= 1L << statIndex;
+        }
+        return new StatSnapshot(version, graph.getRevision(), values, present);
+    }
 
     /**
      * 대상의 최종 스탯 값을 계산합니다. (캐시 우선 확인)
-     * 
+     * <p>
+     * 컴파일된 StatGraph에 있는 스탯은 대상별 배열에 저장되며, 캐시 적중 시 배열 조회 한 번으로 끝납니다.
+     * 미계산 스탯은 의존 스탯을 위상 순서대로 먼저 계산한 뒤 계산합니다.
+     *
      * @param holder 스탯 보유 대상
      * @param statId 스탯 식별자
      * @return 계산된 최종 값
      */
     public double getStat(StatHolder holder, String statId) {
+        int statIndex = StatIds.indexOf(statId);
+        if (statIndex < 0) {
+            // 정의/참조되지 않은 스탯: 인덱스를 새로 부여하지 않고 캐시 없이 계산 (수정자/저장 값은 인덱스가 있어야 존재)
+            return calculateBase(holder, statId, null);
+        }
+        return getStat(holder, statIndex);
+    }
+
+    /**
+     * {@link #getStat(StatHolder, String)}의 인덱스 버전입니다.
+     * 자주 조회하는 스탯은 {@link StatIds#indexOf(String)}로 인덱스를 미리 구해 두면 문자열 해싱 없이 조회됩니다.
+     *
+     * @param holder    스탯 보유 대상
+     * @param statIndex StatIds 인덱스
+     * @return 계산된 최종 값
+     */
+    public double getStat(StatHolder holder, int statIndex) {
+        StatGraph graph = statRegistry.getGraph();
         UUID holderId = getHolderId(holder);
+        if (holderId == null) {
+            return getTransientStat(holder, statIndex, graph);
+        }
+        return getStat(holder, statIndex, graph, cachedStatsOf(holderId, graph));
+    }
+
+    private double getStat(StatHolder holder, int statIndex, StatGraph graph, HolderStats stats) {
+        int node = graph.nodeOf(statIndex);
 
         // 1. 캐시 확인
-        if (holderId != null) {
-            Map<String, Double> holderCache = statCache.get(holderId);
-            if (holderCache != null && holderCache.containsKey(statId)) {
-                return holderCache.get(statId);
+        if (node >= 0) {
+            if (stats.isValid(node)) {
+                return stats.values[node];
             }
+        } else if (stats.extra.has(statIndex)) {
+            return stats.extra.get(statIndex);
         }
 
-        // 2. 실제 계산 수행
-        double result = calculateStat(holder, statId);
+        // 2. 실제 계산 수행 (대상별 잠금: 계산과 무효화가 섞이지 않도록 함)
+        synchronized (stats) {
+            if (node >= 0) {
+                return ensure(holder, stats, node);
+            }
+            // 그래프 밖의 스탯 (정의/보너스 없이 원본 값만 존재)
+            if (stats.computingExtra.get(statIndex)) {
+                // 직업 성장 수식 등의 자기 참조: 무한 재귀 방지
+                return 0.0;
+            }
+            stats.computingExtra.set(statIndex);
+            try {
+                double result = applyModifiers(holder, statIndex,
+                        calculateBase(holder, StatIds.idOf(statIndex), null));
+                stats.extra.set(statIndex, result);
+                return result;
+            } finally {
+                stats.computingExtra.clear(statIndex);
+            }
+        }
+    }
 
-        // 3. 캐시에 저장
-        if (holderId != null) {
-            statCache.computeIfAbsent(holderId, k -> new ConcurrentHashMap<>()).put(statId, result);
+    /**
+     * 캐시 대상이 아닌 보유자의 스탯을 계산합니다.
+     * 최상위 호출 동안만 유지되는 임시 배열을 사용하므로, 수식 평가 중 재진입해도 같은 배열에서 순환이 감지됩니다.
+     */
+    private double getTransientStat(StatHolder holder, int statIndex, StatGraph graph) {
+        HolderStats scoped = transientStats.get();
+        if (scoped != null && scoped.owner == holder && scoped.graph == graph) {
+            return getStat(holder, statIndex, graph, scoped);
+        }
+        HolderStats stats = new HolderStats(graph, holder);
+        transientStats.set(stats);
+        try {
+            return getStat(holder, statIndex, graph, stats);
+        } finally {
+            transientStats.set(scoped);
         }
+    }
 
-        return result;
+    private HolderStats cachedStatsOf(UUID holderId, StatGraph graph) {
+        HolderStats stats = statCache.get(holderId);
+        if (stats == null || stats.graph != graph) {
+            // 그래프가 다시 컴파일된 경우 이전 배열은 폐기
+            stats = new HolderStats(graph, null);
+            statCache.put(holderId, stats);
+        }
+        return stats;
     }
 
-    private double calculateStat(StatHolder holder, String statId) {
-        // 순환 참조 감지: 이미 이 스탯을 계산 중이면 기본값 반환
-        java.util.Set<String> stack = calculationStack.get();
-        if (!stack.add(statId)) {
-            // 순환 참조 감지됨 - 무한 루프 방지를 위해 기본값 반환
-            return 0.0;
+    /**
+     * 스탯을 계산하여 캐시에 기록합니다. HolderStats 잠금을 보유한 상태에서 호출해야 합니다.
+     */
+    private double ensure(StatHolder holder, HolderStats stats, int index) {
+        if (stats.isValid(index))
+            return stats.values[index];
+        if (stats.computing[index]) {
+            // 그래프에 드러나지 않는 동적 의존성(직업 성장 수식 등)으로 인한 순환: 이전 값 사용
+            return stats.values[index];
         }
 
+        StatGraph graph = stats.graph;
+        stats.computing[index] = true;
         try {
-            StatDefinition def = statRegistry.getStat(statId).orElse(null);
-
-            // 1. 기본값 및 원본 데이터 가져오기 (장비, 영구 보너스 등)
-            double baseValue = getRawValue(holder, statId, def);
-
-            // 2. 직업 기반 성장/스탯 계산 (Lua 우선, Multi-Class 100% + 30%)
-            if (holder instanceof com.antigravity.rpg.feature.player.PlayerData pd) {
-                // 캐시 확인 및 생성
-                ClassStatCacheEntry cacheEntry = classStatCache.get(pd.getUuid());
-                if (cacheEntry == null) {
-                    Map<String, Double> totalStats = new java.util.HashMap<>();
-                    java.util.Set<String> handled = new java.util.HashSet<>();
-
-                    var activeClasses = pd.getClassData().getActiveClasses();
-                    if (activeClasses != null) {
-                        for (Map.Entry<com.antigravity.rpg.feature.player.ClassType, String> entry : activeClasses
-                                .entrySet()) {
-                            com.antigravity.rpg.feature.player.ClassType type = entry.getKey();
-                            String cId = entry.getValue();
-                            if (cId == null || cId.isEmpty())
-                                continue;
-
-                            double multiplier = (type == com.antigravity.rpg.feature.player.ClassType.MAIN) ? 1.0
-                                    : (type == com.antigravity.rpg.feature.player.ClassType.SUB ? 0.3 : 0.0);
-
-                            if (multiplier <= 0)
-                                continue;
-
-                            // 레벨 가져오기
-                            int level = 1;
-                            var cp = pd.getClassData().getProgress(cId);
-                            if (cp != null)
-                                level = cp.getLevel();
-
-                            var cDefOpt = classRegistry.getClass(cId);
-                            if (cDefOpt.isPresent()) {
-                                var cDef = cDefOpt.get();
-                                Map<String, Double> luaStats = cDef.calculateStats(pd, level);
-                                if (luaStats != null) {
-                                    // Lua 스탯 합산
-                                    for (Map.Entry<String, Double> stat : luaStats.entrySet()) {
-                                        totalStats.merge(stat.getKey(), stat.getValue() * multiplier, Double::sum);
-                                    }
-                                    handled.add(cId);
-                                }
-                            }
-                        }
-                    }
-                    cacheEntry = new ClassStatCacheEntry(totalStats, handled);
-                    classStatCache.put(pd.getUuid(), cacheEntry);
+            // 의존 스탯을 먼저 계산 (위상 순서상 항상 더 작은 인덱스)
+            for (int dep : graph.dependenciesOf(index)) {
+                ensure(holder, stats, dep);
+            }
+            double result = calculateStat(holder, stats, index);
+            if (graph.isCacheable(index)) {
+                stats.publish(index, result);
+            } else {
+                // 무효화 알림이 없는 값(마인크래프트 기본 속성 등)은 매번 다시 계산
+                stats.values[index] = result;
+            }
+            return result;
+        } finally {
+            stats.computing[index] = false;
+        }
+    }
+
+    private double calculateStat(StatHolder holder, HolderStats stats, int index) {
+        StatGraph graph = stats.graph;
+        return applyModifiers(holder, graph.statIndexAt(index), calculateUnmodified(holder, stats, index));
+    }
+
+    private double calculateUnmodified(StatHolder holder, HolderStats stats, int index) {
+        StatGraph graph = stats.graph;
+        String statId = graph.idAt(index);
+        StatDefinition def = graph.definitionAt(index);
+
+        // 1~2. 기본값, 원본 데이터, 직업 스탯
+        double baseValue = calculateBase(holder, statId, def);
+
+        // 3. 파생 스탯 보너스(Bonuses) 적용 (컴파일 시 대상별로 분류됨, source는 이미 계산됨)
+        for (StatGraph.Bonus bonus : graph.bonusesOf(index)) {
+            baseValue += bonus.evaluate(holder, stats.values[bonus.getSourceIndex()]);
+        }
+
+        if (def == null)
+            return baseValue;
+
+        switch (def.getType()) {
+            case FORMULA:
+                return expressionEngine.evaluate(def.getFormula(), holder);
+
+            case NATIVE_ATTRIBUTE:
+                // 마인크래프트 기본 속성(Attribute) 연동
+                if (holder instanceof NativeStatHolder) {
+                    return ((NativeStatHolder) holder).getNativeAttributeValue(def.getNativeAttribute());
                 }
+                return baseValue;
+
+            case RESOURCE:
+            case SIMPLE:
+            case CHANCE:
+            default:
+                return baseValue;
+        }
+    }
+
+    // 4. 수정자 스택 적용: (값 + FLAT) * (1 + PERCENT) * MULTIPLY
+    private double applyModifiers(StatHolder holder, int statIndex, double value) {
+        if (holder instanceof ModifiableStatHolder modifiable) {
+            return modifiable.getModifierStack().apply(statIndex, value);
+        }
+        return value;
+    }
+
+    private double calculateBase(StatHolder holder, String statId, StatDefinition def) {
+        // 1. 기본값 및 원본 데이터 가져오기 (장비, 영구 보너스 등)
+        double baseValue = getRawValue(holder, statId, def);
 
-                // A. Lua 계산된 스탯 적용
-                baseValue += cacheEntry.totalStats.getOrDefault(statId, 0.0);
+        // 2. 직업 기반 성장/스탯 계산 (Lua 우선, Multi-Class 100% + 30%)
+        if (holder instanceof com.antigravity.rpg.feature.player.PlayerData pd) {
+            // 캐시 확인 및 생성
+            ClassStatCacheEntry cacheEntry = classStatCache.get(pd.getUuid());
+            if (cacheEntry == null) {
+                Map<String, Double> totalStats = new java.util.HashMap<>();
+                java.util.Set<String> handled = new java.util.HashSet<>();
 
-                // B. Lua 로직이 없는 클래스에 대해 YAML 성장 로직 수행
                 var activeClasses = pd.getClassData().getActiveClasses();
                 if (activeClasses != null) {
                     for (Map.Entry<com.antigravity.rpg.feature.player.ClassType, String> entry : activeClasses
                             .entrySet()) {
+                        com.antigravity.rpg.feature.player.ClassType type = entry.getKey();
                         String cId = entry.getValue();
                         if (cId == null || cId.isEmpty())
                             continue;
 
-                        // 이미 Lua로 처리된 클래스는 스킵
-                        if (cacheEntry.handled.contains(cId))
-                            continue;
+                        double multiplier = (type == com.antigravity.rpg.feature.player.ClassType.MAIN) ? 1.0
+                                : (type == com.antigravity.rpg.feature.player.ClassType.SUB ? 0.3 : 0.0);
 
-                        double multiplier = (entry.getKey() == com.antigravity.rpg.feature.player.ClassType.MAIN) ? 1.0
-                                : (entry.getKey() == com.antigravity.rpg.feature.player.ClassType.SUB ? 0.3 : 0.0);
                         if (multiplier <= 0)
                             continue;
 
+                        // 레벨 가져오기
                         int level = 1;
                         var cp = pd.getClassData().getProgress(cId);
                         if (cp != null)
@@ -168,60 +377,94 @@ public class StatCalculator {
                         var cDefOpt = classRegistry.getClass(cId);
                         if (cDefOpt.isPresent()) {
                             var cDef = cDefOpt.get();
-                            if (cDef.getGrowth() != null && cDef.getGrowth().getPerLevel() != null) {
-                                String growthExpr = cDef.getGrowth().getPerLevel().get(statId);
-                                if (growthExpr != null) {
-                                    double growthVal = 0.0;
-                                    if (isNumeric(growthExpr)) {
-                                        growthVal = Double.parseDouble(growthExpr) * (level - 1);
-                                    } else { // 수식 평가
-                                        growthVal = expressionEngine.evaluate(growthExpr, holder);
-                                    }
-                                    baseValue += growthVal * multiplier;
+                            Map<String, Double> luaStats = cDef.calculateStats(pd, level);
+                            if (luaStats != null) {
+                                // Lua 스탯 합산
+                                for (Map.Entry<String, Double> stat : luaStats.entrySet()) {
+                                    totalStats.merge(stat.getKey(), stat.getValue() * multiplier, Double::sum);
                                 }
+                                handled.add(cId);
                             }
                         }
                     }
                 }
+                cacheEntry = new ClassStatCacheEntry(totalStats, handled,
+                        derivedClassStats(pd, totalStats.keySet(), handled));
+                classStatCache.put(pd.getUuid(), cacheEntry);
             }
 
-            // 3. 파생 스탯 보너스(Bonuses) 적용
-            for (StatRegistry.StatBonus bonus : statRegistry.getBonuses()) {
-                if (bonus.getTarget().equals(statId)) {
-                    if (calculationStack.get().contains(bonus.getSource())) {
-                        continue;
-                    }
+            // A. Lua 계산된 스탯 적용
+            baseValue += cacheEntry.totalStats.getOrDefault(statId, 0.0);
 
-                    double sourceValue = getStat(holder, bonus.getSource());
-                    String safeFormula = bonus.getFormula().replace("source", String.valueOf(sourceValue));
-                    baseValue += expressionEngine.evaluateFormula(safeFormula, holder);
-                }
-            }
+            // B. Lua 로직이 없는 클래스에 대해 YAML 성장 로직 수행
+            var activeClasses = pd.getClassData().getActiveClasses();
+            if (activeClasses != null) {
+                for (Map.Entry<com.antigravity.rpg.feature.player.ClassType, String> entry : activeClasses
+                        .entrySet()) {
+                    String cId = entry.getValue();
+                    if (cId == null || cId.isEmpty())
+                        continue;
 
-            if (def == null)
-                return baseValue;
+                    // 이미 Lua로 처리된 클래스는 스킵
+                    if (cacheEntry.handled.contains(cId))
+                        continue;
 
-            switch (def.getType()) {
-                case FORMULA:
-                    return expressionEngine.evaluate(def.getFormula(), holder);
+                    double multiplier = (entry.getKey() == com.antigravity.rpg.feature.player.ClassType.MAIN) ? 1.0
+                            : (entry.getKey() == com.antigravity.rpg.feature.player.ClassType.SUB ? 0.3 : 0.0);
+                    if (multiplier <= 0)
+                        continue;
 
-                case NATIVE_ATTRIBUTE:
-                    // 마인크래프트 기본 속성(Attribute) 연동
-                    if (holder instanceof NativeStatHolder) {
-                        return ((NativeStatHolder) holder).getNativeAttributeValue(def.getNativeAttribute());
+                    int level = 1;
+                    var cp = pd.getClassData().getProgress(cId);
+                    if (cp != null)
+                        level = cp.getLevel();
+
+                    var cDefOpt = classRegistry.getClass(cId);
+                    if (cDefOpt.isPresent()) {
+                        var cDef = cDefOpt.get();
+                        if (cDef.getGrowth() != null && cDef.getGrowth().getPerLevel() != null) {
+                            String growthExpr = cDef.getGrowth().getPerLevel().get(statId);
+                            if (growthExpr != null) {
+                                double growthVal = 0.0;
+                                if (isNumeric(growthExpr)) {
+                                    growthVal = Double.parseDouble(growthExpr) * (level - 1);
+                                } else { // 수식 평가
+                                    growthVal = expressionEngine.evaluate(growthExpr, holder);
+                                }
+                                baseValue += growthVal * multiplier;
+                            }
+                        }
                     }
-                    return baseValue;
+                }
+            }
+        }
+        return baseValue;
+    }
 
-                case RESOURCE:
-                case SIMPLE:
-                case CHANCE:
-                default:
-                    return baseValue;
+    /**
+     * 직업 스탯 계산 결과가 반영되는 스탯 목록입니다. (Lua 결과 스탯 + 수식으로 된 성장 스탯)
+     * 이 스탯들은 다른 스탯을 읽어 계산될 수 있으므로 스탯 단위 무효화 시 함께 무효화됩니다.
+     */
+    private java.util.Set<String> derivedClassStats(com.antigravity.rpg.feature.player.PlayerData pd,
+            java.util.Set<String> luaStats, java.util.Set<String> handled) {
+        java.util.Set<String> derived = new java.util.HashSet<>(luaStats);
+        var activeClasses = pd.getClassData().getActiveClasses();
+        if (activeClasses == null)
+            return derived;
+        for (String cId : activeClasses.values()) {
+            if (cId == null || cId.isEmpty() || handled.contains(cId))
+                continue;
+            var cDefOpt = classRegistry.getClass(cId);
+            if (cDefOpt.isEmpty() || cDefOpt.get().getGrowth() == null
+                    || cDefOpt.get().getGrowth().getPerLevel() == null)
+                continue;
+            for (Map.Entry<String, String> growth : cDefOpt.get().getGrowth().getPerLevel().entrySet()) {
+                if (!isNumeric(growth.getValue())) {
+                    derived.add(growth.getKey());
+                }
             }
-        } finally {
-            // 계산 완료 후 스택에서 제거
-            calculationStack.get().remove(statId);
         }
+        return derived;
     }
 
     private boolean isNumeric(String str) {
@@ -243,12 +486,15 @@ public class StatCalculator {
     }
 
     /**
-     * 매 틱마다 호출하여 캐시를 초기화하던 메서드입니다.
-     * 이제 Dirty Flag 시스템을 사용하므로, 전체 초기화가 필요한 경우에만 사용하세요.
+     * 모든 대상의 캐시를 초기화합니다.
+     * 변경은 대상/스탯 단위로 무효화되므로 매 틱 호출하지 마세요. 직업/스탯 설정 리로드처럼 전체가 바뀔 때만 사용합니다.
      */
     public void clearAllCache() {
         statCache.clear();
         classStatCache.clear();
+        snapshots.clear();
+        globalVersion = versionCounter.incrementAndGet();
+        holderVersions.clear();
     }
 
     private UUID getHolderId(StatHolder holder) {
@@ -258,13 +504,85 @@ public class StatCalculator {
         return null;
     }
 
+    /**
+     * 한 대상의 스탯 값 배열입니다.
+     * 계산/무효화는 이 객체의 잠금 아래에서 수행되고, 유효 비트는 release/acquire로 공개되므로
+     * 캐시 적중 시의 조회는 잠금 없이 배열만 읽습니다.
+     */
+    private static final class HolderStats {
+
+        private static final java.lang.invoke.VarHandle VALID_BITS = java.lang.invoke.MethodHandles
+                .arrayElementVarHandle(long[].class);
+
+        final StatGraph graph;
+        // 임시 배열의 소유자 (캐시되는 배열이면 null)
+        final StatHolder owner;
+        final double[] values;
+        final boolean[] computing;
+        final long[] valid;
+        // 그래프에 없는 스탯 (원본 값만 존재, StatIds 인덱스 기준)
+        final StatVector extra = new StatVector();
+        final java.util.BitSet computingExtra = new java.util.BitSet();
+
+        HolderStats(StatGraph graph, StatHolder owner) {
+            this.graph = graph;
+            this.owner = owner;
+            this.values = new double[graph.size()];
+            this.computing = new boolean[graph.size()];
+            this.valid = new long[(graph.size() + 63) >>> 6];
+        }
+
+        boolean isValid(int index) {
+            return ((long) VALID_BITS.getAcquire(valid, index >>> 6) & (1L << index)) != 0;
+        }
+
+        // 잠금을 보유한 상태에서 호출
+        void publish(int index, double value) {
+            values[index] = value;
+            int word = index >>> 6;
+            VALID_BITS.setRelease(valid, word, valid[word] | (1L << index));
+        }
+
+        synchronized void invalidate(int index) {
+            clear(index);
+            for (int downstream : graph.downstreamOf(index)) {
+                clear(downstream);
+            }
+        }
+
+        void invalidateExtra(int statIndex) {
+            extra.remove(statIndex);
+        }
+
+        // StatIds 인덱스 기준 무효화 (그래프 밖이면 원본 값 캐시만 제거)
+        void invalidateStat(int statIndex) {
+            if (statIndex < 0)
+                return;
+            int node = graph.nodeOf(statIndex);
+            if (node >= 0) {
+                invalidate(node);
+            } else {
+                invalidateExtra(statIndex);
+            }
+        }
+
+        private void clear(int index) {
+            int word = index >>> 6;
+            VALID_BITS.setRelease(valid, word, valid[word] & ~(1L << index));
+        }
+    }
+
     private static class ClassStatCacheEntry {
         final Map<String, Double> totalStats;
         final java.util.Set<String> handled;
+        // 직업 스탯 결과가 반영되는 스탯 (스탯 단위 무효화 시 함께 무효화)
+        final java.util.Set<String> derived;
 
-        ClassStatCacheEntry(Map<String, Double> totalStats, java.util.Set<String> handled) {
+        ClassStatCacheEntry(Map<String, Double> totalStats, java.util.Set<String> handled,
+                java.util.Set<String> derived) {
             this.totalStats = totalStats;
             this.handled = handled;
+            this.derived = derived;
         }
     }
 
@@ -275,6 +593,22 @@ public class StatCalculator {
         double getRawStat(String statId);
     }
 
+    /**
+     * 출처별 수정자 스택(버프, 시너지 등)을 가진 스탯 보유 대상입니다.
+     * 수정자는 스탯 계산의 마지막 단계에서 적용되며, 변경 시 보유 대상이 해당 스탯을 무효화해야 합니다.
+     */
+    public interface ModifiableStatHolder extends StatHolder {
+        ModifierStack getModifierStack();
+    }
+
+    /**
+     * StatIds 인덱스로 최종 스탯을 조회할 수 있는 대상입니다.
+     * 컴파일된 수식은 이 인터페이스가 있으면 문자열 대신 인덱스로 변수를 읽습니다.
+     */
+    public interface IndexedStatHolder extends StatHolder {
+        double getStat(int statIndex);
+    }
+
     /**
      * 스탯 보유 대상이 마인크래프트 기본 속성을 제공하기 위한 인터페이스입니다.
      */
@@ -0,0 +1,399 @@
+package com.antigravity.rpg.core.engine;
+
+import com.antigravity.rpg.core.formula.CompiledFormula;
+import com.antigravity.rpg.core.formula.FormulaCompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * 스탯 정의와 파생 보너스를 로드 시점에 컴파일한 의존성 그래프(DAG)입니다.
+ * <p>
+ * 각 스탯은 위상 정렬 순서대로 인덱스를 부여받으므로, 어떤 스탯의 의존 대상은 항상 더 작은 인덱스를 가집니다.
+ * 의존성은 (1) 해당 스탯을 대상으로 하는 보너스의 source와 보너스 수식 변수,
+ * (2) FORMULA 타입 스탯 수식의 변수로 구성됩니다.
+ * 순환 의존성은 컴파일 시점에 감지되어 경고로 기록되며, 순환을 닫는 간선(보너스)은 비활성화됩니다.
+ * <p>
+ * 인스턴스는 불변이며, StatRegistry가 리로드되면 StatCalculator가 새로 컴파일합니다.
+ */
+public final class StatGraph {
+
+    // DFS 방문 상태
+    private static final Integer VISITING = 1;
+    private static final Integer DONE = 2;
+
+    private final int revision;
+    // 인덱스(위상 순서) -> 스탯 ID
+    private final String[] ids;
+    private final Map<String, Integer> indexById;
+    // StatIds 인덱스 -> 그래프 인덱스 (-1이면 그래프 밖)
+    private final int[] nodeByStatIndex;
+    // 그래프 인덱스 -> StatIds 인덱스
+    private final int[] statIndexByNode;
+    private final StatDefinition[] definitions;
+    // 인덱스 -> 먼저 계산되어야 하는 스탯 인덱스
+    private final int[][] dependencies;
+    // 인덱스 -> 이 스탯이 바뀌면 다시 계산해야 하는 모든 하위 스탯 인덱스 (자신 제외)
+    private final int[][] downstream;
+    // 인덱스 -> 이 스탯을 대상으로 하는 보너스
+    private final Bonus[][] bonuses;
+    // 인덱스 -> 캐싱 가능 여부 (NATIVE_ATTRIBUTE 스탯과 그 하위 스탯은 변경 알림이 없으므로 false)
+    private final boolean[] cacheable;
+    private final List<String> cycles;
+
+    private StatGraph(int revision, String[] ids, Map<String, Integer> indexById, StatDefinition[] definitions,
+            int[][] dependencies, int[][] downstream, Bonus[][] bonuses, boolean[] cacheable, List<String> cycles) {
+        this.revision = revision;
+        this.ids = ids;
+        this.indexById = indexById;
+        this.statIndexByNode = new int[ids.length];
+        int maxStatIndex = -1;
+        for (int i = 0; i < ids.length; i++) {
+            statIndexByNode[i] = StatIds.intern(ids[i]);
+            maxStatIndex = Math.max(maxStatIndex, statIndexByNode[i]);
+        }
+        this.nodeByStatIndex = new int[maxStatIndex + 1];
+        Arrays.fill(nodeByStatIndex, -1);
+        for (int i = 0; i < ids.length; i++) {
+            nodeByStatIndex[statIndexByNode[i]] = i;
+        }
+        this.definitions = definitions;
+        this.dependencies = dependencies;
+        this.downstream = downstream;
+        this.bonuses = bonuses;
+        this.cacheable = cacheable;
+        this.cycles = cycles;
+    }
+
+    /**
+     * 스탯 정의와 보너스로 그래프를 컴파일합니다.
+     *
+     * @param revision        StatRegistry 리비전 (재컴파일 여부 판단용)
+     * @param definitions     스탯 정의 목록
+     * @param statBonuses     파생 보너스 목록
+     * @param formulaResolver FORMULA 스탯의 수식 키를 실제 수식 문자열로 변환하는 함수
+     * @param logger          순환 의존성 경고를 기록할 로거 (null 허용)
+     */
+    public static StatGraph compile(int revision, Collection<StatDefinition> definitions,
+            List<StatRegistry.StatBonus> statBonuses, Function<String, String> formulaResolver, Logger logger) {
+        // 1. 노드 수집 (정의된 스탯 + 보너스/수식에서 참조되는 스탯)
+        Map<String, StatDefinition> defById = new LinkedHashMap<>();
+        for (StatDefinition def : definitions) {
+            defById.put(def.getId(), def);
+        }
+
+        // 변수는 실제 평가에 쓰는 컴파일러 기준으로 수집 ({key}뿐 아니라 중괄호 없는 식별자도 스탯 변수)
+        Map<String, Set<String>> formulaDeps = new HashMap<>();
+        Map<String, List<StatRegistry.StatBonus>> bonusesByTarget = new LinkedHashMap<>();
+        Map<StatRegistry.StatBonus, CompiledFormula> compiledBonuses = new HashMap<>();
+        Set<String> nodes = new LinkedHashSet<>(defById.keySet());
+
+        for (StatDefinition def : defById.values()) {
+            if (def.getType() != StatType.FORMULA)
+                continue;
+            Set<String> vars = formulaVariablesOf(formulaResolver.apply(def.getFormula()));
+            formulaDeps.put(def.getId(), vars);
+            nodes.addAll(vars);
+        }
+        for (StatRegistry.StatBonus bonus : statBonuses) {
+            CompiledFormula compiled = compileBonus(bonus, logger);
+            compiledBonuses.put(bonus, compiled);
+            bonusesByTarget.computeIfAbsent(bonus.getTarget(), k -> new ArrayList<>()).add(bonus);
+            nodes.add(bonus.getTarget());
+            nodes.add(bonus.getSource());
+            nodes.addAll(compiled.getVariables());
+        }
+
+        // 2. 간선 구성: 노드 -> (의존 대상, 간선을 만든 보너스 또는 null)
+        Map<String, List<Edge>> edges = new HashMap<>();
+        for (String node : nodes) {
+            List<Edge> list = new ArrayList<>();
+            Set<String> vars = formulaDeps.get(node);
+            if (vars != null) {
+                for (String var : vars) {
+                    list.add(new Edge(var, null));
+                }
+            }
+            List<StatRegistry.StatBonus> targeted = bonusesByTarget.get(node);
+            if (targeted != null) {
+                for (StatRegistry.StatBonus bonus : targeted) {
+                    list.add(new Edge(bonus.getSource(), bonus));
+                    for (String var : compiledBonuses.get(bonus).getVariables()) {
+                        list.add(new Edge(var, bonus));
+                    }
+                }
+            }
+            edges.put(node, list);
+        }
+
+        // 3. DFS 후위 순회로 위상 정렬 (역방향 간선 = 순환, 해당 간선 제거)
+        List<String> order = new ArrayList<>(nodes.size());
+        Map<String, Integer> state = new HashMap<>();
+        Set<StatRegistry.StatBonus> disabled = new LinkedHashSet<>();
+        List<String> cycles = new ArrayList<>();
+        List<String> path = new ArrayList<>();
+        for (String node : nodes) {
+            visit(node, edges, state, order, path, disabled, cycles);
+        }
+
+        // 4. 인덱스 배열 구성
+        int size = order.size();
+        String[] ids = order.toArray(new String[0]);
+        Map<String, Integer> indexById = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            indexById.put(ids[i], i);
+        }
+
+        StatDefinition[] defs = new StatDefinition[size];
+        int[][] deps = new int[size][];
+        Bonus[][] bonusArray = new Bonus[size][];
+        for (int i = 0; i < size; i++) {
+            String id = ids[i];
+            defs[i] = defById.get(id);
+
+            BitSet depSet = new BitSet(size);
+            for (Edge edge : edges.get(id)) {
+                if (edge.removed || (edge.bonus != null && disabled.contains(edge.bonus)))
+                    continue;
+                depSet.set(indexById.get(edge.target));
+            }
+            deps[i] = depSet.stream().toArray();
+
+            List<Bonus> active = new ArrayList<>();
+            List<StatRegistry.StatBonus> targeted = bonusesByTarget.get(id);
+            if (targeted != null) {
+                for (StatRegistry.StatBonus bonus : targeted) {
+                    if (!disabled.contains(bonus)) {
+                        active.add(new Bonus(indexById.get(bonus.getSource()), bonus.getSource(), bonus.getFormula(),
+                                compiledBonuses.get(bonus)));
+                    }
+                }
+            }
+            bonusArray[i] = active.toArray(new Bonus[0]);
+        }
+
+        // 5. 하위 스탯 폐포 계산 (역위상 순서로 누적)
+        BitSet[] downSets = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            downSets[i] = new BitSet(size);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            for (int dep : deps[i]) {
+                downSets[dep].set(i);
+                downSets[dep].or(downSets[i]);
+            }
+        }
+        int[][] downstream = new int[size][];
+        for (int i = 0; i < size; i++) {
+            downstream[i] = downSets[i].stream().toArray();
+        }
+
+        // 6. 캐싱 불가 스탯: 마인크래프트 기본 속성은 변경 시 무효화 알림이 없으므로 그 하위 스탯까지 매번 계산
+        boolean[] cacheable = new boolean[size];
+        Arrays.fill(cacheable, true);
+        for (int i = 0; i < size; i++) {
+            if (defs[i] != null && defs[i].getType() == StatType.NATIVE_ATTRIBUTE) {
+                cacheable[i] = false;
+                for (int down : downstream[i]) {
+                    cacheable[down] = false;
+                }
+            }
+        }
+
+        if (logger != null) {
+            for (String cycle : cycles) {
+                logger.warning("[StatGraph] 스탯 순환 의존성 감지: " + cycle
+                        + " (A -> B는 A가 B를 참조함을 의미, 순환을 닫는 보너스는 비활성화됩니다)");
+            }
+        }
+        return new StatGraph(revision, ids, indexById, defs, deps, downstream, bonusArray, cacheable,
+                List.copyOf(cycles));
+    }
+
+    // FORMULA 스탯 수식의 스탯 변수 (문법 오류면 의존성 없음, 오류는 평가 시 기록됨)
+    private static Set<String> formulaVariablesOf(String formula) {
+        try {
+            return FormulaCompiler.compile(formula).getVariables();
+        } catch (IllegalArgumentException e) {
+            return Set.of();
+        }
+    }
+
+    // 보너스 수식을 source 매개변수와 함께 한 번만 컴파일 (오류 시 0으로 대체)
+    private static CompiledFormula compileBonus(StatRegistry.StatBonus bonus, Logger logger) {
+        try {
+            return FormulaCompiler.compile(bonus.getFormula(), Bonus.SOURCE_PARAMETER);
+        } catch (IllegalArgumentException e) {
+            if (logger != null) {
+                logger.warning("[StatGraph] 보너스 수식 오류 (" + bonus.getSource() + " -> " + bonus.getTarget() + "): "
+                        + e.getMessage());
+            }
+            return CompiledFormula.ZERO;
+        }
+    }
+
+    private static void visit(String node, Map<String, List<Edge>> edges, Map<String, Integer> state,
+            List<String> order, List<String> path, Set<StatRegistry.StatBonus> disabled, List<String> cycles) {
+        Integer current = state.get(node);
+        if (current != null)
+            return;
+
+        state.put(node, VISITING);
+        path.add(node);
+        for (Edge edge : edges.get(node)) {
+            if (edge.bonus != null && disabled.contains(edge.bonus))
+                continue;
+            Integer targetState = state.get(edge.target);
+            if (targetState == null) {
+                visit(edge.target, edges, state, order, path, disabled, cycles);
+            } else if (VISITING.equals(targetState)) {
+                // 순환 경로 기록: target -> ... -> node -> target
+                List<String> loop = new ArrayList<>(path.subList(path.indexOf(edge.target), path.size()));
+                loop.add(edge.target);
+                cycles.add(String.join(" -> ", loop));
+                edge.removed = true;
+                if (edge.bonus != null) {
+                    disabled.add(edge.bonus);
+                }
+            }
+        }
+        path.remove(path.size() - 1);
+        state.put(node, DONE);
+        order.add(node);
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 스탯 ID의 인덱스를 반환합니다. 그래프에 없으면 -1.
+     */
+    public int indexOf(String statId) {
+        Integer index = indexById.get(statId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * StatIds 인덱스에 해당하는 그래프 인덱스를 반환합니다. 그래프에 없으면 -1. (문자열 해싱 없음)
+     */
+    public int nodeOf(int statIndex) {
+        return statIndex >= 0 && statIndex < nodeByStatIndex.length ? nodeByStatIndex[statIndex] : -1;
+    }
+
+    public int statIndexAt(int index) {
+        return statIndexByNode[index];
+    }
+
+    public String idAt(int index) {
+        return ids[index];
+    }
+
+    /**
+     * 스탯 정의를 반환합니다. 정의 없이 참조만 되는 스탯이면 null.
+     */
+    public StatDefinition definitionAt(int index) {
+        return definitions[index];
+    }
+
+    public int[] dependenciesOf(int index) {
+        return dependencies[index];
+    }
+
+    public int[] downstreamOf(int index) {
+        return downstream[index];
+    }
+
+    public Bonus[] bonusesOf(int index) {
+        return bonuses[index];
+    }
+
+    /**
+     * 계산 결과를 캐싱해도 되는지 여부입니다. (NATIVE_ATTRIBUTE 스탯과 그 하위 스탯은 false)
+     */
+    public boolean isCacheable(int index) {
+        return cacheable[index];
+    }
+
+    /**
+     * 컴파일 시 감지된 순환 경로 목록입니다. (예: "A -> B -> A")
+     */
+    public List<String> getCycles() {
+        return cycles;
+    }
+
+    @Override
+    public String toString() {
+        return "StatGraph{revision=" + revision + ", stats=" + Arrays.toString(ids) + "}";
+    }
+
+    /**
+     * 컴파일된 파생 보너스입니다. (source 스탯 인덱스 + 수식)
+     * 수식의 source는 매개변수로 컴파일되어 있으므로 평가할 때마다 수식 문자열을 만들지 않습니다.
+     */
+    public static final class Bonus {
+        /**
+         * 보너스 수식에서 source 스탯 값을 가리키는 매개변수 이름
+         */
+        public static final String SOURCE_PARAMETER = "source";
+
+        private final int sourceIndex;
+        private final String source;
+        private final String formula;
+        private final CompiledFormula compiled;
+
+        Bonus(int sourceIndex, String source, String formula, CompiledFormula compiled) {
+            this.sourceIndex = sourceIndex;
+            this.source = source;
+            this.formula = formula;
+            this.compiled = compiled;
+        }
+
+        /**
+         * 보너스 값을 계산합니다.
+         *
+         * @param holder      수식의 다른 스탯 변수를 제공할 대상
+         * @param sourceValue source 스탯의 현재 값
+         */
+        public double evaluate(StatHolder holder, double sourceValue) {
+            return compiled.evaluate(holder, sourceValue);
+        }
+
+        public int getSourceIndex() {
+            return sourceIndex;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public String getFormula() {
+            return formula;
+        }
+    }
+
+    private static final class Edge {
+        final String target;
+        final StatRegistry.StatBonus bonus;
+        boolean removed;
+
+        Edge(String target, StatRegistry.StatBonus bonus) {
+            this.target = target;
+            this.bonus = bonus;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.antigravity.rpg.core.engine;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스탯 ID 문자열에 밀집(dense) 정수 인덱스를 부여합니다.
+ * StatVector 등은 이 인덱스로 배열에 직접 접근하므로, 문자열 해싱과 Double 언박싱 없이 스탯을 읽을 수 있습니다.
+ * <p>
+ * 인덱스는 한 번 부여되면 서버 종료 시까지 바뀌지 않습니다. (리로드 후에도 기존 StatVector가 유효)
+ * StatRegistry가 로드 시점에 정의된 스탯을 먼저 등록하므로 정의된 스탯은 작은 인덱스를 가집니다.
+ */
+public final class StatIds {
+
+    private static final Map<String, Integer> indexById = new ConcurrentHashMap<>();
+    private static volatile String[] ids = new String[64];
+    private static volatile int count;
+
+    private StatIds() {
+    }
+
+    /**
+     * 스탯 ID의 인덱스를 반환하며, 처음 보는 ID라면 새 인덱스를 부여합니다.
+     */
+    public static int intern(String statId) {
+        Integer index = indexById.get(statId);
+        if (index != null)
+            return index;
+
+        synchronized (StatIds.class) {
+            index = indexById.get(statId);
+            if (index != null)
+                return index;
+
+            int next = count;
+            String[] current = ids;
+            if (next >= current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[next] = statId;
+            ids = current;
+            count = next + 1;
+            indexById.put(statId, next);
+            return next;
+        }
+    }
+
+    /**
+     * 이미 부여된 인덱스를 반환합니다. 등록되지 않은 ID이면 -1.
+     */
+    public static int indexOf(String statId) {
+        Integer index = indexById.get(statId);
+        return index != null ? index : -1;
+    }
+
+    public static String idOf(int index) {
+        return index >= 0 && index < count ? ids[index] : null;
+    }
+
+    /**
+     * 지금까지 부여된 인덱스 수 (StatVector 초기 용량으로 사용).
+     */
+    public static int size() {
+        return count;
+    }
+}
@@ -2,6 +2,7 @@ package com.antigravity.rpg.core.engine;
 
 import com.antigravity.rpg.AntiGravityPlugin;
 import com.antigravity.rpg.core.config.ConfigDirectoryLoader;
+import com.antigravity.rpg.core.formula.ExpressionEngine;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.bukkit.configuration.ConfigurationSection;
@@ -18,11 +19,19 @@ public class StatRegistry {
     private final java.util.List<StatBonus> bonuses = new java.util.concurrent.CopyOnWriteArrayList<>();
     private final AntiGravityPlugin plugin;
     private final ConfigDirectoryLoader configLoader;
+    private final ExpressionEngine expressionEngine;
+    // [NEW] 로드할 때마다 증가 (StatCalculator가 의존성 그래프 재컴파일 여부 판단에 사용)
+    private final java.util.concurrent.atomic.AtomicInteger revision = new java.util.concurrent.atomic.AtomicInteger();
+
+    // [NEW] 컴파일된 스탯 의존성 그래프 (리비전이 바뀌면 다시 컴파일)
+    private volatile StatGraph graph;
 
     @Inject
-    public StatRegistry(AntiGravityPlugin plugin, ConfigDirectoryLoader configLoader) {
+    public StatRegistry(AntiGravityPlugin plugin, ConfigDirectoryLoader configLoader,
+            ExpressionEngine expressionEngine) {
         this.plugin = plugin;
         this.configLoader = configLoader;
+        this.expressionEngine = expressionEngine;
         loadStats();
     }
 
@@ -79,7 +88,10 @@ public class StatRegistry {
             }
         }
 
+        revision.incrementAndGet();
         plugin.getLogger().info("Loaded " + stats.size() + " stats and " + bonuses.size() + " bonuses.");
+        // 로드 시점에 의존성 그래프를 컴파일하여 순환 의존성을 즉시 보고
+        getGraph();
     }
 
     private void registerStatFromSection(String key, ConfigurationSection s) {
@@ -104,7 +116,49 @@ public class StatRegistry {
     }
 
     public void register(StatDefinition stat) {
+        // 정의된 스탯에 밀집 인덱스 부여 (이미 부여된 경우 유지)
+        StatIds.intern(stat.getId());
         stats.put(stat.getId(), stat);
+        revision.incrementAndGet();
+    }
+
+    /**
+     * 스탯 ID의 밀집 인덱스를 반환합니다. (StatVector 접근용, 등록되지 않은 ID이면 -1)
+     */
+    public int indexOf(String id) {
+        return StatIds.indexOf(id);
+    }
+
+    /**
+     * 스탯 정의/보너스가 바뀔 때마다 증가하는 리비전 번호입니다.
+     */
+    public int getRevision() {
+        return revision.get();
+    }
+
+    public java.util.Collection<StatDefinition> getDefinitions() {
+        return stats.values();
+    }
+
+    /**
+     * 컴파일된 스탯 의존성 그래프를 반환합니다. 정의가 바뀐 뒤 처음 호출될 때 다시 컴파일됩니다.
+     */
+    public StatGraph getGraph() {
+        StatGraph current = graph;
+        int currentRevision = revision.get();
+        if (current != null && current.getRevision() == currentRevision)
+            return current;
+
+        synchronized (this) {
+            current = graph;
+            currentRevision = revision.get();
+            if (current == null || current.getRevision() != currentRevision) {
+                current = StatGraph.compile(currentRevision, stats.values(), bonuses,
+                        expressionEngine::resolveFormula, plugin.getLogger());
+                graph = current;
+            }
+            return current;
+        }
     }
 
     public Optional<StatDefinition> getStat(String id) {
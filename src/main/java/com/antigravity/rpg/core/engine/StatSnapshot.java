@@ -0,0 +1,86 @@
+package com.antigravity.rpg.core.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 특정 시점의 스탯 값을 담은 불변 스냅샷입니다. StatIds 인덱스로 접근합니다.
+ * <p>
+ * {@link StatCalculator#snapshot(StatHolder)}가 대상의 스탯 버전이 바뀔 때만 새로 만들고, 그 사이에는 같은 인스턴스를 공유합니다.
+ * 불변이므로 스킬 컨텍스트 사본, 투사체 틱/피격 처리 등에서 복사 없이 참조만 넘겨도 안전합니다.
+ */
+public final class StatSnapshot {
+
+    public static final StatSnapshot EMPTY = new StatSnapshot(-1L, -1, new double[0], new long[0]);
+
+    private final long version;
+    private final int graphRevision;
+    private final double[] values;
+    private final long[] present;
+
+    StatSnapshot(long version, int graphRevision, double[] values, long[] present) {
+        this.version = version;
+        this.graphRevision = graphRevision;
+        this.values = values;
+        this.present = present;
+    }
+
+    /**
+     * 스냅샷 생성 시점의 스탯 버전입니다. (캐시되지 않는 대상이면 -1)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    int getGraphRevision() {
+        return graphRevision;
+    }
+
+    public boolean has(int statIndex) {
+        int word = statIndex >>> 6;
+        return statIndex >= 0 && word < present.length && (present[word] & (1L << statIndex)) != 0;
+    }
+
+    /**
+     * 스탯 값을 반환합니다. 스냅샷에 없으면 0.
+     */
+    public double get(int statIndex) {
+        return statIndex >= 0 && statIndex < values.length ? values[statIndex] : 0.0;
+    }
+
+    public double get(int statIndex, double fallback) {
+        return has(statIndex) ? values[statIndex] : fallback;
+    }
+
+    // ===== String 호환 계층 =====
+
+    public boolean has(String statId) {
+        return has(StatIds.indexOf(statId));
+    }
+
+    public double get(String statId) {
+        return get(StatIds.indexOf(statId));
+    }
+
+    public double get(String statId, double fallback) {
+        return get(StatIds.indexOf(statId), fallback);
+    }
+
+    /**
+     * 스냅샷을 Map으로 복사하여 반환합니다. (디버그/호환용)
+     */
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (has(i)) {
+                map.put(StatIds.idOf(i), values[i]);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "StatSnapshot{version=" + version + ", stats=" + toMap() + "}";
+    }
+}
@@ -0,0 +1,173 @@
+package com.antigravity.rpg.core.engine;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * StatIds 인덱스로 접근하는 스탯 값 배열입니다. {@code Map<String, Double>}을 대체합니다.
+ * <p>
+ * 값이 설정된 스탯은 비트셋으로 구분하므로 "값 없음"과 0을 구별할 수 있습니다.
+ * 쓰기는 동기화되며, 읽기는 잠금 없이 배열을 직접 읽습니다.
+ * 문자열 기반 메서드는 기존 코드와의 호환을 위한 계층이며, 자주 호출되는 경로에서는 인덱스 메서드를 사용하세요.
+ */
+public final class StatVector {
+
+    private volatile double[] values;
+    private volatile long[] present;
+
+    public StatVector() {
+        this(StatIds.size());
+    }
+
+    public StatVector(int capacity) {
+        int size = Math.max(16, capacity);
+        this.values = new double[size];
+        this.present = new long[(size + 63) >>> 6];
+    }
+
+    // ===== Index API =====
+
+    public boolean has(int index) {
+        long[] bits = present;
+        int word = index >>> 6;
+        return index >= 0 && word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * 스탯 값을 반환합니다. 값이 없으면 0.
+     */
+    public double get(int index) {
+        double[] current = values;
+        return index >= 0 && index < current.length ? current[index] : 0.0;
+    }
+
+    public double get(int index, double fallback) {
+        return has(index) ? get(index) : fallback;
+    }
+
+    public synchronized void set(int index, double value) {
+        ensureCapacity(index);
+        values[index] = value;
+        present[index >>> 6] |= 1L << index;
+    }
+
+    public synchronized void add(int index, double delta) {
+        set(index, get(index) + delta);
+    }
+
+    public synchronized void remove(int index) {
+        if (!has(index))
+            return;
+        values[index] = 0.0;
+        present[index >>> 6] &= ~(1L << index);
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(values, 0.0);
+        Arrays.fill(present, 0L);
+    }
+
+    /**
+     * 다른 벡터의 값을 모두 덮어씁니다. (없는 스탯은 유지)
+     */
+    public synchronized void setAll(StatVector other) {
+        other.forEach(this::set);
+    }
+
+    /**
+     * 값이 설정된 스탯을 인덱스 순으로 순회합니다.
+     */
+    public void forEach(Visitor visitor) {
+        double[] currentValues = values;
+        long[] bits = present;
+        for (int word = 0; word < bits.length; word++) {
+            long mask = bits[word];
+            while (mask != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                if (index < currentValues.length) {
+                    visitor.accept(index, currentValues[index]);
+                }
+            }
+        }
+    }
+
+    public StatVector copy() {
+        StatVector copy = new StatVector(values.length);
+        copy.setAll(this);
+        return copy;
+    }
+
+    private void ensureCapacity(int index) {
+        if (index < values.length)
+            return;
+        int newSize = Math.max(values.length * 2, index + 1);
+        values = Arrays.copyOf(values, newSize);
+        present = Arrays.copyOf(present, (newSize + 63) >>> 6);
+    }
+
+    // ===== String 호환 계층 =====
+
+    public boolean has(String statId) {
+        return has(StatIds.indexOf(statId));
+    }
+
+    public double get(String statId) {
+        return get(StatIds.indexOf(statId));
+    }
+
+    public double get(String statId, double fallback) {
+        return get(StatIds.indexOf(statId), fallback);
+    }
+
+    public void set(String statId, double value) {
+        set(StatIds.intern(statId), value);
+    }
+
+    public void add(String statId, double delta) {
+        add(StatIds.intern(statId), delta);
+    }
+
+    public void remove(String statId) {
+        int index = StatIds.indexOf(statId);
+        if (index >= 0) {
+            remove(index);
+        }
+    }
+
+    /**
+     * 값이 설정된 스탯을 새 Map으로 복사합니다. (직렬화/Lua 연동 등)
+     */
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        forEach((index, value) -> map.put(StatIds.idOf(index), value));
+        return map;
+    }
+
+    /**
+     * Map의 숫자 값을 모두 설정합니다. (역직렬화 시 Long/Double 혼재 허용)
+     */
+    public void putAll(Map<String, ?> map) {
+        if (map == null)
+            return;
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Number number) {
+                set(entry.getKey(), number.doubleValue());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StatVector" + toMap();
+    }
+
+    /**
+     * (스탯 인덱스, 값) 순회 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        void accept(int index, double value);
+    }
+}
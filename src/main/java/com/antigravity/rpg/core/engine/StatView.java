@@ -0,0 +1,22 @@
+package com.antigravity.rpg.core.engine;
+
+/**
+ * 전투 계산에서 사용하는 읽기 전용 스탯 조회 인터페이스입니다.
+ * <p>
+ * 플레이어(PlayerData, 계산·캐싱된 최종 스탯)와 몬스터(EntityStatData)가 모두 구현하므로,
+ * 데미지 계산 시 스탯을 복사하지 않고 원본을 그대로 참조합니다.
+ */
+public interface StatView {
+
+    /**
+     * 스탯 값을 반환합니다. 없으면 0.
+     *
+     * @param statIndex StatIds 인덱스
+     */
+    double getStat(int statIndex);
+
+    /**
+     * 스탯 값을 반환합니다. 없으면 0. (문자열 호환 계층, Lua 스크립트 등)
+     */
+    double getStat(String statId);
+}
@@ -67,7 +67,7 @@ public class EquipmentListener implements Listener {
                     return;
                 }
 
-                data.getEquipment().put(equipmentSlot, cursorItem.clone());
+                data.setEquipment(equipmentSlot, cursorItem.clone());
                 event.getView().setCursor(currentEquipped); // 기존 아이템을 커서로 (교체)
 
                 player.sendMessage(
@@ -75,7 +75,7 @@ public class EquipmentListener implements Listener {
             }
             // 2. 해제 (커서가 비어 있고 슬롯에 아이템이 있는 경우)
             else if (currentEquipped != null && !currentEquipped.getType().isAir()) {
-                data.getEquipment().remove(equipmentSlot);
+                data.setEquipment(equipmentSlot, null);
                 event.getView().setCursor(currentEquipped);
 
                 player.sendMessage(
@@ -0,0 +1,464 @@
+package com.antigravity.rpg.core.formula;
+
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.core.engine.StatHolder;
+import com.antigravity.rpg.core.engine.StatIds;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * {@link FormulaCompiler}가 만든 수식 평가기입니다. (노드 트리)
+ * <p>
+ * 인스턴스는 불변이므로 여러 스레드에서 동시에 평가해도 안전하며(재진입 가능), 평가 중에는 객체를 할당하지 않습니다.
+ * 변수는 컴파일 시 StatIds 인덱스에 바인딩되므로, 인덱스 조회를 지원하는 대상은 문자열 해싱 없이 스탯을 읽습니다.
+ * 0으로 나누거나 나머지를 구하면 해당 항은 0이 됩니다.
+ */
+public final class CompiledFormula {
+
+    /**
+     * 항상 0을 반환하는 수식 (빈 수식 또는 컴파일 실패 시 사용)
+     */
+    public static final CompiledFormula ZERO = new CompiledFormula("0", new Constant(0.0), Set.of());
+
+    private final String source;
+    private final Node root;
+    private final Set<String> variables;
+    // 변수 슬롯별 이름/StatIds 인덱스 (getVariables() 순서, 일괄 평가 시 열 수집용)
+    private final String[] variableNames;
+    private final int[] variableIndices;
+
+    CompiledFormula(String source, Node root, Set<String> variables) {
+        this.source = source;
+        this.root = root;
+        this.variables = variables;
+        this.variableNames = variables.toArray(new String[0]);
+        this.variableIndices = new int[variableNames.length];
+        for (int i = 0; i < variableNames.length; i++) {
+            variableIndices[i] = StatIds.indexOf(variableNames[i]);
+        }
+    }
+
+    /**
+     * 수식을 평가합니다.
+     *
+     * @param holder 변수 값을 제공할 대상 (null이면 모든 변수가 0)
+     */
+    public double evaluate(StatHolder holder) {
+        return root.eval(holder, 0.0);
+    }
+
+    /**
+     * 매개변수를 바인딩하여 수식을 평가합니다.
+     *
+     * @param holder   변수 값을 제공할 대상 (null이면 모든 변수가 0)
+     * @param argument 컴파일 시 지정한 매개변수의 값 (예: 보너스 수식의 source)
+     * @see FormulaCompiler#compile(String, String)
+     */
+    public double evaluate(StatHolder holder, double argument) {
+        return root.eval(holder, argument);
+    }
+
+    /**
+     * 변수별 값 배열(열)에 대해 수식을 한 번에 평가합니다. {@link FormulaBatch}가 사용합니다.
+     *
+     * @param columns columns[slot][i] = i번째 대상의 slot번째 변수 값 (slot은 getVariables() 순서)
+     * @param count   대상 수
+     * @param out     결과 배열 (길이 count 이상)
+     */
+    void evaluateColumns(double[][] columns, int count, double[] out, FormulaBatch.Scratch scratch) {
+        root.evalColumns(columns, 0.0, out, count, scratch);
+    }
+
+    int variableCount() {
+        return variableNames.length;
+    }
+
+    String variableAt(int slot) {
+        return variableNames[slot];
+    }
+
+    // 컴파일 시 미등록이던 변수는 등록된 뒤 처음 조회할 때 인덱스를 기록 (-1이면 아직 미등록)
+    int statIndexAt(int slot) {
+        int index = variableIndices[slot];
+        if (index < 0) {
+            index = StatIds.indexOf(variableNames[slot]);
+            variableIndices[slot] = index;
+        }
+        return index;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 수식이 참조하는 변수 이름 ({key} 및 함수/상수가 아닌 식별자, 매개변수 제외)
+     */
+    public Set<String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * 변수가 없어 컴파일 시 값이 확정된 수식인지 확인합니다.
+     */
+    public boolean isConstant() {
+        return root instanceof Constant;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledFormula{" + source + "}";
+    }
+
+    // ===== 노드 =====
+
+    abstract static class Node {
+        abstract double eval(StatHolder holder, double argument);
+
+        // 대상 count개에 대해 평가하여 out[0..count)에 기록 (각 단계가 단순 배열 루프이므로 JIT 자동 벡터화 대상)
+        abstract void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch);
+    }
+
+    static final class Constant extends Node {
+        final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return value;
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            Arrays.fill(out, 0, count, value);
+        }
+    }
+
+    static final class Variable extends Node {
+        final String name;
+        // 컴파일 시 미등록이면 -1, 등록된 뒤 첫 평가에서 기록 (같은 값만 쓰므로 동기화 불필요)
+        int statIndex;
+        final int slot;
+
+        Variable(String name, int statIndex, int slot) {
+            this.name = name;
+            this.statIndex = statIndex;
+            this.slot = slot;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            if (holder == null)
+                return 0.0;
+            if (holder instanceof StatCalculator.IndexedStatHolder indexed) {
+                int index = statIndex;
+                if (index < 0) {
+                    index = StatIds.indexOf(name);
+                    statIndex = index;
+                }
+                if (index >= 0) {
+                    return indexed.getStat(index);
+                }
+            }
+            return holder.getStat(name);
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            System.arraycopy(columns[slot], 0, out, 0, count);
+        }
+    }
+
+    static final class Parameter extends Node {
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return argument;
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            Arrays.fill(out, 0, count, argument);
+        }
+    }
+
+    static final class Negate extends Node {
+        final Node operand;
+
+        Negate(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return -operand.eval(holder, argument);
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            operand.evalColumns(columns, argument, out, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = -out[i];
+            }
+        }
+    }
+
+    static final class Add extends Node {
+        final Node left;
+        final Node right;
+
+        Add(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return left.eval(holder, argument) + right.eval(holder, argument);
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            left.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            right.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = out[i] + rhs[i];
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Subtract extends Node {
+        final Node left;
+        final Node right;
+
+        Subtract(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return left.eval(holder, argument) - right.eval(holder, argument);
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            left.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            right.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = out[i] - rhs[i];
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Multiply extends Node {
+        final Node left;
+        final Node right;
+
+        Multiply(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return left.eval(holder, argument) * right.eval(holder, argument);
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            left.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            right.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = out[i] * rhs[i];
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Divide extends Node {
+        final Node left;
+        final Node right;
+
+        Divide(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            double divisor = right.eval(holder, argument);
+            return divisor == 0.0 ? 0.0 : left.eval(holder, argument) / divisor;
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            left.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            right.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = rhs[i] == 0.0 ? 0.0 : out[i] / rhs[i];
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Modulo extends Node {
+        final Node left;
+        final Node right;
+
+        Modulo(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            double divisor = right.eval(holder, argument);
+            return divisor == 0.0 ? 0.0 : left.eval(holder, argument) % divisor;
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            left.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            right.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = rhs[i] == 0.0 ? 0.0 : out[i] % rhs[i];
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Power extends Node {
+        final Node base;
+        final Node exponent;
+
+        Power(Node base, Node exponent) {
+            this.base = base;
+            this.exponent = exponent;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return Math.pow(base.eval(holder, argument), exponent.eval(holder, argument));
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            base.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            exponent.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = Math.pow(out[i], rhs[i]);
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Function1 extends Node {
+        final DoubleUnaryOperator function;
+        final Node operand;
+
+        Function1(DoubleUnaryOperator function, Node operand) {
+            this.function = function;
+            this.operand = operand;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return function.applyAsDouble(operand.eval(holder, argument));
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            operand.evalColumns(columns, argument, out, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = function.applyAsDouble(out[i]);
+            }
+        }
+    }
+
+    static final class Function2 extends Node {
+        final DoubleBinaryOperator function;
+        final Node first;
+        final Node second;
+
+        Function2(DoubleBinaryOperator function, Node first, Node second) {
+            this.function = function;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return function.applyAsDouble(first.eval(holder, argument), second.eval(holder, argument));
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            first.evalColumns(columns, argument, out, count, scratch);
+            double[] rhs = scratch.acquire(count);
+            second.evalColumns(columns, argument, rhs, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = function.applyAsDouble(out[i], rhs[i]);
+            }
+            scratch.release();
+        }
+    }
+
+    static final class Clamp extends Node {
+        final Node value;
+        final Node min;
+        final Node max;
+
+        Clamp(Node value, Node min, Node max) {
+            this.value = value;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        double eval(StatHolder holder, double argument) {
+            return Math.max(min.eval(holder, argument), Math.min(max.eval(holder, argument), value.eval(holder, argument)));
+        }
+
+        @Override
+        void evalColumns(double[][] columns, double argument, double[] out, int count,
+                FormulaBatch.Scratch scratch) {
+            value.evalColumns(columns, argument, out, count, scratch);
+            double[] lower = scratch.acquire(count);
+            min.evalColumns(columns, argument, lower, count, scratch);
+            double[] upper = scratch.acquire(count);
+            max.evalColumns(columns, argument, upper, count, scratch);
+            for (int i = 0; i < count; i++) {
+                out[i] = Math.max(lower[i], Math.min(upper[i], out[i]));
+            }
+            scratch.release();
+            scratch.release();
+        }
+    }
+}
@@ -2,53 +2,118 @@ package com.antigravity.rpg.core.formula;
 
 import com.antigravity.rpg.AntiGravityPlugin;
 import com.antigravity.rpg.core.engine.StatHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import net.objecthunter.exp4j.Expression;
-import net.objecthunter.exp4j.ExpressionBuilder;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * 수식 계산을 담당하는 엔진입니다.
- * exp4j 라이브러리를 사용하며, 성능 향상을 위해 컴파일된 수식을 캐싱합니다.
+ * 수식은 {@link FormulaCompiler}로 한 번 컴파일하여 캐싱하며, 컴파일된 수식은 불변이므로
+ * 비동기 스킬 단계 등 여러 스레드에서 동시에 평가해도 안전합니다.
  */
 @Singleton
 public class ExpressionEngine {
 
-    // 컴파일된 수식을 저장하는 캐시 (성능 최적화)
-    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
     private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([a-zA-Z0-9_]+)\\}");
+    private static final long DEFAULT_CACHE_SIZE = 1024;
 
-    @Inject
+    // 컴파일된 수식을 저장하는 캐시 (크기 제한, 초과 시 오래 쓰이지 않은 수식부터 제거)
+    private final Cache<String, CompiledFormula> formulaCache;
+
+    // 일괄 평가용 작업 버퍼 (스레드별 재사용)
+    private final ThreadLocal<FormulaBatch> batches = ThreadLocal.withInitial(FormulaBatch::new);
+
+    private final AntiGravityPlugin plugin;
+    private final FormulaRegistry formulaRegistry;
+
+    // DI 없이 생성할 때 사용 (테스트 등)
     public ExpressionEngine(AntiGravityPlugin plugin) {
-        this.plugin = plugin;
+        this(plugin, new FormulaRegistry(plugin));
     }
 
-    private final AntiGravityPlugin plugin;
+    @Inject
+    public ExpressionEngine(AntiGravityPlugin plugin, FormulaRegistry formulaRegistry) {
+        this.plugin = plugin;
+        this.formulaRegistry = formulaRegistry;
+        long maxSize = DEFAULT_CACHE_SIZE;
+        if (plugin != null && plugin.getConfig() != null) {
+            maxSize = Math.max(1L, plugin.getConfig().getLong("formula-cache.max-size", DEFAULT_CACHE_SIZE));
+        }
+        this.formulaCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
 
     /**
      * config.yml의 formulas 섹션에 정의된 수식을 가져와 계산합니다.
+     * 수식은 {@link FormulaRegistry}에 미리 컴파일되어 있으므로 설정을 다시 조회하지 않습니다.
      * 
      * @param formulaKey config.yml 내의 키 (예: "formulas.damage-reduction")
      * @param holder     스탯 정보를 제공할 대상
      * @return 계산된 실수 값. 수식이 없거나 오류 생기면 0.0
      */
     public double evaluate(String formulaKey, StatHolder holder) {
-        String formula = plugin.getConfig().getString("formulas." + formulaKey);
-        if (formula == null) {
-            // 키 전체를 인자로 받았을 수도 있으므로 재시도 (legacy support or direct path)
-            formula = plugin.getConfig().getString(formulaKey);
+        CompiledFormula formula = formulaRegistry.get(formulaKey);
+        if (formula == null)
+            return 0.0;
+        try {
+            return formula.evaluate(holder);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return 0.0;
         }
+    }
 
-        if (formula == null || formula.isEmpty()) {
-            // plugin.getLogger().warning("Formula not found in config: " + formulaKey);
-            return 0.0;
+    /**
+     * config.yml의 수식 하나를 여러 대상에 대해 한 번에 계산합니다. (예: 접속 중인 모든 플레이어의 마나 회복량)
+     * 
+     * @param formulaKey config.yml 내의 키
+     * @param holders    스탯 정보를 제공할 대상 배열
+     * @param count      계산할 대상 수 (holders 앞쪽부터)
+     * @param out        결과를 기록할 배열 (길이 count 이상)
+     * @return 수식이 있으면 true, 없으면 false (out은 변경되지 않음)
+     */
+    public boolean evaluateBatch(String formulaKey, StatHolder[] holders, int count, double[] out) {
+        CompiledFormula formula = formulaRegistry.get(formulaKey);
+        if (formula == null)
+            return false;
+        try {
+            batches.get().evaluate(formula, holders, count, out);
+        } catch (Exception e) {
+            e.printStackTrace();
+            java.util.Arrays.fill(out, 0, count, 0.0);
+        }
+        return true;
+    }
+
+    /**
+     * config.yml에서 수식 키에 해당하는 수식 문자열을 찾습니다.
+     *
+     * @param formulaKey formulas 섹션 내의 키 또는 전체 경로
+     * @return 수식 문자열, 없으면 null
+     */
+    public String resolveFormula(String formulaKey) {
+        return formulaRegistry.getSource(formulaKey);
+    }
+
+    /**
+     * 수식에서 참조하는 변수({key}) 이름을 추출합니다.
+     */
+    public static java.util.Set<String> variablesOf(String formula) {
+        java.util.Set<String> variables = new java.util.LinkedHashSet<>();
+        if (formula == null)
+            return variables;
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(formula);
+        while (matcher.find()) {
+            variables.add(matcher.group(1));
         }
-        return evaluateFormula(formula, holder);
+        return variables;
     }
 
     /**
@@ -63,42 +128,62 @@ public class ExpressionEngine {
             return 0.0;
 
         try {
-            // 1. 캐시에서 컴파일된 수식 가져오기 또는 생성
-            Expression expression = expressionCache.computeIfAbsent(formula, f -> {
-                // 수식에서 변수({key}) 추출
-                Matcher matcher = PLACEHOLDER_PATTERN.matcher(f);
-                ExpressionBuilder builder = new ExpressionBuilder(f.replaceAll("\\{", "").replaceAll("\\}", ""));
-
-                java.util.Set<String> variables = new java.util.HashSet<>();
-                while (matcher.find()) {
-                    variables.add(matcher.group(1));
-                }
-
-                if (!variables.isEmpty()) {
-                    builder.variables(variables);
-                }
-                return builder.build();
-            });
-
-            // 2. 변수 값 설정
-            for (String var : expression.getVariableNames()) {
-                double val = (holder != null) ? holder.getStat(var) : 0.0;
-                expression.setVariable(var, val);
-            }
-
-            // 3. 계산 결과 반환
-            return expression.evaluate();
+            return compile(formula).evaluate(holder);
         } catch (Exception e) {
-            // 수식 오류 시 0 반환 및 에러 출력
+            // 평가 중 오류(스탯 조회 실패 등) 시 0 반환
             e.printStackTrace();
             return 0.0;
         }
     }
 
+    /**
+     * 수식을 컴파일하여 반환합니다. 결과는 캐싱되며, 여러 스레드에서 동시에 평가해도 안전합니다.
+     * 문법 오류가 있는 수식은 경고를 한 번만 출력하고 항상 0을 반환하는 수식으로 대체됩니다.
+     *
+     * @param formula 수식 문자열
+     * @return 컴파일된 수식
+     */
+    public CompiledFormula compile(String formula) {
+        if (formula == null || formula.isEmpty())
+            return CompiledFormula.ZERO;
+        return formulaCache.get(formula, f -> {
+            try {
+                return FormulaCompiler.compile(f);
+            } catch (IllegalArgumentException e) {
+                if (plugin != null && plugin.getLogger() != null) {
+                    plugin.getLogger().warning("잘못된 수식입니다: " + e.getMessage());
+                }
+                return CompiledFormula.ZERO;
+            }
+        });
+    }
+
+    /**
+     * config.yml을 다시 읽어 수식 레지스트리를 다시 채우고, 캐시된 수식을 모두 삭제합니다.
+     */
+    public void reload() {
+        formulaRegistry.reload();
+        clearCache();
+    }
+
     /**
      * 캐시된 수식을 모두 삭제합니다. (설정 리로드 시 호출 권장)
      */
     public void clearCache() {
-        expressionCache.clear();
+        formulaCache.invalidateAll();
+    }
+
+    /**
+     * 수식 캐시의 현재 항목 수(추정치)를 반환합니다.
+     */
+    public long getCacheSize() {
+        return formulaCache.estimatedSize();
+    }
+
+    /**
+     * 수식 캐시의 적중/실패/제거 통계를 반환합니다.
+     */
+    public CacheStats getCacheStats() {
+        return formulaCache.stats();
     }
 }
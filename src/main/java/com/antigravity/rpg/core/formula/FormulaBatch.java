@@ -0,0 +1,100 @@
+package com.antigravity.rpg.core.formula;
+
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.core.engine.StatHolder;
+
+/**
+ * 하나의 컴파일된 수식을 여러 대상에 대해 한 번에 평가하는 작업 버퍼입니다.
+ * <p>
+ * 먼저 변수마다 모든 대상의 스탯 값을 열(double[])로 모은 뒤, 수식 트리를 노드 단위로 한 번씩만 순회하며
+ * 각 노드에서 배열 전체를 처리합니다. 노드별 연산이 단순 배열 루프가 되므로 JIT(C2)가 자동 벡터화할 수 있고,
+ * 대상마다 트리를 다시 순회하는 가상 호출 비용이 사라집니다.
+ * <p>
+ * 버퍼를 재사용하므로 스레드 간에 공유하면 안 됩니다. (스레드마다 하나씩 사용)
+ */
+public final class FormulaBatch {
+
+    private double[][] columns = new double[0][];
+    private final Scratch scratch = new Scratch();
+
+    /**
+     * 수식을 holders[0..count)에 대해 평가하여 out[0..count)에 기록합니다.
+     *
+     * @param formula 컴파일된 수식
+     * @param holders 스탯 보유 대상 (null 원소는 모든 변수가 0)
+     * @param count   평가할 대상 수
+     * @param out     결과 배열 (길이 count 이상)
+     */
+    public void evaluate(CompiledFormula formula, StatHolder[] holders, int count, double[] out) {
+        if (count <= 0)
+            return;
+        scratch.reset();
+        int vars = formula.variableCount();
+        ensureColumns(vars, count);
+
+        // 1. 변수별 열 수집 (대상마다 스탯 조회는 여기서만 발생)
+        for (int slot = 0; slot < vars; slot++) {
+            double[] column = columns[slot];
+            int statIndex = formula.statIndexAt(slot);
+            String name = formula.variableAt(slot);
+            for (int i = 0; i < count; i++) {
+                StatHolder holder = holders[i];
+                if (holder == null) {
+                    column[i] = 0.0;
+                } else if (statIndex >= 0 && holder instanceof StatCalculator.IndexedStatHolder indexed) {
+                    column[i] = indexed.getStat(statIndex);
+                } else {
+                    column[i] = holder.getStat(name);
+                }
+            }
+        }
+
+        // 2. 노드 단위 배열 연산
+        formula.evaluateColumns(columns, count, out, scratch);
+    }
+
+    private void ensureColumns(int vars, int count) {
+        if (columns.length < vars) {
+            double[][] grown = new double[vars][];
+            System.arraycopy(columns, 0, grown, 0, columns.length);
+            columns = grown;
+        }
+        for (int slot = 0; slot < vars; slot++) {
+            if (columns[slot] == null || columns[slot].length < count) {
+                columns[slot] = new double[count];
+            }
+        }
+    }
+
+    /**
+     * 이항 연산 노드가 오른쪽 피연산자 결과를 담는 임시 배열 스택입니다. (트리 깊이만큼만 사용)
+     */
+    static final class Scratch {
+        private double[][] buffers = new double[4][];
+        private int depth;
+
+        double[] acquire(int count) {
+            if (depth == buffers.length) {
+                double[][] grown = new double[buffers.length * 2][];
+                System.arraycopy(buffers, 0, grown, 0, buffers.length);
+                buffers = grown;
+            }
+            double[] buffer = buffers[depth];
+            if (buffer == null || buffer.length < count) {
+                buffer = new double[count];
+                buffers[depth] = buffer;
+            }
+            depth++;
+            return buffer;
+        }
+
+        void release() {
+            depth--;
+        }
+
+        // 이전 평가가 예외로 중단된 경우를 대비해 평가 시작 시 초기화
+        void reset() {
+            depth = 0;
+        }
+    }
+}
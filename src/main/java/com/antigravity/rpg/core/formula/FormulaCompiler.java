@@ -0,0 +1,363 @@
+package com.antigravity.rpg.core.formula;
+
+import com.antigravity.rpg.core.engine.StatIds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 수식 문자열을 {@link CompiledFormula} 노드 트리로 컴파일하는 재귀 하강 파서입니다.
+ * <p>
+ * exp4j와 같은 문법을 따릅니다.
+ * <ul>
+ * <li>연산자: + - * / % ^ (거듭제곱은 오른쪽 결합, 단항 부호는 거듭제곱보다 낮고 곱셈보다 높음)</li>
+ * <li>변수: {key} 또는 함수/상수가 아닌 식별자 (스탯 ID로 조회)</li>
+ * <li>암시적 곱셈: 2{str}, 2(3 + 1), (1 + 2)(3 + 4)</li>
+ * <li>함수: abs, ceil, floor, round, sqrt, cbrt, exp, log, log10, log2, sin, cos, tan, asin, acos, atan,
+ * sinh, cosh, tanh, signum, min, max, pow, clamp</li>
+ * <li>상수: pi, e</li>
+ * </ul>
+ * 변수가 없는 부분식은 컴파일 시 미리 계산됩니다.
+ */
+public final class FormulaCompiler {
+
+    private static final Map<String, DoubleUnaryOperator> UNARY_FUNCTIONS = Map.ofEntries(
+            Map.entry("abs", Math::abs),
+            Map.entry("ceil", Math::ceil),
+            Map.entry("floor", Math::floor),
+            Map.entry("round", v -> (double) Math.round(v)),
+            Map.entry("sqrt", Math::sqrt),
+            Map.entry("cbrt", Math::cbrt),
+            Map.entry("exp", Math::exp),
+            Map.entry("log", Math::log),
+            Map.entry("log10", Math::log10),
+            Map.entry("log2", v -> Math.log(v) / Math.log(2.0)),
+            Map.entry("sin", Math::sin),
+            Map.entry("cos", Math::cos),
+            Map.entry("tan", Math::tan),
+            Map.entry("asin", Math::asin),
+            Map.entry("acos", Math::acos),
+            Map.entry("atan", Math::atan),
+            Map.entry("sinh", Math::sinh),
+            Map.entry("cosh", Math::cosh),
+            Map.entry("tanh", Math::tanh),
+            Map.entry("signum", Math::signum));
+
+    private static final Map<String, DoubleBinaryOperator> BINARY_FUNCTIONS = Map.of(
+            "min", Math::min,
+            "max", Math::max,
+            "pow", Math::pow);
+
+    private static final Map<String, Double> CONSTANTS = Map.of(
+            "pi", Math.PI,
+            "e", Math.E);
+
+    private final String source;
+    private final String parameter;
+    private int pos;
+    private final Set<String> variables = new LinkedHashSet<>();
+
+    private FormulaCompiler(String source, String parameter) {
+        this.source = source;
+        this.parameter = parameter;
+    }
+
+    /**
+     * 수식을 컴파일합니다.
+     *
+     * @param formula 수식 문자열 (예: "20 + {vitality} * 2")
+     * @return 컴파일된 수식 (빈 문자열이면 {@link CompiledFormula#ZERO})
+     * @throws IllegalArgumentException 문법 오류
+     */
+    public static CompiledFormula compile(String formula) {
+        return compile(formula, null);
+    }
+
+    /**
+     * 매개변수 하나를 바인딩하여 수식을 컴파일합니다.
+     * 수식에서 매개변수 이름(source 또는 {source})은 스탯이 아니라
+     * {@link CompiledFormula#evaluate(com.antigravity.rpg.core.engine.StatHolder, double)}의 인자로 치환됩니다.
+     *
+     * @param formula   수식 문자열 (예: "source * 0.5")
+     * @param parameter 매개변수 이름 (null이면 매개변수 없음)
+     * @return 컴파일된 수식 (빈 문자열이면 {@link CompiledFormula#ZERO})
+     * @throws IllegalArgumentException 문법 오류
+     */
+    public static CompiledFormula compile(String formula, String parameter) {
+        if (formula == null || formula.isBlank())
+            return CompiledFormula.ZERO;
+        FormulaCompiler compiler = new FormulaCompiler(formula, parameter);
+        CompiledFormula.Node root = compiler.parseExpression();
+        compiler.skipWhitespace();
+        if (compiler.pos < formula.length()) {
+            throw compiler.error("예상하지 못한 문자 '" + formula.charAt(compiler.pos) + "'");
+        }
+        return new CompiledFormula(formula, root, Collections.unmodifiableSet(compiler.variables));
+    }
+
+    // expression := term (('+' | '-') term)*
+    private CompiledFormula.Node parseExpression() {
+        CompiledFormula.Node left = parseTerm();
+        while (true) {
+            if (accept('+')) {
+                left = fold(new CompiledFormula.Add(left, parseTerm()));
+            } else if (accept('-')) {
+                left = fold(new CompiledFormula.Subtract(left, parseTerm()));
+            } else {
+                return left;
+            }
+        }
+    }
+
+    // term := unary (('*' | '/' | '%') unary | 암시적 곱셈)*
+    private CompiledFormula.Node parseTerm() {
+        CompiledFormula.Node left = parseUnary();
+        while (true) {
+            if (accept('*')) {
+                left = fold(new CompiledFormula.Multiply(left, parseUnary()));
+            } else if (accept('/')) {
+                left = fold(new CompiledFormula.Divide(left, parseUnary()));
+            } else if (accept('%')) {
+                left = fold(new CompiledFormula.Modulo(left, parseUnary()));
+            } else if (startsOperand()) {
+                left = fold(new CompiledFormula.Multiply(left, parsePower()));
+            } else {
+                return left;
+            }
+        }
+    }
+
+    // unary := ('-' | '+') unary | power
+    private CompiledFormula.Node parseUnary() {
+        if (accept('-'))
+            return fold(new CompiledFormula.Negate(parseUnary()));
+        if (accept('+'))
+            return parseUnary();
+        return parsePower();
+    }
+
+    // power := primary ('^' unary)?  (오른쪽 결합: 2^3^2 = 2^9)
+    private CompiledFormula.Node parsePower() {
+        CompiledFormula.Node base = parsePrimary();
+        if (accept('^')) {
+            return fold(new CompiledFormula.Power(base, parseUnary()));
+        }
+        return base;
+    }
+
+    private CompiledFormula.Node parsePrimary() {
+        skipWhitespace();
+        if (pos >= source.length())
+            throw error("수식이 예상보다 일찍 끝났습니다");
+
+        char c = source.charAt(pos);
+        if (c == '(') {
+            pos++;
+            CompiledFormula.Node inner = parseExpression();
+            expect(')');
+            return inner;
+        }
+        if (c == '{') {
+            pos++;
+            int start = pos;
+            while (pos < source.length() && source.charAt(pos) != '}')
+                pos++;
+            if (pos >= source.length())
+                throw error("닫는 '}'가 없습니다");
+            String name = source.substring(start, pos).trim();
+            pos++;
+            if (name.isEmpty())
+                throw error("빈 변수 이름");
+            return variable(name);
+        }
+        if (isDigit(c) || c == '.') {
+            return new CompiledFormula.Constant(parseNumber());
+        }
+        if (isIdentifierStart(c)) {
+            String name = parseIdentifier();
+            skipWhitespace();
+            if (pos < source.length() && source.charAt(pos) == '(') {
+                pos++;
+                return function(name, parseArguments());
+            }
+            Double constant = CONSTANTS.get(name.toLowerCase(Locale.ROOT));
+            if (constant != null)
+                return new CompiledFormula.Constant(constant);
+            return variable(name);
+        }
+        throw error("예상하지 못한 문자 '" + c + "'");
+    }
+
+    private List<CompiledFormula.Node> parseArguments() {
+        List<CompiledFormula.Node> args = new ArrayList<>();
+        if (accept(')'))
+            return args;
+        do {
+            args.add(parseExpression());
+        } while (accept(','));
+        expect(')');
+        return args;
+    }
+
+    private CompiledFormula.Node function(String name, List<CompiledFormula.Node> args) {
+        String key = name.toLowerCase(Locale.ROOT);
+        DoubleUnaryOperator unary = UNARY_FUNCTIONS.get(key);
+        if (unary != null) {
+            requireArgs(name, args, 1);
+            return fold(new CompiledFormula.Function1(unary, args.get(0)));
+        }
+        DoubleBinaryOperator binary = BINARY_FUNCTIONS.get(key);
+        if (binary != null) {
+            requireArgs(name, args, 2);
+            return fold(new CompiledFormula.Function2(binary, args.get(0), args.get(1)));
+        }
+        if (key.equals("clamp")) {
+            requireArgs(name, args, 3);
+            return fold(new CompiledFormula.Clamp(args.get(0), args.get(1), args.get(2)));
+        }
+        throw error("알 수 없는 함수 '" + name + "'");
+    }
+
+    private CompiledFormula.Node variable(String name) {
+        if (name.equals(parameter))
+            return new CompiledFormula.Parameter();
+        variables.add(name);
+        // 슬롯 = getVariables() 순서 (LinkedHashSet 삽입 순서)
+        int slot = 0;
+        for (String var : variables) {
+            if (var.equals(name))
+                break;
+            slot++;
+        }
+        // 인덱스는 조회만 함 (임의 변수 이름으로 전역 인덱스가 늘어나지 않도록, 미등록이면 평가 시 다시 조회)
+        return new CompiledFormula.Variable(name, StatIds.indexOf(name), slot);
+    }
+
+    // 변수가 없는 노드는 컴파일 시 계산하여 상수로 치환
+    private static CompiledFormula.Node fold(CompiledFormula.Node node) {
+        if (isConstantTree(node)) {
+            return new CompiledFormula.Constant(node.eval(null, 0.0));
+        }
+        return node;
+    }
+
+    private static boolean isConstantTree(CompiledFormula.Node node) {
+        if (node instanceof CompiledFormula.Constant)
+            return true;
+        if (node instanceof CompiledFormula.Variable || node instanceof CompiledFormula.Parameter)
+            return false;
+        if (node instanceof CompiledFormula.Negate n)
+            return n.operand instanceof CompiledFormula.Constant;
+        if (node instanceof CompiledFormula.Add n)
+            return constants(n.left, n.right);
+        if (node instanceof CompiledFormula.Subtract n)
+            return constants(n.left, n.right);
+        if (node instanceof CompiledFormula.Multiply n)
+            return constants(n.left, n.right);
+        if (node instanceof CompiledFormula.Divide n)
+            return constants(n.left, n.right);
+        if (node instanceof CompiledFormula.Modulo n)
+            return constants(n.left, n.right);
+        if (node instanceof CompiledFormula.Power n)
+            return constants(n.base, n.exponent);
+        if (node instanceof CompiledFormula.Function1 n)
+            return n.operand instanceof CompiledFormula.Constant;
+        if (node instanceof CompiledFormula.Function2 n)
+            return constants(n.first, n.second);
+        if (node instanceof CompiledFormula.Clamp n)
+            return constants(n.value, n.min) && n.max instanceof CompiledFormula.Constant;
+        return false;
+    }
+
+    // 자식 노드는 이미 접혀 있으므로 한 단계만 확인하면 됨
+    private static boolean constants(CompiledFormula.Node a, CompiledFormula.Node b) {
+        return a instanceof CompiledFormula.Constant && b instanceof CompiledFormula.Constant;
+    }
+
+    private void requireArgs(String name, List<CompiledFormula.Node> args, int count) {
+        if (args.size() != count)
+            throw error("함수 '" + name + "'는 인자 " + count + "개가 필요합니다 (받은 인자: " + args.size() + ")");
+    }
+
+    private double parseNumber() {
+        int start = pos;
+        while (pos < source.length() && (isDigit(source.charAt(pos)) || source.charAt(pos) == '.'))
+            pos++;
+        // 지수 표기 (1e3, 2.5E-2)
+        if (pos < source.length() && (source.charAt(pos) == 'e' || source.charAt(pos) == 'E')) {
+            int mark = pos;
+            pos++;
+            if (pos < source.length() && (source.charAt(pos) == '+' || source.charAt(pos) == '-'))
+                pos++;
+            if (pos < source.length() && isDigit(source.charAt(pos))) {
+                while (pos < source.length() && isDigit(source.charAt(pos)))
+                    pos++;
+            } else {
+                // 지수가 아니라 암시적 곱셈 (예: 2e -> 2 * e)
+                pos = mark;
+            }
+        }
+        try {
+            return Double.parseDouble(source.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("잘못된 숫자 '" + source.substring(start, pos) + "'");
+        }
+    }
+
+    private String parseIdentifier() {
+        int start = pos;
+        while (pos < source.length() && isIdentifierPart(source.charAt(pos)))
+            pos++;
+        return source.substring(start, pos);
+    }
+
+    private boolean startsOperand() {
+        skipWhitespace();
+        if (pos >= source.length())
+            return false;
+        char c = source.charAt(pos);
+        return c == '(' || c == '{' || isDigit(c) || c == '.' || isIdentifierStart(c);
+    }
+
+    private boolean accept(char expected) {
+        skipWhitespace();
+        if (pos < source.length() && source.charAt(pos) == expected) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!accept(expected))
+            throw error("'" + expected + "'가 필요합니다");
+    }
+
+    private void skipWhitespace() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos)))
+            pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " (위치 " + pos + "): " + source);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,113 @@
+package com.antigravity.rpg.core.formula;
+
+import com.antigravity.rpg.AntiGravityPlugin;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * config.yml의 formulas 섹션을 로드 시점에 컴파일해 두는 수식 레지스트리입니다.
+ * <p>
+ * 수식 키 조회는 맵 하나만 읽으며 설정(YAML) 트리를 다시 탐색하지 않습니다.
+ * formulas 섹션에 없는 키는 처음 한 번만 전체 경로로 설정을 조회하고, 없으면 "없음"으로 캐싱합니다. (네거티브 캐시)
+ * 로드 시와 /rpgadmin reload 시에 다시 채워집니다.
+ */
+@Singleton
+public class FormulaRegistry {
+
+    private static final String SECTION = "formulas";
+
+    // 설정에 없는 키를 나타내는 표식 (네거티브 캐시)
+    private static final CompiledFormula ABSENT = new CompiledFormula("", new CompiledFormula.Constant(0.0), Set.of());
+
+    private final AntiGravityPlugin plugin;
+
+    // 리로드 시 새 맵으로 교체 (조회 중인 스레드는 이전 맵을 끝까지 사용)
+    private volatile Map<String, CompiledFormula> formulas = new ConcurrentHashMap<>();
+
+    @Inject
+    public FormulaRegistry(AntiGravityPlugin plugin) {
+        this.plugin = plugin;
+        load();
+    }
+
+    /**
+     * 설정 파일을 다시 읽고 수식을 다시 컴파일합니다.
+     */
+    public void reload() {
+        plugin.reloadConfig();
+        load();
+    }
+
+    private void load() {
+        Map<String, CompiledFormula> loaded = new ConcurrentHashMap<>();
+        FileConfiguration config = plugin != null ? plugin.getConfig() : null;
+        ConfigurationSection section = config != null ? config.getConfigurationSection(SECTION) : null;
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                String formula = section.getString(key);
+                if (formula != null && !formula.isEmpty()) {
+                    loaded.put(key, compile(key, formula));
+                }
+            }
+        }
+        formulas = loaded;
+    }
+
+    /**
+     * 수식 키에 해당하는 컴파일된 수식을 반환합니다.
+     *
+     * @param formulaKey formulas 섹션 내의 키 또는 전체 경로
+     * @return 컴파일된 수식, 설정에 없으면 null
+     */
+    public CompiledFormula get(String formulaKey) {
+        if (formulaKey == null || formulaKey.isEmpty())
+            return null;
+        Map<String, CompiledFormula> current = formulas;
+        CompiledFormula formula = current.get(formulaKey);
+        if (formula == null) {
+            formula = current.computeIfAbsent(formulaKey, this::lookup);
+        }
+        return formula == ABSENT ? null : formula;
+    }
+
+    /**
+     * 수식 키에 해당하는 수식 문자열을 반환합니다.
+     *
+     * @return 수식 문자열, 설정에 없으면 null
+     */
+    public String getSource(String formulaKey) {
+        CompiledFormula formula = get(formulaKey);
+        return formula != null ? formula.getSource() : null;
+    }
+
+    // 캐시 미스 시 한 번만 실행: formulas 섹션 밖의 전체 경로로 재시도 (legacy support or direct path)
+    private CompiledFormula lookup(String formulaKey) {
+        FileConfiguration config = plugin != null ? plugin.getConfig() : null;
+        if (config == null)
+            return ABSENT;
+        String formula = config.getString(SECTION + "." + formulaKey);
+        if (formula == null) {
+            formula = config.getString(formulaKey);
+        }
+        if (formula == null || formula.isEmpty())
+            return ABSENT;
+        return compile(formulaKey, formula);
+    }
+
+    private CompiledFormula compile(String key, String formula) {
+        try {
+            return FormulaCompiler.compile(formula);
+        } catch (IllegalArgumentException e) {
+            if (plugin != null && plugin.getLogger() != null) {
+                plugin.getLogger().warning("잘못된 수식입니다 (" + key + "): " + e.getMessage());
+            }
+            return CompiledFormula.ZERO;
+        }
+    }
+}
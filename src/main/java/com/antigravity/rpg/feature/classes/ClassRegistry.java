@@ -304,7 +304,9 @@ public class ClassRegistry {
                                 (String) m.get("type"),
                                 (String) m.get("target"),
                                 (String) m.get("stat"),
-                                ((Number) m.getOrDefault("value", 0)).doubleValue()));
+                                ((Number) m.getOrDefault("value", 0)).doubleValue(),
+                                com.antigravity.rpg.core.engine.ModifierOperation
+                                        .parse((String) m.get("operation"))));
                     }
                 }
             }
@@ -1,5 +1,6 @@
 package com.antigravity.rpg.feature.classes.component;
 
+import com.antigravity.rpg.core.engine.ModifierOperation;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,5 +25,6 @@ public class Synergy {
         private String target; // 대상 (PARTY, ALLY, SELF)
         private String stat; // 변경할 스탯 ID
         private double value; // 변경 수치
+        private ModifierOperation operation = ModifierOperation.FLAT; // 적용 방식 (FLAT, PERCENT, MULTIPLY)
     }
 }
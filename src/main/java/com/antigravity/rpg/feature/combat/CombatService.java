@@ -4,7 +4,7 @@ import com.antigravity.rpg.api.service.Service;
 import com.antigravity.rpg.core.engine.*;
 import com.antigravity.rpg.feature.player.PlayerData;
 import com.antigravity.rpg.feature.player.PlayerProfileService;
-import com.antigravity.rpg.core.ecs.SimpleEntityRegistry;
+import com.antigravity.rpg.core.ecs.EntityRegistry;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.bukkit.entity.LivingEntity;
@@ -25,14 +25,25 @@ import java.util.concurrent.CompletableFuture;
 /**
  * CombatService는 전투 시스템의 핵심 제어 서비스입니다.
  * Bukkit의 데미지 이벤트를 가로채서 자체 데미지 연산 파이프라인(DamageProcessor)으로 전달하고 최종 결과를 적용합니다.
+ * 데미지 이벤트를 처리하는 유일한 리스너이며, 파이프라인에 Bukkit 의존 단계(직업 훅, 인디케이터)를 등록합니다.
  */
 @Singleton
 public class CombatService implements Service, Listener {
 
+    // 자주 쓰는 스탯의 인터닝된 인덱스
+    private static final int PHYSICAL_DAMAGE = StatIds.intern("PHYSICAL_DAMAGE");
+    private static final int DEFENSE = StatIds.intern("DEFENSE");
+
+    // 스탯 정보가 없는 몬스터를 위한 기본 스탯 (모든 몬스터가 공유하므로 스크립트가 수정할 수 없는 읽기 전용 뷰)
+    private static final StatView DEFAULT_MONSTER_STATS = new DefaultMonsterStats();
+
     private final JavaPlugin plugin;
     private final DamageProcessor damageProcessor;
     private final PlayerProfileService playerProfileService;
-    private final SimpleEntityRegistry entityRegistry;
+    private final EntityRegistry entityRegistry;
+
+    // dealScriptDamage가 victim.damage()로 다시 발생시키는 데미지 이벤트 표시 (이미 파이프라인을 거친 데미지)
+    private final ThreadLocal<ScriptDamage> pendingScriptDamage = new ThreadLocal<>();
 
     private final PartyManager partyManager;
     private final QuestManager questManager;
@@ -40,7 +51,7 @@ public class CombatService implements Service, Listener {
 
     @Inject
     public CombatService(JavaPlugin plugin, DamageProcessor damageProcessor,
-            PlayerProfileService playerProfileService, SimpleEntityRegistry entityRegistry,
+            PlayerProfileService playerProfileService, EntityRegistry entityRegistry,
             PartyManager partyManager, QuestManager questManager,
             DamageIndicatorService damageIndicatorService) {
         this.plugin = plugin;
@@ -56,6 +67,11 @@ public class CombatService implements Service, Listener {
     public void onEnable() {
         // 이벤트 리스너 등록 (엔티티 데미지 이벤트 감지 목적)
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        // Bukkit 의존 단계 등록 (계산 이후 실행)
+        DamagePipeline pipeline = damageProcessor.getPipeline();
+        pipeline.register("class-hooks", DamagePipeline.HOOK + 10, this::triggerClassHooks);
+        pipeline.register("indicator", DamagePipeline.FEEDBACK, this::showFeedback);
         plugin.getLogger().info("[CombatService] 데미지 파이프라인이 활성화되었습니다.");
     }
 
@@ -101,34 +117,39 @@ public class CombatService implements Service, Listener {
             }
         }
 
+        // dealScriptDamage에서 이미 계산된 데미지: 파이프라인을 다시 실행하지 않고 값만 적용
+        ScriptDamage scriptDamage = pendingScriptDamage.get();
+        if (scriptDamage != null && scriptDamage.victim == victim) {
+            pendingScriptDamage.remove();
+            event.setDamage(scriptDamage.amount);
+            updateCombatTime(attacker);
+            updateCombatTime(victim);
+            return;
+        }
+
         // 공격자와 피격자의 스탯 정보를 가져옵니다.
-        EntityStatData attackerStats = getStats(attacker);
-        EntityStatData victimStats = getStats(victim);
+        StatView attackerStats = getStats(attacker);
+        StatView victimStats = getStats(victim);
 
         // 데이터가 없는 경우 (예: 로딩 중) 처리를 중단합니다.
         if (attackerStats == null || victimStats == null) {
             return;
         }
 
-        // 데미지 연산을 위한 컨텍스트(Context) 생성
-        DamageContext context = new DamageContext(attacker, victim, attackerStats, victimStats, event.getDamage());
-
-        // 기본 태그 설정 (여기서는 물리 데미지로 가정)
-        context.addTag(DamageTag.PHYSICAL);
+        // 데미지 연산을 위한 컨텍스트(Context)를 풀에서 빌림
+        DamageContext context = damageProcessor.acquire(attacker, victim, attackerStats, victimStats,
+                event.getDamage());
+        try {
+            // 기본 태그 설정 (여기서는 물리 데미지로 가정)
+            context.addTag(DamageTag.PHYSICAL);
 
-        // 데미지 프로세서 실행 (컴포넌트 기반 연산 수행)
-        damageProcessor.process(context);
+            // 데미지 파이프라인 실행 (계산, 훅, 인디케이터까지 이벤트당 한 번)
+            damageProcessor.process(context);
 
-        // 연산 결과인 최종 데미지를 이벤트에 설정합니다.
-        event.setDamage(context.getFinalDamage());
-
-        // 데미지 인디케이터 표시
-        damageIndicatorService.displayDamage(victim.getLocation(), context.getFinalDamage(), context.isCritical());
-
-        // 치명타(Critical) 발생 시 시각/청각 효과 재생
-        if (context.isCritical()) {
-            victim.getWorld().spawnParticle(org.bukkit.Particle.CRIT, victim.getLocation().add(0, 1, 0), 10);
-            victim.getWorld().playSound(victim.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 1.0f);
+            // 연산 결과인 최종 데미지를 이벤트에 설정합니다.
+            event.setDamage(context.getFinalDamage());
+        } finally {
+            damageProcessor.release(context);
         }
 
         // 전투 시간 갱신 (회복 감소 시스템 연동용)
@@ -151,43 +172,25 @@ public class CombatService implements Service, Listener {
     }
 
     /**
-     * 엔티티의 스탯 정보를 추출합니다.
-     * 플레이어는 저장된 프로필에서, 몬스터는 엔티티 레지스트리에서 가져옵니다.
+     * 엔티티의 스탯 뷰를 반환합니다. (복사 없음)
+     * 플레이어는 계산·캐싱된 최종 스탯을, 몬스터는 엔티티 레지스트리의 스탯 컴포넌트를 그대로 참조합니다.
      */
-    private EntityStatData getStats(LivingEntity entity) {
-        EntityStatData stats = new EntityStatData();
-
+    private StatView getStats(LivingEntity entity) {
         if (entity instanceof Player) {
             Player p = (Player) entity;
             // 플레이어 프로필을 비동기 캐시에서 즉시 조회합니다.
             CompletableFuture<PlayerData> future = playerProfileService.find(p.getUniqueId());
             PlayerData data = future.getNow(null);
-
-            if (data != null) {
-                // 저장된 모든 스탯을 EntityStatData로 복사합니다.
-                data.getSavedStats().forEach((key, value) -> {
-                    if (value != null) {
-                        stats.setStat(key, value);
-                    }
-                });
-
-                // 최소 공격력 보장
-                if (stats.getStat("PHYSICAL_DAMAGE") == 0)
-                    stats.setStat("PHYSICAL_DAMAGE", 1);
-            } else {
+            if (data == null)
                 return null; // 프로필 로딩 미완료 시
-            }
-        } else {
-            // 몬스터의 경우 ECS 레지스트리에서 스탯 컴포넌트를 조회합니다.
-            if (entityRegistry.hasComponent(entity.getUniqueId(), EntityStatData.class)) {
-                return entityRegistry.getComponent(entity.getUniqueId(), EntityStatData.class)
-                        .orElse(getDefaultMonsterStats());
-            } else {
-                return getDefaultMonsterStats();
-            }
+
+            // 최소 공격력 보장 (뷰에서 보정하므로 PlayerData의 스탯은 변경되지 않음)
+            return new MinimumDamageView(data);
         }
 
-        return stats;
+        // 몬스터의 경우 ECS 레지스트리에서 스탯 컴포넌트를 조회합니다.
+        EntityStatData stats = entityRegistry.getComponent(entity.getUniqueId(), EntityStatData.class).orElse(null);
+        return stats != null ? stats : DEFAULT_MONSTER_STATS;
     }
 
     /**
@@ -199,34 +202,143 @@ public class CombatService implements Service, Listener {
      * @param tags     데미지 태그 (PHYSICAL, MAGICAL 등)
      */
     public void dealScriptDamage(LivingEntity attacker, LivingEntity victim, double amount, DamageTag... tags) {
-        EntityStatData attackerStats = getStats(attacker);
-        EntityStatData victimStats = getStats(victim);
+        StatView attackerStats = getStats(attacker);
+        StatView victimStats = getStats(victim);
 
         if (attackerStats == null || victimStats == null)
             return;
 
-        DamageContext context = new DamageContext(attacker, victim, attackerStats, victimStats, amount);
-        for (DamageTag tag : tags) {
-            context.addTag(tag);
-        }
+        // 범위 스킬은 대상마다 호출되므로 컨텍스트를 풀에서 빌려 재사용
+        DamageContext context = damageProcessor.acquire(attacker, victim, attackerStats, victimStats, amount);
+        double finalDamage;
+        try {
+            for (DamageTag tag : tags) {
+                context.addTag(tag);
+            }
 
-        damageProcessor.process(context);
+            damageProcessor.process(context);
+            finalDamage = context.getFinalDamage();
+        } finally {
+            damageProcessor.release(context);
+        }
 
-        double finalDamage = context.getFinalDamage();
         // 실제 데미지 적용 (NoDamageTicks 무시 등은 필요시 추가)
-        victim.damage(finalDamage, attacker);
+        // 이때 발생하는 데미지 이벤트는 onEntityDamage에서 계산된 값만 적용하도록 표시 (파이프라인은 히트당 한 번)
+        pendingScriptDamage.set(new ScriptDamage(victim, finalDamage));
+        try {
+            victim.damage(finalDamage, attacker);
+        } finally {
+            pendingScriptDamage.remove();
+        }
+    }
+
+    // 파이프라인을 이미 거친 스크립트 데미지 (재진입 이벤트 판별용)
+    private static final class ScriptDamage {
+        final LivingEntity victim;
+        final double amount;
+
+        ScriptDamage(LivingEntity victim, double amount) {
+            this.victim = victim;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * [파이프라인 단계] 데미지 인디케이터 표시 및 치명타 효과 재생
+     */
+    private void showFeedback(DamageContext context) {
+        if (!(context.getVictim() instanceof LivingEntity victim))
+            return;
+
+        damageIndicatorService.displayDamage(victim.getLocation(), context.getFinalDamage(), context.isCritical());
+
+        // 치명타(Critical) 발생 시 시각/청각 효과 재생
+        if (context.isCritical()) {
+            victim.getWorld().spawnParticle(org.bukkit.Particle.CRIT, victim.getLocation().add(0, 1, 0), 10);
+            victim.getWorld().playSound(victim.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 1.0f);
+        }
+    }
+
+    /**
+     * [파이프라인 단계] 직업 Lua 훅 호출 (공격자 onDamageDealt/onHit, 피해자 onDamageTaken)
+     */
+    private void triggerClassHooks(DamageContext context) {
+        org.bukkit.entity.Entity attacker = context.getAttacker();
+        org.bukkit.entity.Entity victim = context.getVictim();
+        double damage = context.getFinalDamage();
+
+        // 1. 공격자 Hook (onDamageDealt)
+        if (attacker instanceof Player pAttacker) {
+            try {
+                PlayerData pd = playerProfileService.getProfileSync(pAttacker.getUniqueId());
+                if (pd != null) {
+                    pd.getClassData().getActiveClasses().values().forEach(classId -> {
+                        PlayerData.getClassRegistry().getClass(classId).ifPresent(def -> {
+                            def.onEvent("onDamageDealt", attacker, victim, damage);
+                            def.onEvent("onHit", attacker, victim, damage); // Alias
+                        });
+                    });
+                }
+            } catch (Exception e) {
+            }
+        }
 
-        // 인디케이터
-        damageIndicatorService.displayDamage(victim.getLocation(), finalDamage, context.isCritical());
+        // 2. 피해자 Hook (onDamageTaken)
+        if (victim instanceof Player pVictim) {
+            try {
+                PlayerData pd = playerProfileService.getProfileSync(pVictim.getUniqueId());
+                if (pd != null) {
+                    pd.getClassData().getActiveClasses().values().forEach(classId -> {
+                        PlayerData.getClassRegistry().getClass(classId).ifPresent(def -> {
+                            def.onEvent("onDamageTaken", attacker, victim, damage);
+                        });
+                    });
+                }
+            } catch (Exception e) {
+            }
+        }
+    }
+
+    /**
+     * 스탯 컴포넌트가 없는 몬스터의 기본 스탯입니다. (PHYSICAL_DAMAGE 5, 나머지 0)
+     * EntityStatData와 달리 setStat이 없으므로 Lua 스크립트에 전달되어도 다른 몬스터의 스탯이 바뀌지 않습니다.
+     */
+    private static final class DefaultMonsterStats implements StatView {
+
+        @Override
+        public double getStat(int statIndex) {
+            return statIndex == PHYSICAL_DAMAGE ? 5 : 0;
+        }
+
+        @Override
+        public double getStat(String statId) {
+            return getStat(StatIds.indexOf(statId));
+        }
     }
 
     /**
-     * 스탯 정보가 없는 몬스터를 위한 기본 스탯을 반환합니다.
+     * 플레이어 스탯 뷰에 최소 공격력(1)을 적용하는 읽기 전용 래퍼입니다.
+     * Lua 스크립트에는 PlayerData 대신 이 뷰가 전달되므로 스크립트에서 플레이어 데이터를 수정할 수 없습니다.
      */
-    private EntityStatData getDefaultMonsterStats() {
-        EntityStatData stats = new EntityStatData();
-        stats.setStat("DEFENSE", 0);
-        stats.setStat("PHYSICAL_DAMAGE", 5);
-        return stats;
+    private static final class MinimumDamageView implements StatView {
+        private final StatView stats;
+
+        MinimumDamageView(StatView stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public double getStat(int statIndex) {
+            double value = stats.getStat(statIndex);
+            if (statIndex == PHYSICAL_DAMAGE && value == 0)
+                return 1;
+            return value;
+        }
+
+        @Override
+        public double getStat(String statId) {
+            int index = StatIds.indexOf(statId);
+            return index >= 0 ? getStat(index) : stats.getStat(statId);
+        }
     }
 }
@@ -0,0 +1,113 @@
+package com.antigravity.rpg.feature.item;
+
+import com.antigravity.rpg.core.engine.StatVector;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 한 플레이어의 장비 스탯 합계입니다.
+ * <p>
+ * 슬롯별 스탯은 장착 시점에 PDC에서 한 번만 읽어 두고, 스탯 조회는 합계 벡터만 읽습니다.
+ * 같은 아이템(isSimilar)이 같은 리비전으로 다시 장착되면 PDC를 다시 읽지 않으며,
+ * 변경 시에는 값이 실제로 바뀐 스탯만 알려주므로 호출자는 해당 스탯만 무효화하면 됩니다.
+ */
+public final class EquipmentStats {
+
+    private static final int[] NONE = new int[0];
+
+    private final Map<EquipmentSlot, SlotStats> slots = new EnumMap<>(EquipmentSlot.class);
+    private final StatVector totals = new StatVector();
+
+    /**
+     * 장비 스탯 합계를 반환합니다. (잠금 없음)
+     *
+     * @param statIndex StatIds 인덱스
+     */
+    public double get(int statIndex) {
+        return totals.get(statIndex);
+    }
+
+    /**
+     * 슬롯의 아이템이 바뀌었음을 반영합니다.
+     *
+     * @param slot    장비 슬롯
+     * @param item    새 아이템 (null 또는 공기면 해제)
+     * @param adapter PDC 어댑터
+     * @return 합계가 바뀐 스탯 인덱스
+     */
+    public synchronized int[] update(EquipmentSlot slot, ItemStack item, PDCAdapter adapter) {
+        SlotStats previous = slots.get(slot);
+        if (item == null || item.getType().isAir()) {
+            if (previous == null)
+                return NONE;
+            slots.remove(slot);
+            return refold(previous.stats, null);
+        }
+
+        // 같은 아이템(호출자가 복사본을 넘기므로 참조가 아닌 isSimilar로 비교) + 같은 리비전: PDC를 다시 읽지 않음
+        if (previous != null && previous.revision == adapter.getRevision(item) && previous.item.isSimilar(item))
+            return NONE;
+
+        StatVector stats = new StatVector();
+        int revision = adapter.readStats(item, stats);
+        slots.put(slot, new SlotStats(item, revision, stats));
+        return refold(previous != null ? previous.stats : null, stats);
+    }
+
+    public synchronized void clear() {
+        slots.clear();
+        totals.clear();
+    }
+
+    // 이전/새 슬롯 스탯 중 값이 다른 스탯만 합계를 다시 계산 (잠금 보유 상태에서 호출)
+    private int[] refold(StatVector before, StatVector after) {
+        BitSet changed = new BitSet();
+        if (before != null) {
+            before.forEach((index, value) -> {
+                if (after == null || !after.has(index) || after.get(index) != value) {
+                    changed.set(index);
+                }
+            });
+        }
+        if (after != null) {
+            after.forEach((index, value) -> {
+                if (before == null || !before.has(index) || before.get(index) != value) {
+                    changed.set(index);
+                }
+            });
+        }
+
+        int[] affected = changed.stream().toArray();
+        for (int index : affected) {
+            double sum = 0.0;
+            boolean present = false;
+            for (SlotStats slotStats : slots.values()) {
+                if (slotStats.stats.has(index)) {
+                    sum += slotStats.stats.get(index);
+                    present = true;
+                }
+            }
+            if (present) {
+                totals.set(index, sum);
+            } else {
+                totals.remove(index);
+            }
+        }
+        return affected;
+    }
+
+    private static final class SlotStats {
+        final ItemStack item;
+        final int revision;
+        final StatVector stats;
+
+        SlotStats(ItemStack item, int revision, StatVector stats) {
+            this.item = item;
+            this.revision = revision;
+            this.stats = stats;
+        }
+    }
+}
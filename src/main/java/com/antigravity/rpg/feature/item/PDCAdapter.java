@@ -7,17 +7,25 @@ import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 아이템의 PersistentDataContainer(PDC)에 데이터를 읽고 쓰는 어댑터 클래스입니다.
  */
+@com.google.inject.Singleton
 public class PDCAdapter {
 
+    private static final String STAT_PREFIX = "stat_";
+
     private final JavaPlugin plugin;
     private final NamespacedKey skillKey;
     private final NamespacedKey itemTypeKey;
     private final NamespacedKey revisionKey;
+    // 스탯 ID -> PDC 키 (조회마다 NamespacedKey를 새로 만들지 않도록 캐싱)
+    private final Map<String, NamespacedKey> statKeys = new ConcurrentHashMap<>();
 
     @com.google.inject.Inject
     public PDCAdapter(JavaPlugin plugin) {
@@ -36,13 +44,41 @@ public class PDCAdapter {
     }
 
     public void setStat(ItemStack item, String statId, double value) {
-        NamespacedKey key = new NamespacedKey(plugin, "stat_" + statId.toLowerCase());
+        NamespacedKey key = statKey(statId);
         updateMeta(item, pdc -> pdc.set(key, PersistentDataType.DOUBLE, value));
     }
 
     public double getStat(ItemStack item, String statId) {
-        NamespacedKey key = new NamespacedKey(plugin, "stat_" + statId.toLowerCase());
-        return getFromPdc(item, key, PersistentDataType.DOUBLE).orElse(0.0);
+        return getFromPdc(item, statKey(statId), PersistentDataType.DOUBLE).orElse(0.0);
+    }
+
+    /**
+     * 아이템의 모든 스탯을 한 번에 읽어 벡터에 더합니다. (ItemMeta 복제 1회)
+     * PDC 키는 소문자로 저장되므로 스탯 ID는 대문자로 복원됩니다. (예: stat_physical_damage -> PHYSICAL_DAMAGE)
+     *
+     * @param item 대상 아이템
+     * @param into 스탯을 더할 벡터
+     * @return 아이템 리비전 (스탯 캐시의 무효화 키, 메타가 없으면 0)
+     */
+    public int readStats(ItemStack item, com.antigravity.rpg.core.engine.StatVector into) {
+        if (item == null || !item.hasItemMeta())
+            return 0;
+        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
+        String namespace = revisionKey.getNamespace();
+        for (NamespacedKey key : pdc.getKeys()) {
+            if (!key.getNamespace().equals(namespace) || !key.getKey().startsWith(STAT_PREFIX))
+                continue;
+            Double value = pdc.get(key, PersistentDataType.DOUBLE);
+            if (value != null) {
+                String statId = key.getKey().substring(STAT_PREFIX.length()).toUpperCase(Locale.ROOT);
+                // 정의/참조되지 않은 스탯은 어떤 계산에도 쓰이지 않으므로 무시 (임의 아이템 키로 인덱스가 늘어나지 않도록)
+                int index = com.antigravity.rpg.core.engine.StatIds.indexOf(statId);
+                if (index >= 0) {
+                    into.add(index, value);
+                }
+            }
+        }
+        return pdc.getOrDefault(revisionKey, PersistentDataType.INTEGER, 0);
     }
 
     public int getRevision(ItemStack item) {
@@ -53,6 +89,11 @@ public class PDCAdapter {
         updateMeta(item, pdc -> pdc.set(revisionKey, PersistentDataType.INTEGER, revision));
     }
 
+    private NamespacedKey statKey(String statId) {
+        return statKeys.computeIfAbsent(statId,
+                id -> new NamespacedKey(plugin, STAT_PREFIX + id.toLowerCase(Locale.ROOT)));
+    }
+
     private <T> Optional<T> getFromPdc(ItemStack item, NamespacedKey key, PersistentDataType<?, T> type) {
         if (item == null || !item.hasItemMeta())
             return Optional.empty();
@@ -13,7 +13,10 @@ import org.bukkit.attribute.AttributeInstance;
  */
 public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
         com.antigravity.rpg.core.engine.StatCalculator.PlayerDataFunc,
-        com.antigravity.rpg.core.engine.StatCalculator.NativeStatHolder {
+        com.antigravity.rpg.core.engine.StatCalculator.NativeStatHolder,
+        com.antigravity.rpg.core.engine.StatCalculator.ModifiableStatHolder,
+        com.antigravity.rpg.core.engine.StatCalculator.IndexedStatHolder,
+        com.antigravity.rpg.core.engine.StatView {
     @Getter
     private final UUID uuid;
 
@@ -26,6 +29,12 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
     // ECS 컴포넌트 저장소
     private final Map<Class<?>, Object> components = new ConcurrentHashMap<>();
 
+    // [NEW] 이 플레이어가 등록된 EntityRegistry (PlayerEntityBridge가 연결, 연결 전에는 null)
+    private volatile com.antigravity.rpg.core.ecs.EntityRegistry entityRegistry;
+
+    // 저장된 추가 스탯 (스탯 포인트 등, StatIds 인덱스 기반)
+    private final com.antigravity.rpg.core.engine.StatVector savedStats = new com.antigravity.rpg.core.engine.StatVector();
+
     // 리소스 풀 (마나, 스태미나 등)
     private final ResourcePool resources;
 
@@ -40,13 +49,15 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
     @Getter
     private final Map<com.antigravity.rpg.feature.item.EquipmentSlot, org.bukkit.inventory.ItemStack> equipment;
 
+    // [NEW] 장비 스탯 합계 (장착/해제 시에만 PDC에서 다시 읽음)
+    private final com.antigravity.rpg.feature.item.EquipmentStats equipmentStats = new com.antigravity.rpg.feature.item.EquipmentStats();
+
     public PlayerData(UUID uuid) {
         this.uuid = uuid;
         // 기본값 초기화
         this.data.put("skillLevels", new ConcurrentHashMap<String, Integer>());
         this.data.put("professions", new ConcurrentHashMap<String, Integer>());
         this.data.put("skillCooldowns", new ConcurrentHashMap<String, Number>());
-        this.data.put("savedStats", new ConcurrentHashMap<String, Double>());
         this.data.put("skillPoints", 0);
 
         this.resources = new ResourcePool();
@@ -96,6 +107,9 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
     public void setClassId(String classId) {
         classData.setClass(ClassType.MAIN, classId);
         markDirty();
+        // 이전 직업의 마스터리 보너스 해제 (전체 무효화에 포함됨)
+        modifierStack.removeSourcesByPrefix(MASTERY_SOURCE_PREFIX);
+        invalidateAllStats();
     }
 
     public int getLevel() {
@@ -113,6 +127,8 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
         if (cp != null) {
             cp.setLevel(level);
             markDirty();
+            // 레벨은 직업 성장 수식/Lua 스탯의 입력이므로 전체 무효화
+            invalidateAllStats();
         }
     }
 
@@ -179,13 +195,22 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
         return new ConcurrentHashMap<>();
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * 저장된 추가 스탯(스탯 포인트 등)을 Map으로 복사하여 반환합니다.
+     * 호환용이며 반환된 Map을 수정해도 반영되지 않습니다. 변경은 {@link #setSavedStat(String, double)}을 사용하세요.
+     */
     public Map<String, Double> getSavedStats() {
-        Object obj = data.get("savedStats");
-        if (obj instanceof Map) {
-            return (Map<String, Double>) obj;
-        }
-        return new ConcurrentHashMap<>();
+        return savedStats.toMap();
+    }
+
+    public com.antigravity.rpg.core.engine.StatVector getSavedStatVector() {
+        return savedStats;
+    }
+
+    public void setSavedStat(String statId, double value) {
+        savedStats.set(statId, value);
+        markDirty();
+        invalidateStat(statId);
     }
 
     public boolean isLoaded() {
@@ -223,6 +248,9 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
         // [NEW] ClassData 저장
         data.put("playerClassData", classData.toMap());
 
+        // 저장 스탯 (StatVector -> Map)
+        data.put("savedStats", savedStats.toMap());
+
         return data;
     }
 
@@ -299,7 +327,16 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
             ensureConcurrent("skillLevels", pd);
             ensureConcurrent("professions", pd);
             ensureConcurrent("skillCooldowns", pd);
-            ensureConcurrent("savedStats", pd);
+
+            // 저장 스탯 복구 (정수로 보정된 값도 허용)
+            Object saved = pd.data.remove("savedStats");
+            if (saved instanceof Map<?, ?> savedMap) {
+                for (Map.Entry<?, ?> entry : savedMap.entrySet()) {
+                    if (entry.getKey() instanceof String statId && entry.getValue() instanceof Number number) {
+                        pd.savedStats.set(statId, number.doubleValue());
+                    }
+                }
+            }
         }
         pd.setLoaded(true);
         return pd;
@@ -341,13 +378,16 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
     private static com.antigravity.rpg.core.engine.StatCalculator statCalculator;
     private static com.antigravity.rpg.feature.classes.ClassRegistry classRegistry;
     private static com.antigravity.rpg.feature.classes.condition.ConditionManager conditionManager;
+    private static com.antigravity.rpg.feature.item.PDCAdapter pdcAdapter;
 
     public static void initialize(com.antigravity.rpg.core.engine.StatCalculator sc,
             com.antigravity.rpg.feature.classes.ClassRegistry cr,
-            com.antigravity.rpg.feature.classes.condition.ConditionManager cm) {
+            com.antigravity.rpg.feature.classes.condition.ConditionManager cm,
+            com.antigravity.rpg.feature.item.PDCAdapter pa) {
         statCalculator = sc;
         classRegistry = cr;
         conditionManager = cm;
+        pdcAdapter = pa;
     }
 
     public static com.antigravity.rpg.feature.classes.ClassRegistry getClassRegistry() {
@@ -356,25 +396,124 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
 
     @Override
     public double getStat(String statId) {
-        if (statCalculator == null)
-            return getRawStat(statId);
+        if (statCalculator == null) {
+            int index = com.antigravity.rpg.core.engine.StatIds.indexOf(statId);
+            return index >= 0 ? modifierStack.apply(index, getRawStat(statId)) : getRawStat(statId);
+        }
         return statCalculator.getStat(this, statId);
     }
 
-    // 외부 스탯 수정자 (시너지, 버프 등)
-    private final Map<String, Double> externalModifiers = new ConcurrentHashMap<>();
+    @Override
+    public double getStat(int statIndex) {
+        if (statCalculator == null)
+            return getStat(com.antigravity.rpg.core.engine.StatIds.idOf(statIndex));
+        return statCalculator.getStat(this, statIndex);
+    }
+
+    // [NEW] 외부 스탯 수정자 (시너지, 버프, 마스터리 등), 출처 ID별로 관리
+    private final com.antigravity.rpg.core.engine.ModifierStack modifierStack = new com.antigravity.rpg.core.engine.ModifierStack();
+
+    // 출처 없이 누적되는 수정자 (addModifier/removeModifier 호환용)
+    private static final String LEGACY_MODIFIER_SOURCE = "legacy";
+    private static final String MASTERY_SOURCE_PREFIX = "mastery:";
+
+    @Override
+    public com.antigravity.rpg.core.engine.ModifierStack getModifierStack() {
+        return modifierStack;
+    }
+
+    /**
+     * 출처별 수정자를 설정합니다. 같은 출처/스탯/방식의 기존 값은 교체되므로 반복 호출해도 중복되지 않습니다.
+     *
+     * @param source    출처 ID (예: "synergy:{UUID}", "buff:rage")
+     * @param statId    스탯 ID
+     * @param operation 적용 방식 (FLAT, PERCENT, MULTIPLY)
+     * @param value     수치
+     */
+    public void setModifier(String source, String statId, com.antigravity.rpg.core.engine.ModifierOperation operation,
+            double value) {
+        int index = com.antigravity.rpg.core.engine.StatIds.intern(statId);
+        if (modifierStack.set(source, index, operation, value)) {
+            invalidateStat(index);
+        }
+    }
+
+    /**
+     * 출처의 특정 수정자를 제거합니다.
+     */
+    public void removeModifier(String source, String statId, com.antigravity.rpg.core.engine.ModifierOperation operation) {
+        int index = com.antigravity.rpg.core.engine.StatIds.indexOf(statId);
+        if (index >= 0 && modifierStack.remove(source, index, operation)) {
+            invalidateStat(index);
+        }
+    }
+
+    /**
+     * 출처의 수정자를 모두 제거합니다. (예: 버프 만료)
+     */
+    public void removeModifiers(String source) {
+        for (int index : modifierStack.removeSource(source)) {
+            invalidateStat(index);
+        }
+    }
 
+    /**
+     * 출처 없이 FLAT 수정자를 누적합니다. (호환용, 새 코드는 {@link #setModifier}를 사용하세요)
+     */
     public void addModifier(String statId, double value) {
-        externalModifiers.put(statId, externalModifiers.getOrDefault(statId, 0.0) + value);
+        int index = com.antigravity.rpg.core.engine.StatIds.intern(statId);
+        if (modifierStack.adjust(LEGACY_MODIFIER_SOURCE, index, com.antigravity.rpg.core.engine.ModifierOperation.FLAT,
+                value)) {
+            invalidateStat(index);
+        }
     }
 
+    /**
+     * {@link #addModifier(String, double)}로 누적한 값을 되돌립니다. 음수 수정자(디버프)도 그대로 복구됩니다.
+     */
     public void removeModifier(String statId, double value) {
-        double current = externalModifiers.getOrDefault(statId, 0.0);
-        externalModifiers.put(statId, Math.max(0, current - value));
+        addModifier(statId, -value);
     }
 
     public void clearModifiers() {
-        externalModifiers.clear();
+        modifierStack.clear();
+        if (statCalculator != null)
+            statCalculator.invalidate(uuid);
+    }
+
+    // [NEW] 변경된 스탯과 그 하위 스탯만 다시 계산되도록 무효화
+    private void invalidateStat(String statId) {
+        if (statCalculator != null)
+            statCalculator.invalidate(uuid, statId);
+    }
+
+    private void invalidateStat(int statIndex) {
+        if (statCalculator != null)
+            statCalculator.invalidate(uuid, statIndex);
+    }
+
+    // [NEW] 직업/레벨 변경: 직업 스탯(Lua) 캐시를 포함해 전체 무효화
+    private void invalidateAllStats() {
+        if (statCalculator != null)
+            statCalculator.invalidate(uuid);
+    }
+
+    /**
+     * 커스텀 장비 슬롯에 아이템을 장착합니다. (null 또는 공기면 해제)
+     * 장비 스탯 합계를 갱신하고 값이 바뀐 스탯만 무효화합니다. {@link #getEquipment()}를 직접 수정하면 반영되지 않습니다.
+     */
+    public void setEquipment(com.antigravity.rpg.feature.item.EquipmentSlot slot, org.bukkit.inventory.ItemStack item) {
+        if (item == null || item.getType().isAir()) {
+            equipment.remove(slot);
+        } else {
+            equipment.put(slot, item);
+        }
+        markDirty();
+        if (pdcAdapter == null)
+            return;
+        for (int index : equipmentStats.update(slot, item, pdcAdapter)) {
+            invalidateStat(index);
+        }
     }
 
     @Override
@@ -384,8 +523,11 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
             return (double) getLevel();
         }
 
+        // 등록되지 않은 스탯이면 -1 (저장/장비 값 없음, 0으로 조회됨)
+        int statIndex = com.antigravity.rpg.core.engine.StatIds.indexOf(statId);
+
         // 1. 저장된 추가 스탯 (스탯 포인트 등)
-        double val = getSavedStats().getOrDefault(statId, 0.0);
+        double val = savedStats.get(statIndex);
 
         // 2. 클래스별 기본 스탯 반영
         String cId = getClassId();
@@ -399,31 +541,12 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
             }
         }
 
-        // 3. 외부 수정자 합산 (시너지 등)
-        val += externalModifiers.getOrDefault(statId, 0.0);
-
-        // 4. 커스텀 장비 스탯 반영
-        for (org.bukkit.inventory.ItemStack item : equipment.values()) {
-            if (item == null || item.getType().isAir())
-                continue;
-            val += getItemStat(item, statId);
-        }
+        // 3. 커스텀 장비 스탯 반영 (장착 시 미리 합산된 값)
+        val += equipmentStats.get(statIndex);
 
         return val;
     }
 
-    /**
-     * 아이템으로부터 특정 스탯 값을 가져옵니다.
-     */
-    private double getItemStat(org.bukkit.inventory.ItemStack item, String statId) {
-        if (!item.hasItemMeta())
-            return 0.0;
-        // 임시: PDC에서 직접 읽기 (Phase 6에서 PDCAdapter로 고도화 예정)
-        org.bukkit.persistence.PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        org.bukkit.NamespacedKey key = new org.bukkit.NamespacedKey("mmorpg", "stat_" + statId.toLowerCase());
-        return pdc.getOrDefault(key, org.bukkit.persistence.PersistentDataType.DOUBLE, 0.0);
-    }
-
     /**
      * 플레이어의 스탯을 재계산하고 필요 시 UI를 업데이트합니다.
      */
@@ -455,34 +578,29 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
     }
 
     private void updateMasteryBonuses(org.bukkit.entity.Player player) {
-        // 기존 마스터리 보너스 초기화 (마스터리 전용 Modifier를 구분해서 관리하면 좋지만, 여기서는 단순화)
-        // 실제 운영 시에는 'mastery_' 접두사 등을 붙여 관리하는 것이 안전함.
-
+        // 마스터리 보너스는 "mastery:{직업}:{순번}" 출처로 관리되므로, 반복 적용해도 중복되지 않고 값이 같으면 무효화도 없음
         String cId = getClassId();
         if (cId == null || cId.isEmpty() || classRegistry == null || conditionManager == null)
             return;
 
         classRegistry.getClass(cId).ifPresent(def -> {
             if (def.getEquipment() != null && def.getEquipment().getMasteryBonus() != null) {
-                for (com.antigravity.rpg.feature.classes.component.EquipmentRules.MasteryBonus bonus : def
+                java.util.List<com.antigravity.rpg.feature.classes.component.EquipmentRules.MasteryBonus> bonuses = def
                         .getEquipment()
-                        .getMasteryBonus()) {
-                    if (conditionManager.check(this, bonus.getCondition(), player)) {
+                        .getMasteryBonus();
+                for (int i = 0; i < bonuses.size(); i++) {
+                    com.antigravity.rpg.feature.classes.component.EquipmentRules.MasteryBonus bonus = bonuses.get(i);
+                    String source = MASTERY_SOURCE_PREFIX + cId + ":" + i;
+                    if (bonus.getStats() != null && conditionManager.check(this, bonus.getCondition(), player)) {
                         // 조건 충족 시 보너스 적용
-                        if (bonus.getStats() != null) {
-                            bonus.getStats().forEach((statId, value) -> {
-                                if (value != null)
-                                    addModifier(statId, value);
-                            });
-                        }
+                        bonus.getStats().forEach((statId, value) -> {
+                            if (value != null)
+                                setModifier(source, statId, com.antigravity.rpg.core.engine.ModifierOperation.FLAT,
+                                        value);
+                        });
                     } else {
                         // 조건 미충족 시 보너스 제거
-                        if (bonus.getStats() != null) {
-                            bonus.getStats().forEach((statId, value) -> {
-                                if (value != null)
-                                    removeModifier(statId, value);
-                            });
-                        }
+                        removeModifiers(source);
                     }
                 }
             }
@@ -531,5 +649,28 @@ public class PlayerData implements com.antigravity.rpg.core.engine.StatHolder,
 
     public <T> void addComponent(Class<T> type, T component) {
         components.put(type, component);
+        mirror(component);
+    }
+
+    /**
+     * EntityRegistry에 연결하고, 보유 중인 ECS 컴포넌트를 레지스트리에 복제합니다.
+     * 이후 {@link #addComponent(Class, Object)}로 추가되는 컴포넌트도 함께 반영됩니다.
+     */
+    public void bindEntityRegistry(com.antigravity.rpg.core.ecs.EntityRegistry registry) {
+        this.entityRegistry = registry;
+        for (Object component : components.values()) {
+            mirror(component);
+        }
+    }
+
+    public void unbindEntityRegistry() {
+        this.entityRegistry = null;
+    }
+
+    private void mirror(Object component) {
+        com.antigravity.rpg.core.ecs.EntityRegistry registry = entityRegistry;
+        if (registry != null && component instanceof com.antigravity.rpg.core.ecs.Component ecsComponent) {
+            registry.addComponent(uuid, ecsComponent);
+        }
     }
 }
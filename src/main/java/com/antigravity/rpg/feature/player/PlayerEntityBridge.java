@@ -0,0 +1,55 @@
+package com.antigravity.rpg.feature.player;
+
+import com.antigravity.rpg.core.ecs.EntityRegistry;
+import com.antigravity.rpg.core.ecs.component.EffectComponent;
+import com.antigravity.rpg.core.ecs.component.RegenStatsComponent;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * 로드된 PlayerData를 ECS 엔티티로 등록하고 컴포넌트를 EntityRegistry에 복제하는 연결 계층입니다.
+ * <p>
+ * 플레이어 UUID가 그대로 엔티티 UUID가 되므로, EffectSystem 등은 플레이어마다 프로필 캐시를 조회하지 않고
+ * 컴포넌트 풀을 순회하는 것만으로 모든 접속자의 상태를 처리할 수 있습니다.
+ * 레지스트리 변경은 명령 버퍼로 지연되므로 비동기 로드 콜백에서 호출해도 안전합니다.
+ */
+@Singleton
+public class PlayerEntityBridge {
+
+    private final EntityRegistry entityRegistry;
+
+    @Inject
+    public PlayerEntityBridge(EntityRegistry entityRegistry) {
+        this.entityRegistry = entityRegistry;
+    }
+
+    /**
+     * 플레이어를 엔티티로 등록하고 기본 컴포넌트를 보장한 뒤 레지스트리에 연결합니다.
+     */
+    public void attach(PlayerData data, Player player) {
+        if (data == null)
+            return;
+
+        entityRegistry.registerEntity(data.getUuid());
+        // 효과 시스템이 모든 플레이어를 순회할 수 있도록 EffectComponent는 항상 보유
+        if (data.getComponent(EffectComponent.class) == null) {
+            data.addComponent(EffectComponent.class, new EffectComponent());
+        }
+        // 회복 스탯 스냅샷은 접속 세션마다 새로 만듦 (이전 세션의 Player 참조를 남기지 않음)
+        data.addComponent(RegenStatsComponent.class, new RegenStatsComponent(data, player));
+        data.bindEntityRegistry(entityRegistry);
+    }
+
+    /**
+     * 플레이어 엔티티를 레지스트리에서 제거합니다. (컴포넌트는 PlayerData에 그대로 남음)
+     */
+    public void detach(UUID uuid, PlayerData data) {
+        if (data != null) {
+            data.unbindEntityRegistry();
+        }
+        entityRegistry.removeEntity(uuid);
+    }
+}
@@ -1,6 +1,7 @@
 package com.antigravity.rpg.feature.player;
 
 import com.antigravity.rpg.api.service.Service;
+import com.antigravity.rpg.core.engine.StatCalculator;
 import com.antigravity.rpg.core.engine.StatRegistry;
 import com.antigravity.rpg.data.repository.AbstractCachedRepository;
 import com.antigravity.rpg.data.service.DatabaseService;
@@ -33,15 +34,20 @@ public class PlayerProfileService extends AbstractCachedRepository<UUID, PlayerD
     private final DatabaseService databaseService;
     private final JavaPlugin plugin;
     private final StatRegistry statRegistry;
+    private final PlayerEntityBridge entityBridge;
+    private final StatCalculator statCalculator;
     private final Gson gson = new Gson();
 
     @Inject
-    public PlayerProfileService(DatabaseService databaseService, JavaPlugin plugin, StatRegistry statRegistry) {
+    public PlayerProfileService(DatabaseService databaseService, JavaPlugin plugin, StatRegistry statRegistry,
+            PlayerEntityBridge entityBridge, StatCalculator statCalculator) {
         // 캐시 작업을 위한 전용 스레드 풀 생성
         super(Executors.newCachedThreadPool());
         this.databaseService = databaseService;
         this.plugin = plugin;
         this.statRegistry = statRegistry;
+        this.entityBridge = entityBridge;
+        this.statCalculator = statCalculator;
     }
 
     @Override
@@ -78,6 +84,10 @@ public class PlayerProfileService extends AbstractCachedRepository<UUID, PlayerD
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
         UUID uuid = event.getPlayer().getUniqueId();
+        // [NEW] 퇴장 즉시 ECS 엔티티 해제 (다음 틱부터 시스템 순회 대상에서 제외)
+        entityBridge.detach(uuid, getProfileSync(uuid));
+        // [NEW] 스탯 캐시는 틱마다 비워지지 않으므로 퇴장 시 직접 해제
+        statCalculator.evict(uuid);
         // 퇴장 시 데이터 저장 후 캐시에서 해제
         find(uuid).thenAccept(data -> {
             if (data != null) {
@@ -87,7 +97,18 @@ public class PlayerProfileService extends AbstractCachedRepository<UUID, PlayerD
     }
 
     private void loadProfileInternal(UUID uuid) {
-        find(uuid);
+        // 로드 완료 시 ECS 엔티티로 등록 (접속 중인 플레이어만)
+        // 로드는 비동기로 끝나므로 메인 스레드에서 접속 여부를 다시 확인 (로드 중 퇴장하면 onQuit의 detach 뒤에 등록되지 않도록)
+        find(uuid).thenAccept(data -> {
+            if (data == null)
+                return;
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                Player player = plugin.getServer().getPlayer(uuid);
+                if (player != null && player.isOnline()) {
+                    entityBridge.attach(data, player);
+                }
+            });
+        });
     }
 
     /**
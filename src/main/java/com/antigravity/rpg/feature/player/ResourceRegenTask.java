@@ -1,6 +1,7 @@
 package com.antigravity.rpg.feature.player;
 
 import com.antigravity.rpg.AntiGravityPlugin;
+import com.antigravity.rpg.feature.classes.component.ResourceSettings;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -8,13 +9,27 @@ import org.bukkit.scheduler.BukkitRunnable;
 /**
  * 전역 플레이어 자원 회복을 관리하는 태스크입니다.
  * 1초(20틱)마다 실행됩니다.
+ * <p>
+ * 회복 공식은 플레이어마다 따로 계산하지 않고, 같은 공식을 쓰는 플레이어를 모아 한 번에 계산합니다.
+ * (ExpressionEngine#evaluateBatch)
  */
 @Singleton
 public class ResourceRegenTask extends BukkitRunnable {
 
+    private static final ResourceSettings.ResourceType[] RESOURCE_TYPES = ResourceSettings.ResourceType.values();
+
     private final PlayerProfileService profileService;
     private final com.antigravity.rpg.core.formula.ExpressionEngine expressionEngine;
 
+    // 일괄 계산용 버퍼 (메인 스레드에서만 사용, 접속자 수만큼 재사용)
+    private PlayerData[] players = new PlayerData[0];
+    private ResourceSettings[] settings = new ResourceSettings[0];
+    private double[] resourceRegen = new double[0];
+    private double[] staminaRegen = new double[0];
+    private PlayerData[] group = new PlayerData[0];
+    private int[] groupIndex = new int[0];
+    private double[] groupOut = new double[0];
+
     @Inject
     public ResourceRegenTask(AntiGravityPlugin plugin, PlayerProfileService profileService,
             com.antigravity.rpg.core.formula.ExpressionEngine expressionEngine) {
@@ -25,63 +40,121 @@ public class ResourceRegenTask extends BukkitRunnable {
 
     @Override
     public void run() {
-        // 현재 캐시에 로드된(접속 중인) 모든 플레이어 데이터에 대해 처리
-        for (PlayerData data : profileService.getAllCached().values()) {
-            processRegen(data);
+        // 1. 현재 캐시에 로드된(접속 중인) 플레이어 중 직업이 있는 플레이어 수집
+        int count = collect();
+        if (count == 0)
+            return;
+
+        // 2. 공식 일괄 계산 (공식이 없으면 0 -> 기본값 사용)
+        if (!expressionEngine.evaluateBatch("stamina-regen", players, count, staminaRegen)) {
+            java.util.Arrays.fill(staminaRegen, 0, count, 0.0);
+        }
+        java.util.Arrays.fill(resourceRegen, 0, count, 0.0);
+        for (ResourceSettings.ResourceType type : RESOURCE_TYPES) {
+            evaluateResourceRegen(type, count);
+        }
+
+        // 3. 플레이어별 적용
+        for (int i = 0; i < count; i++) {
+            applyRegen(players[i], settings[i], resourceRegen[i], staminaRegen[i]);
+            players[i] = null;
+            settings[i] = null;
         }
     }
 
-    private void processRegen(PlayerData data) {
-        ResourcePool pool = data.getResources();
-        pool.updateCombatState(); // 전투 상태 갱신
+    private int collect() {
+        java.util.Collection<PlayerData> cached = profileService.getAllCached().values();
+        ensureCapacity(cached.size());
+
+        int count = 0;
+        for (PlayerData data : cached) {
+            if (count == players.length)
+                break;
+            data.getResources().updateCombatState(); // 전투 상태 갱신
+
+            String classId = data.getClassId();
+            if (classId == null || classId.isEmpty())
+                continue;
+            var def = PlayerData.getClassRegistry().getClass(classId);
+            if (def.isEmpty())
+                continue;
+            players[count] = data;
+            settings[count] = def.get().getResourceSettings();
+            count++;
+        }
+        return count;
+    }
 
-        String classId = data.getClassId();
-        if (classId == null || classId.isEmpty())
+    // PASSIVE 모드이면서 같은 자원 타입을 쓰는 플레이어를 모아 "<type>-regen" 공식을 한 번에 계산
+    private void evaluateResourceRegen(ResourceSettings.ResourceType type, int count) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            ResourceSettings s = settings[i];
+            if (s != null && s.getType() == type && s.getRegenMode() == ResourceSettings.RegenMode.PASSIVE) {
+                group[size] = players[i];
+                groupIndex[size] = i;
+                size++;
+            }
+        }
+        if (size == 0)
             return;
 
-        PlayerData.getClassRegistry().getClass(classId).ifPresent(def -> {
-            com.antigravity.rpg.feature.classes.component.ResourceSettings settings = def.getResourceSettings();
-            if (settings != null) {
-                com.antigravity.rpg.feature.classes.component.ResourceSettings.ResourceType type = settings.getType();
-                com.antigravity.rpg.feature.classes.component.ResourceSettings.RegenMode mode = settings.getRegenMode();
-
-                String rTypeStr = type.name();
-                double maxResource = data.getStat("MAX_" + rTypeStr, settings.getMax());
-
-                // 1. 재생 모드에 따른 처리
-                if (mode == com.antigravity.rpg.feature.classes.component.ResourceSettings.RegenMode.PASSIVE) {
-                    // 공식 기반 회복 시도
-                    String formulaKey = rTypeStr.toLowerCase() + "-regen";
-                    double regen = expressionEngine.evaluate(formulaKey, data);
-
-                    // 공식이 없으면(0.0) 기본 설정값 사용 (하위 호환성)
-                    if (regen == 0.0) {
-                        regen = settings.getRegenAmount();
-                    }
-
-                    pool.recover(rTypeStr, regen, maxResource);
-                } else if (mode == com.antigravity.rpg.feature.classes.component.ResourceSettings.RegenMode.DECAY) {
-                    // 비전투 시 감소
-                    if (!pool.isInCombat()) {
-                        double decay = settings.getDecayAmount();
-                        pool.decay(rTypeStr, decay);
-                    }
-                }
+        String formulaKey = type.name().toLowerCase() + "-regen";
+        if (expressionEngine.evaluateBatch(formulaKey, group, size, groupOut)) {
+            for (int j = 0; j < size; j++) {
+                resourceRegen[groupIndex[j]] = groupOut[j];
             }
+        }
+        java.util.Arrays.fill(group, 0, size, null);
+    }
+
+    private void applyRegen(PlayerData data, ResourceSettings settings, double regen, double stamRegen) {
+        ResourcePool pool = data.getResources();
 
-            // 2. 공통: 스태미나 회복
-            // 스태미나도 공식 사용 시도
-            double maxStamina = data.getStat("MAX_STAMINA", 100.0);
-            double stamRegen = expressionEngine.evaluate("stamina-regen", data);
+        if (settings != null) {
+            String rTypeStr = settings.getType().name();
+            double maxResource = data.getStat("MAX_" + rTypeStr, settings.getMax());
 
-            // 공식 없으면 기본값
-            if (stamRegen == 0.0) {
-                stamRegen = data.getStat("STAMINA_REGEN", 10.0);
+            // 1. 재생 모드에 따른 처리
+            if (settings.getRegenMode() == ResourceSettings.RegenMode.PASSIVE) {
+                // 공식이 없으면(0.0) 기본 설정값 사용 (하위 호환성)
+                if (regen == 0.0) {
+                    regen = settings.getRegenAmount();
+                }
+
+                pool.recover(rTypeStr, regen, maxResource);
+            } else if (settings.getRegenMode() == ResourceSettings.RegenMode.DECAY) {
+                // 비전투 시 감소
+                if (!pool.isInCombat()) {
+                    double decay = settings.getDecayAmount();
+                    pool.decay(rTypeStr, decay);
+                }
             }
+        }
 
-            pool.recover("STAMINA", stamRegen, maxStamina);
+        // 2. 공통: 스태미나 회복
+        double maxStamina = data.getStat("MAX_STAMINA", 100.0);
 
-            data.markDirty();
-        });
+        // 공식 없으면 기본값
+        if (stamRegen == 0.0) {
+            stamRegen = data.getStat("STAMINA_REGEN", 10.0);
+        }
+
+        pool.recover("STAMINA", stamRegen, maxStamina);
+
+        data.markDirty();
+    }
+
+    private void ensureCapacity(int size) {
+        if (players.length >= size)
+            return;
+        int capacity = Math.max(size, players.length * 2);
+        players = new PlayerData[capacity];
+        settings = new ResourceSettings[capacity];
+        resourceRegen = new double[capacity];
+        staminaRegen = new double[capacity];
+        group = new PlayerData[capacity];
+        groupIndex = new int[capacity];
+        groupOut = new double[capacity];
     }
 }
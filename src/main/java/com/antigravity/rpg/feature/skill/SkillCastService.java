@@ -1,7 +1,7 @@
 package com.antigravity.rpg.feature.skill;
 
 import com.antigravity.rpg.api.service.Service;
-import com.antigravity.rpg.core.engine.StatRegistry;
+import com.antigravity.rpg.core.engine.StatCalculator;
 import com.antigravity.rpg.feature.player.PlayerProfileService;
 import com.antigravity.rpg.feature.skill.runtime.ScriptRunner;
 import com.google.inject.Inject;
@@ -22,16 +22,16 @@ public class SkillCastService implements Service {
     private final PlayerProfileService playerProfileService;
     private final SkillManager skillManager;
     private final ScriptRunner scriptRunner;
-    private final StatRegistry statRegistry;
+    private final StatCalculator statCalculator;
 
     @Inject
     public SkillCastService(JavaPlugin plugin, PlayerProfileService playerProfileService,
-            SkillManager skillManager, ScriptRunner scriptRunner, StatRegistry statRegistry) {
+            SkillManager skillManager, ScriptRunner scriptRunner, StatCalculator statCalculator) {
         this.plugin = plugin;
         this.playerProfileService = playerProfileService;
         this.skillManager = skillManager;
         this.scriptRunner = scriptRunner;
-        this.statRegistry = statRegistry;
+        this.statCalculator = statCalculator;
     }
 
     @Override
@@ -157,7 +157,7 @@ public class SkillCastService implements Service {
                     .builder()
                     .caster(player)
                     .data(data)
-                    .statRegistry(statRegistry)
+                    .statCalculator(statCalculator)
                     .build();
 
             // ScriptRunner를 통해 파이프라인 시작
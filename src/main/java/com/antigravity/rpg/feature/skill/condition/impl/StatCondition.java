@@ -1,6 +1,7 @@
 package com.antigravity.rpg.feature.skill.condition.impl;
 
 import com.antigravity.rpg.api.skill.Condition;
+import com.antigravity.rpg.core.engine.StatIds;
 import com.antigravity.rpg.feature.skill.context.SkillCastContext;
 import org.bukkit.entity.Entity;
 
@@ -12,19 +13,22 @@ import java.util.Map;
 public class StatCondition implements Condition {
 
     private String stat;
+    // setup 시점에 인터닝한 스탯 인덱스 (평가 시 문자열 조회 없음)
+    private int statIndex = -1;
     private double value;
     private String operator = ">=";
 
     @Override
     public void setup(Map<String, Object> config) {
         this.stat = (String) config.get("stat");
+        this.statIndex = stat != null ? StatIds.intern(stat) : -1;
         this.value = ((Number) config.getOrDefault("value", 0)).doubleValue();
         this.operator = (String) config.getOrDefault("operator", ">=");
     }
 
     @Override
     public boolean evaluate(SkillCastContext ctx, Entity target) {
-        double current = ctx.getCasterStatsSnapshot().getOrDefault(stat, 0.0);
+        double current = ctx.getCasterStatsSnapshot().get(statIndex);
 
         switch (operator) {
             case ">=":
@@ -1,6 +1,7 @@
 package com.antigravity.rpg.feature.skill.context;
 
-import com.antigravity.rpg.core.engine.StatRegistry;
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.core.engine.StatSnapshot;
 import com.antigravity.rpg.feature.player.PlayerData;
 import io.lumine.mythic.core.mobs.ActiveMob;
 import io.lumine.mythic.bukkit.MythicBukkit;
@@ -25,7 +26,7 @@ public class SkillCastContext {
     // --- Caster Snapshot ---
     private final UUID casterId;
     private final PlayerData casterData;
-    private final Map<String, Double> casterStatsSnapshot;
+    private final StatSnapshot casterStatsSnapshot;
     private final Entity casterEntity;
 
     // --- Target List ---
@@ -41,19 +42,18 @@ public class SkillCastContext {
     private Location originLocation;
 
     @Builder
-    public SkillCastContext(Player caster, PlayerData data, StatRegistry statRegistry) {
+    public SkillCastContext(Player caster, PlayerData data, StatCalculator statCalculator) {
+        this(caster, data, statCalculator != null ? statCalculator.snapshot(data) : StatSnapshot.EMPTY);
+    }
+
+    private SkillCastContext(Player caster, PlayerData data, StatSnapshot snapshot) {
         this.casterId = caster.getUniqueId();
         this.casterEntity = caster;
         this.casterData = data;
         this.originLocation = caster.getLocation();
 
-        // 스탯 스냅샷 생성 (실시간 변동 방지)
-        this.casterStatsSnapshot = new HashMap<>();
-        if (data != null && statRegistry != null) {
-            for (String statId : statRegistry.getStatIds()) {
-                this.casterStatsSnapshot.put(statId, data.getStat(statId));
-            }
-        }
+        // 스탯 스냅샷 (실시간 변동 방지, 불변이므로 사본끼리 공유)
+        this.casterStatsSnapshot = snapshot;
     }
 
     /**
@@ -101,13 +101,10 @@ public class SkillCastContext {
     }
 
     /**
-     * 현재 컨텍스트의 사본을 생성합니다. (사본은 독립된 타겟 목록과 변수 맵을 가집니다)
+     * 현재 컨텍스트의 사본을 생성합니다. (사본은 독립된 타겟 목록과 변수 맵을 가지며, 스탯 스냅샷은 공유합니다)
      */
     public SkillCastContext copy() {
-        SkillCastContext copy = new SkillCastContext((Player) casterEntity, casterData, null);
-        // statRegistry는 이미 스냅샷이 있으므로 null 전달 (생성자에서 null 체크함)
-
-        copy.casterStatsSnapshot.putAll(this.casterStatsSnapshot);
+        SkillCastContext copy = new SkillCastContext((Player) casterEntity, casterData, casterStatsSnapshot);
         copy.targets.addAll(this.targets);
         copy.mythicTargets.addAll(this.mythicTargets);
         copy.variables.putAll(this.variables);
@@ -35,7 +35,7 @@ public class HealMechanic implements Mechanic {
         StatHolder casterStats = new StatHolder() {
             @Override
             public double getStat(String statId) {
-                return ctx.getCasterStatsSnapshot().getOrDefault(statId, 0.0);
+                return ctx.getCasterStatsSnapshot().get(statId);
             }
 
             @Override
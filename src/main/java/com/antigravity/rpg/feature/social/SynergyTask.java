@@ -11,7 +11,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 직업별 파티 시너지(Aura)를 관리하는 태스크입니다.
@@ -23,10 +22,6 @@ public class SynergyTask extends BukkitRunnable {
     private final PlayerProfileService profileService;
     private final PartyManager partyManager;
 
-    // 플레이어별 현재 적용 중인 시너지 효과 스냅샷 (제거용)
-    // Map<TargetUUID, Map<SourceUUID_Stat, Value>>
-    private final Map<UUID, Map<String, Double>> appliedSynergies = new ConcurrentHashMap<>();
-
     @Inject
     public SynergyTask(AntiGravityPlugin plugin, PlayerProfileService profileService, PartyManager partyManager) {
         this.profileService = profileService;
@@ -85,30 +80,22 @@ public class SynergyTask extends BukkitRunnable {
     }
 
     private void applyEffect(Player source, Player target, Synergy.SynergyEffect effect) {
-        String synergyKey = source.getUniqueId() + "_" + effect.getStat();
-        Map<String, Double> targetMap = appliedSynergies.computeIfAbsent(target.getUniqueId(),
-                k -> new ConcurrentHashMap<>());
-
-        if (!targetMap.containsKey(synergyKey)) {
-            PlayerData targetData = profileService.getProfileSync(target.getUniqueId());
-            if (targetData != null) {
-                targetData.addModifier(effect.getStat(), effect.getValue());
-                targetMap.put(synergyKey, effect.getValue());
-            }
+        PlayerData targetData = profileService.getProfileSync(target.getUniqueId());
+        if (targetData != null) {
+            // 출처별 수정자로 설정: 매초 다시 적용해도 값이 같으면 스탯이 무효화되지 않음
+            targetData.setModifier(synergySource(source), effect.getStat(), effect.getOperation(), effect.getValue());
         }
     }
 
     private void removeEffect(Player source, Player target, Synergy.SynergyEffect effect) {
-        String synergyKey = source.getUniqueId() + "_" + effect.getStat();
-        Map<String, Double> targetMap = appliedSynergies.get(target.getUniqueId());
-
-        if (targetMap != null && targetMap.containsKey(synergyKey)) {
-            double value = targetMap.remove(synergyKey);
-            PlayerData targetData = profileService.getProfileSync(target.getUniqueId());
-            if (targetData != null) {
-                targetData.removeModifier(effect.getStat(), value);
-            }
+        PlayerData targetData = profileService.getProfileSync(target.getUniqueId());
+        if (targetData != null) {
+            targetData.removeModifier(synergySource(source), effect.getStat(), effect.getOperation());
         }
     }
 
+    private static String synergySource(Player source) {
+        return "synergy:" + source.getUniqueId();
+    }
+
 }
@@ -47,9 +47,9 @@ public class ActionBarService implements Service {
             double hp = player.getHealth();
             double maxHp = player.getMaxHealth();
             double mp = data.getMana();
-            double maxMp = data.getRawStat("MAX_MANA");
+            double maxMp = data.getStat("MAX_MANA");
             double sp = data.getStamina();
-            double maxSp = data.getRawStat("MAX_STAMINA");
+            double maxSp = data.getStat("MAX_STAMINA");
 
             String bar = String.format("§cHP: %.0f/%.0f  §bMP: %.0f/%.0f  §6SP: %.0f/%.0f",
                     hp, maxHp, mp, maxMp, sp, maxSp);
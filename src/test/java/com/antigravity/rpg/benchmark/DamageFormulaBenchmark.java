@@ -0,0 +1,120 @@
+package com.antigravity.rpg.benchmark;
+
+import com.antigravity.rpg.core.engine.DamageContext;
+import com.antigravity.rpg.core.engine.DamageFormula;
+import com.antigravity.rpg.core.engine.DamageTag;
+import com.antigravity.rpg.core.engine.EntityStatData;
+import com.antigravity.rpg.core.engine.ExpressionDamageFormula;
+import com.antigravity.rpg.core.engine.NativeDamageFormula;
+import com.antigravity.rpg.core.script.LuaBinding;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.jse.CoerceJavaToLua;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데미지 공식 경로별 비용을 비교하는 JMH 벤치마크입니다. (호출당 100만 히트)
+ * <p>
+ * nativeFormula는 {@link NativeDamageFormula}, expressionFormula는 같은 공식을 config 수식으로 정의한
+ * {@link ExpressionDamageFormula}, luaFormula는 LuaScriptService#calculateDamage와 같은 방식
+ * (스탯 뷰 CoerceJavaToLua 변환 + LuaBinding.wrap + calculate_damage 호출)으로 같은 공식을 실행합니다.
+ * 치명타는 공식 밖의 단계이므로 세 경로 모두 제외됩니다. 할당량 비교를 위해 GC 프로파일러와 함께 실행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DamageFormulaBenchmark {
+
+    private static final int HITS = 1_000_000;
+    private static final int PAIRS = 64;
+
+    private static final String EXPRESSION = "({damage} + {attacker_PHYSICAL_DAMAGE})"
+            + " * 400 / (400 + {victim_DEFENSE})";
+
+    private static final String LUA_SCRIPT = String.join("\n",
+            "function calculate_damage(attacker, victim, ctx)",
+            "  local damage = ctx.getInitialDamage() + attacker:getStat('PHYSICAL_DAMAGE')",
+            "  return damage * 400 / (400 + victim:getStat('DEFENSE'))",
+            "end");
+
+    private DamageContext[] contexts;
+    private DamageFormula nativeFormula;
+    private DamageFormula expressionFormula;
+    private DamageFormula luaFormula;
+
+    @Setup
+    public void setup() {
+        contexts = new DamageContext[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            EntityStatData attacker = new EntityStatData();
+            attacker.setStat("PHYSICAL_DAMAGE", 10 + i);
+            EntityStatData victim = new EntityStatData();
+            victim.setStat("DEFENSE", 50 + i * 5);
+            contexts[i] = new DamageContext(null, null, attacker, victim, 100.0);
+            contexts[i].addTag(DamageTag.PHYSICAL);
+        }
+
+        nativeFormula = new NativeDamageFormula(NativeDamageFormula.DEFAULT_DEFENSE_CONSTANT);
+        expressionFormula = new ExpressionDamageFormula(EXPRESSION);
+
+        Globals globals = JsePlatform.standardGlobals();
+        globals.load(LUA_SCRIPT, "formulas").call();
+        luaFormula = context -> {
+            LuaValue func = globals.get("calculate_damage");
+            LuaValue attacker = CoerceJavaToLua.coerce(context.getAttackerStats());
+            LuaValue victim = CoerceJavaToLua.coerce(context.getVictimStats());
+            return func.call(attacker, victim, LuaBinding.wrap(context)).todouble();
+        };
+    }
+
+    @Benchmark
+    public double nativeFormula() {
+        return run(nativeFormula);
+    }
+
+    @Benchmark
+    public double expressionFormula() {
+        return run(expressionFormula);
+    }
+
+    @Benchmark
+    public double luaFormula() {
+        return run(luaFormula);
+    }
+
+    private double run(DamageFormula formula) {
+        double sum = 0.0;
+        for (int i = 0; i < HITS; i++) {
+            sum += formula.calculate(contexts[i & (PAIRS - 1)]);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DamageFormulaBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
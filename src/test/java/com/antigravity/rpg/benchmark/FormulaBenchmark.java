@@ -0,0 +1,194 @@
+package com.antigravity.rpg.benchmark;
+
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.core.engine.StatIds;
+import com.antigravity.rpg.core.engine.StatHolder;
+import com.antigravity.rpg.core.formula.CompiledFormula;
+import com.antigravity.rpg.core.formula.FormulaBatch;
+import com.antigravity.rpg.core.formula.FormulaCompiler;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import net.objecthunter.exp4j.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 config.yml 수식의 평가 비용을 exp4j와 비교하는 JMH 벤치마크입니다.
+ * <p>
+ * exp4j는 기존 ExpressionEngine 구현(캐시된 Expression에 setVariable 후 evaluate)을 재현하고,
+ * compiledByName은 문자열 스탯 조회 대상, compiledByIndex는 StatIds 인덱스 조회 대상으로 컴파일된 수식을 평가합니다.
+ * loopPlayers/batchPlayers는 플레이어 수만큼의 대상에 대해 개별 평가와 FormulaBatch 일괄 평가를 비교합니다.
+ * 할당량 비교를 위해 GC 프로파일러(gc.alloc.rate.norm)와 함께 실행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormulaBenchmark {
+
+    // config.yml formulas 섹션의 기본값
+    private static final Map<String, String> FORMULAS = Map.of(
+            "damage-reduction", "damage * (1 - ({stat_defense} / ({stat_defense} + 100)))",
+            "mana-regen", "1.0 + ({stat_intelligence} * 0.05)",
+            "cooldown-reduction", "min(0.4, {stat_haste} / 100)");
+
+    // exp4j에는 min이 없으므로 기존 엔진에서 실행하려면 직접 등록해야 함
+    private static final Function MIN = new Function("min", 2) {
+        @Override
+        public double apply(double... args) {
+            return Math.min(args[0], args[1]);
+        }
+    };
+
+    @Param({ "damage-reduction", "mana-regen", "cooldown-reduction" })
+    public String formulaKey;
+
+    private Expression expression;
+    private CompiledFormula compiled;
+    private MapHolder byName;
+    private ArrayHolder byIndex;
+
+    private static final int PLAYERS = 1000;
+    private StatHolder[] holders;
+    private double[] results;
+    private FormulaBatch batch;
+
+    @Setup
+    public void setup() {
+        String formula = FORMULAS.get(formulaKey);
+        compiled = FormulaCompiler.compile(formula);
+
+        expression = new ExpressionBuilder(formula.replace("{", "").replace("}", ""))
+                .variables(compiled.getVariables())
+                .function(MIN)
+                .build();
+
+        Map<String, Double> stats = new HashMap<>();
+        stats.put("damage", 250.0);
+        stats.put("stat_defense", 80.0);
+        stats.put("stat_intelligence", 40.0);
+        stats.put("stat_haste", 25.0);
+        byName = new MapHolder(stats);
+        byIndex = new ArrayHolder(stats);
+
+        holders = new StatHolder[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            double offset = i % 50;
+            Map<String, Double> playerStats = new HashMap<>(stats);
+            playerStats.replaceAll((id, value) -> value + offset);
+            holders[i] = new ArrayHolder(playerStats);
+        }
+        results = new double[PLAYERS];
+        batch = new FormulaBatch();
+    }
+
+    @Benchmark
+    public double exp4j() {
+        for (String var : expression.getVariableNames()) {
+            expression.setVariable(var, byName.getStat(var));
+        }
+        return expression.evaluate();
+    }
+
+    @Benchmark
+    public double compiledByName() {
+        return compiled.evaluate(byName);
+    }
+
+    @Benchmark
+    public double compiledByIndex() {
+        return compiled.evaluate(byIndex);
+    }
+
+    @Benchmark
+    public double[] loopPlayers() {
+        for (int i = 0; i < PLAYERS; i++) {
+            results[i] = compiled.evaluate(holders[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public double[] batchPlayers() {
+        batch.evaluate(compiled, holders, PLAYERS, results);
+        return results;
+    }
+
+    /**
+     * 문자열 키로 스탯을 조회하는 대상 (Mock/일반 StatHolder 경로)
+     */
+    private static class MapHolder implements com.antigravity.rpg.core.engine.StatHolder {
+        private final Map<String, Double> stats;
+
+        MapHolder(Map<String, Double> stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public double getStat(String statId) {
+            return stats.getOrDefault(statId, 0.0);
+        }
+
+        @Override
+        public double getRawStat(String statId) {
+            return getStat(statId);
+        }
+
+        @Override
+        public double getNativeAttributeValue(String attributeName) {
+            return 0.0;
+        }
+
+        @Override
+        public String getName() {
+            return "benchmark";
+        }
+    }
+
+    /**
+     * StatIds 인덱스로 스탯을 조회하는 대상 (PlayerData 경로)
+     */
+    private static final class ArrayHolder extends MapHolder implements StatCalculator.IndexedStatHolder {
+        private final double[] values;
+
+        ArrayHolder(Map<String, Double> stats) {
+            super(stats);
+            stats.keySet().forEach(StatIds::intern);
+            values = new double[StatIds.size()];
+            stats.forEach((id, value) -> values[StatIds.indexOf(id)] = value);
+        }
+
+        @Override
+        public double getStat(int statIndex) {
+            return statIndex < values.length ? values[statIndex] : 0.0;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FormulaBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,121 @@
+package com.antigravity.rpg.benchmark;
+
+import com.antigravity.rpg.core.ecs.SparseSetEntityRegistry;
+import com.antigravity.rpg.core.ecs.TickBudget;
+import com.antigravity.rpg.core.ecs.component.RegenStatsComponent;
+import com.antigravity.rpg.core.ecs.system.HealthRegenSystem;
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.feature.player.PlayerData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HealthRegenSystem의 틱당 비용을 측정하는 JMH 벤치마크입니다.
+ * <p>
+ * legacyTick은 기존 구현(플레이어마다 Future 콜백 + 문자열 키 스탯 조회)을 재현하고,
+ * snapshotTick은 RegenStatsComponent 풀을 순회하는 현재 구현을 실행합니다.
+ * 할당량 비교를 위해 GC 프로파일러(gc.alloc.rate.norm)와 함께 실행합니다.
+ * Bukkit 서버 없이 실행되므로 체력 회복(Player) 단계는 양쪽 모두 제외됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthRegenBenchmark {
+
+    private static final double DELTA = 0.05;
+
+    @Param({ "500" })
+    public int players;
+
+    private PlayerData[] profiles;
+    private HealthRegenSystem system;
+    private TickBudget budget;
+
+    @Setup
+    public void setup() {
+        SparseSetEntityRegistry registry = new SparseSetEntityRegistry();
+        profiles = new PlayerData[players];
+        for (int i = 0; i < players; i++) {
+            UUID uuid = UUID.randomUUID();
+            PlayerData data = new PlayerData(uuid);
+            data.setLoaded(true);
+            profiles[i] = data;
+
+            registry.registerEntity(uuid);
+            registry.addComponent(uuid, new RegenStatsComponent(data, null));
+        }
+        registry.flushCommands();
+
+        // 스탯 버전만 사용하므로 의존성 없이 생성
+        system = new HealthRegenSystem(registry, new StatCalculator(null, null, null));
+        budget = new TickBudget(0L);
+    }
+
+    @Benchmark
+    public void legacyTick() {
+        for (PlayerData profile : profiles) {
+            CompletableFuture.completedFuture(profile).thenAccept(data -> {
+                if (data != null && data.isLoaded()) {
+                    legacyRegen(data, DELTA);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public int snapshotTick() {
+        system.tick(DELTA, budget);
+        return budget.getProcessed();
+    }
+
+    private static void legacyRegen(PlayerData data, double deltaTime) {
+        boolean isCombat = (java.lang.System.currentTimeMillis() - data.getLastCombatTime()) < 5000;
+
+        double maxMana = data.getStat("MAX_MANA", 100.0);
+        double manaRegenBase = data.getStat("MANA_REGEN", 5.0);
+        double manaRegen = isCombat ? manaRegenBase * 0.5 : manaRegenBase;
+        double currentMana = data.getMana();
+        if (currentMana < maxMana) {
+            data.setMana(Math.min(maxMana, currentMana + (manaRegen * deltaTime)));
+        }
+
+        double maxStamina = data.getStat("MAX_STAMINA", 100.0);
+        double staminaRegenBase = data.getStat("STAMINA_REGEN", 10.0);
+        double staminaRegen = isCombat ? staminaRegenBase * 0.2 : staminaRegenBase;
+        double currentStamina = data.getStamina();
+        if (currentStamina < maxStamina) {
+            data.setStamina(Math.min(maxStamina, currentStamina + (staminaRegen * deltaTime)));
+        }
+
+        data.getStat("HEALTH_REGEN", 1.0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HealthRegenBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -1,11 +1,18 @@
 package com.antigravity.rpg.core.engine;
 
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
+import com.antigravity.rpg.AntiGravityPlugin;
 import com.antigravity.rpg.core.script.LuaScriptService;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DamageProcessorTest {
@@ -21,29 +28,24 @@ public class DamageProcessorTest {
 
     @Test
     public void testDefenseScaling() {
-        // Setup Context
         EntityStatData attacker = new EntityStatData();
         EntityStatData victim = new EntityStatData();
 
-        // 400 Defense = 50% reduction
+        // 400 Defense = 50% reduction (native 공식, K = 400)
         victim.setStat("DEFENSE", 400.0);
 
         DamageContext context = new DamageContext(null, null, attacker, victim, 100.0);
-
-        // Mock Behavior
-        Mockito.when(luaScriptService.calculateDamage(context)).thenReturn(50.0);
-
-        // Execute
         damageProcessor.process(context);
 
-        // Assert
         Assertions.assertEquals(50.0, context.getFinalDamage(), 0.1);
+        Mockito.verify(luaScriptService, Mockito.never()).calculateDamage(Mockito.any());
     }
 
     @Test
     public void testPhysicalDamageBonus() {
         EntityStatData attacker = new EntityStatData();
         attacker.setStat("PHYSICAL_DAMAGE", 20.0);
+        attacker.setStat("MAGIC_DAMAGE", 1000.0); // MAGIC 태그가 없으므로 무시됨
 
         EntityStatData victim = new EntityStatData();
         victim.setStat("DEFENSE", 0.0);
@@ -51,12 +53,9 @@ public class DamageProcessorTest {
         DamageContext context = new DamageContext(null, null, attacker, victim, 50.0);
         context.addTag(DamageTag.PHYSICAL);
 
-        // Mock Behavior
-        Mockito.when(luaScriptService.calculateDamage(context)).thenReturn(70.0);
-
         damageProcessor.process(context);
 
-        // Expected: 70
+        // Expected: 50 + 20
         Assertions.assertEquals(70.0, context.getFinalDamage(), 0.1);
     }
 
@@ -70,16 +69,109 @@ public class DamageProcessorTest {
 
         DamageContext context = new DamageContext(null, null, attacker, victim, 50.0);
 
-        // Mock Behavior (Assuming Lua script sets critical flag/damage)
-        Mockito.when(luaScriptService.calculateDamage(context)).thenAnswer(inv -> {
-            context.setCritical(true);
-            return 100.0;
-        });
-
         damageProcessor.process(context);
 
-        // Expected: 100.0
+        // Expected: 50 * 2.0
         Assertions.assertEquals(100.0, context.getFinalDamage(), 0.1);
         Assertions.assertTrue(context.isCritical());
     }
+
+    @Test
+    public void testLuaFormulaSkipsCriticalStage() {
+        damageProcessor.useFormula(DamageProcessor.LUA);
+
+        EntityStatData attacker = new EntityStatData();
+        attacker.setStat("CRITICAL_CHANCE", 100.0);
+        attacker.setStat("CRITICAL_DAMAGE", 200.0);
+        EntityStatData victim = new EntityStatData();
+
+        DamageContext context = new DamageContext(null, null, attacker, victim, 50.0);
+        Mockito.when(luaScriptService.calculateDamage(context)).thenReturn(42.0);
+
+        damageProcessor.process(context);
+
+        // 치명타는 스크립트가 처리하므로 critical 단계가 배율을 다시 적용하지 않아야 함
+        Assertions.assertEquals(DamageProcessor.LUA, damageProcessor.getActiveFormula());
+        Assertions.assertEquals(42.0, context.getFinalDamage(), 0.0);
+        Assertions.assertFalse(context.isCritical());
+        Mockito.verify(luaScriptService, Mockito.times(1)).calculateDamage(context);
+        Assertions.assertTrue(damageProcessor.getPipeline().snapshot().stream()
+                .noneMatch(stage -> stage.getName().equals("critical")));
+    }
+
+    @Test
+    public void testExpressionFormulaFromConfig(@TempDir File dataFolder) throws Exception {
+        File elements = new File(dataFolder, "global/elements.yml");
+        elements.getParentFile().mkdirs();
+        Files.writeString(elements.toPath(), "affinities:\n  FIRE_WEAPON:\n    ICE_TYPE: 2.0\n");
+
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("combat.damage-formula", "flat-armor");
+        config.set("combat.damage-formulas.flat-armor",
+                "max(1, {damage} + {attacker_PHYSICAL_DAMAGE} - {victim_DEFENSE} * 0.5)");
+
+        AntiGravityPlugin plugin = Mockito.mock(AntiGravityPlugin.class);
+        Mockito.when(plugin.getConfig()).thenReturn(config);
+        Mockito.when(plugin.getDataFolder()).thenReturn(dataFolder);
+        Mockito.when(plugin.getLogger()).thenReturn(Logger.getLogger("DamageProcessorTest"));
+
+        DamageProcessor processor = new DamageProcessor(luaScriptService, plugin);
+        Assertions.assertEquals("flat-armor", processor.getActiveFormula());
+
+        EntityStatData attacker = new EntityStatData();
+        attacker.setStat("PHYSICAL_DAMAGE", 30.0);
+        EntityStatData victim = new EntityStatData();
+        victim.setStat("DEFENSE", 40.0);
+
+        DamageContext context = new DamageContext(null, null, attacker, victim, 100.0);
+        processor.process(context);
+        // Expected: 100 + 30 - 40 * 0.5
+        Assertions.assertEquals(110.0, context.getFinalDamage(), 0.0001);
+
+        victim.setStat("DEFENSE", 1000.0);
+        DamageContext blocked = new DamageContext(null, null, attacker, victim, 100.0);
+        processor.process(blocked);
+        // Expected: max(1, 100 + 30 - 500)
+        Assertions.assertEquals(1.0, blocked.getFinalDamage(), 0.0001);
+        Mockito.verify(luaScriptService, Mockito.never()).calculateDamage(Mockito.any());
+    }
+
+    @Test
+    public void testElementAffinity() {
+        EntityStatData attacker = new EntityStatData();
+        EntityStatData victim = new EntityStatData();
+
+        DamageContext context = new DamageContext(null, null, attacker, victim, 100.0);
+        context.addAttackerTag("FIRE_WEAPON");
+        context.addAttackerTag("LIGHTNING_DAMAGE");
+        context.addVictimTag("ICE_TYPE");
+        context.addVictimTag("WET");
+
+        damageProcessor.process(context);
+
+        // Expected: 100 * 2.0 (FIRE_WEAPON -> ICE_TYPE) * 1.5 (LIGHTNING_DAMAGE -> WET)
+        Assertions.assertEquals(300.0, context.getFinalDamage(), 0.1);
+    }
+
+    @Test
+    public void testPooledContextIsReset() {
+        EntityStatData attacker = new EntityStatData();
+        EntityStatData victim = new EntityStatData();
+
+        DamageContext first = damageProcessor.acquire(null, null, attacker, victim, 100.0);
+        first.addTag(DamageTag.MAGIC);
+        first.addAttackerTag("FIRE_WEAPON");
+        damageProcessor.process(first);
+        damageProcessor.release(first);
+
+        DamageContext second = damageProcessor.acquire(null, null, attacker, victim, 30.0);
+
+        // 같은 인스턴스를 재사용하되 이전 히트의 상태는 남지 않아야 함
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(30.0, second.getInitialDamage(), 0.0);
+        Assertions.assertEquals(0.0, second.getFinalDamage(), 0.0);
+        Assertions.assertFalse(second.hasTag(DamageTag.MAGIC));
+        Assertions.assertEquals(0L, second.getAttackerTagMask());
+        damageProcessor.release(second);
+    }
 }
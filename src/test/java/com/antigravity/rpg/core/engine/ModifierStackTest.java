@@ -0,0 +1,94 @@
+package com.antigravity.rpg.core.engine;
+
+import com.antigravity.rpg.feature.player.PlayerData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class ModifierStackTest {
+
+    private static final int STR = StatIds.intern("MODIFIER_TEST_STR");
+    private static final int DEX = StatIds.intern("MODIFIER_TEST_DEX");
+
+    private ModifierStack stack;
+
+    @BeforeEach
+    public void setup() {
+        stack = new ModifierStack();
+    }
+
+    @Test
+    public void testNegativeFlatModifierIsRestored() {
+        Assertions.assertTrue(stack.adjust("legacy", STR, ModifierOperation.FLAT, -5.0));
+        Assertions.assertEquals(5.0, stack.apply(STR, 10.0), 0.0);
+
+        // 같은 값을 되돌리면 합이 0이 되어 수정자가 제거되어야 함
+        Assertions.assertTrue(stack.adjust("legacy", STR, ModifierOperation.FLAT, 5.0));
+        Assertions.assertEquals(10.0, stack.apply(STR, 10.0), 0.0);
+        Assertions.assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testLayerFoldOrder() {
+        stack.set("gear", STR, ModifierOperation.FLAT, 20.0);
+        stack.set("buff:a", STR, ModifierOperation.PERCENT, 0.1);
+        stack.set("buff:b", STR, ModifierOperation.PERCENT, 0.2);
+        stack.set("buff:a", STR, ModifierOperation.MULTIPLY, 0.5);
+        stack.set("buff:b", STR, ModifierOperation.MULTIPLY, 1.0);
+
+        // PERCENT는 합산(0.3), MULTIPLY는 수정자마다 곱함(1.5 * 2.0)
+        Assertions.assertEquals(0.3, stack.getTotal(STR, ModifierOperation.PERCENT), 1e-9);
+        Assertions.assertEquals(3.0, stack.getTotal(STR, ModifierOperation.MULTIPLY), 1e-9);
+        // Expected: (100 + 20) * 1.3 * 3.0
+        Assertions.assertEquals(468.0, stack.apply(STR, 100.0), 1e-9);
+        // 수정자가 없는 스탯은 그대로
+        Assertions.assertEquals(100.0, stack.apply(DEX, 100.0), 0.0);
+    }
+
+    @Test
+    public void testSetSameValueReturnsFalse() {
+        Assertions.assertTrue(stack.set("synergy", STR, ModifierOperation.FLAT, 7.0));
+        Assertions.assertFalse(stack.set("synergy", STR, ModifierOperation.FLAT, 7.0));
+
+        // 다시 설정해도 중복 적용되지 않고 교체됨
+        Assertions.assertTrue(stack.set("synergy", STR, ModifierOperation.FLAT, 3.0));
+        Assertions.assertEquals(3.0, stack.apply(STR, 0.0), 0.0);
+    }
+
+    @Test
+    public void testRemoveSourcesByPrefix() {
+        stack.set("mastery:warrior:0", STR, ModifierOperation.FLAT, 10.0);
+        stack.set("mastery:warrior:1", DEX, ModifierOperation.PERCENT, 0.5);
+        stack.set("buff:rage", STR, ModifierOperation.FLAT, 4.0);
+
+        int[] affected = stack.removeSourcesByPrefix("mastery:");
+
+        Assertions.assertArrayEquals(new int[] { Math.min(STR, DEX), Math.max(STR, DEX) }, affected);
+        Assertions.assertEquals(4.0, stack.apply(STR, 0.0), 0.0);
+        Assertions.assertEquals(10.0, stack.apply(DEX, 10.0), 0.0);
+        Assertions.assertEquals(0, stack.removeSourcesByPrefix("mastery:").length);
+        Assertions.assertFalse(stack.isEmpty());
+    }
+
+    @Test
+    public void testPlayerDataModifierApi() {
+        PlayerData data = new PlayerData(UUID.randomUUID());
+        data.setSavedStat("MODIFIER_TEST_STR", 10.0);
+
+        // 음수 수정자(디버프) 적용 후 같은 값으로 되돌림
+        data.addModifier("MODIFIER_TEST_STR", -4.0);
+        Assertions.assertEquals(6.0, data.getStat("MODIFIER_TEST_STR"), 0.0);
+        data.removeModifier("MODIFIER_TEST_STR", -4.0);
+        Assertions.assertEquals(10.0, data.getStat("MODIFIER_TEST_STR"), 0.0);
+
+        data.setModifier("buff:rage", "MODIFIER_TEST_STR", ModifierOperation.PERCENT, 0.5);
+        data.setModifier("buff:rage", "MODIFIER_TEST_STR", ModifierOperation.PERCENT, 0.5);
+        Assertions.assertEquals(15.0, data.getStat("MODIFIER_TEST_STR"), 1e-9);
+
+        data.removeModifiers("buff:rage");
+        Assertions.assertEquals(10.0, data.getStat("MODIFIER_TEST_STR"), 0.0);
+        Assertions.assertTrue(data.getModifierStack().isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package com.antigravity.rpg.core.engine;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class StatGraphTest {
+
+    private static StatDefinition simple(String id) {
+        return new StatDefinition(id, id, StatType.SIMPLE, 0, Double.MAX_VALUE, 0, null, null);
+    }
+
+    private static StatDefinition formula(String id, String formulaKey) {
+        return new StatDefinition(id, id, StatType.FORMULA, 0, Double.MAX_VALUE, 0, formulaKey, null);
+    }
+
+    private static StatGraph compile(List<StatDefinition> definitions, List<StatRegistry.StatBonus> bonuses,
+            Map<String, String> formulas) {
+        return StatGraph.compile(1, definitions, bonuses, formulas::get, null);
+    }
+
+    private static int[] nodes(StatGraph graph, String... ids) {
+        int[] result = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = graph.indexOf(ids[i]);
+        }
+        java.util.Arrays.sort(result);
+        return result;
+    }
+
+    @Test
+    public void testTopologicalOrder() {
+        // STR -> ATK (보너스), ATK/LUK -> POWER (수식, 중괄호 없는 변수 포함)
+        StatGraph graph = compile(
+                List.of(formula("POWER", "power"), simple("ATK"), simple("STR")),
+                List.of(new StatRegistry.StatBonus("STR", "ATK", "source * 2")),
+                Map.of("power", "ATK * 3 + {LUK}"));
+
+        Assertions.assertTrue(graph.getCycles().isEmpty());
+        Assertions.assertTrue(graph.indexOf("STR") < graph.indexOf("ATK"));
+        Assertions.assertTrue(graph.indexOf("ATK") < graph.indexOf("POWER"));
+        Assertions.assertTrue(graph.indexOf("LUK") < graph.indexOf("POWER"));
+        Assertions.assertArrayEquals(nodes(graph, "ATK", "LUK"), graph.dependenciesOf(graph.indexOf("POWER")));
+
+        // 모든 의존 대상은 더 작은 인덱스를 가짐
+        for (int i = 0; i < graph.size(); i++) {
+            for (int dep : graph.dependenciesOf(i)) {
+                Assertions.assertTrue(dep < i, graph.idAt(i) + " -> " + graph.idAt(dep));
+            }
+        }
+    }
+
+    @Test
+    public void testCycleDisablesClosingBonus() {
+        StatGraph graph = compile(
+                List.of(simple("HP"), simple("VIT")),
+                List.of(new StatRegistry.StatBonus("HP", "VIT", "source * 0.1"),
+                        new StatRegistry.StatBonus("VIT", "HP", "source * 10")),
+                Map.of());
+
+        Assertions.assertEquals(1, graph.getCycles().size());
+        // 순환을 닫는 보너스 하나만 비활성화되고 나머지 간선은 유지
+        List<String> active = new ArrayList<>();
+        for (int i = 0; i < graph.size(); i++) {
+            for (StatGraph.Bonus bonus : graph.bonusesOf(i)) {
+                active.add(bonus.getSource() + "->" + graph.idAt(i));
+            }
+        }
+        Assertions.assertEquals(1, active.size());
+        for (int i = 0; i < graph.size(); i++) {
+            for (int dep : graph.dependenciesOf(i)) {
+                Assertions.assertTrue(dep < i);
+            }
+        }
+    }
+
+    @Test
+    public void testDownstreamClosure() {
+        // STR -> ATK (보너스) -> POWER (수식)
+        StatGraph graph = compile(
+                List.of(simple("STR"), simple("ATK"), formula("POWER", "power"), simple("DEX")),
+                List.of(new StatRegistry.StatBonus("STR", "ATK", "source * 2")),
+                Map.of("power", "{ATK} * 3"));
+
+        Assertions.assertArrayEquals(nodes(graph, "ATK", "POWER"), graph.downstreamOf(graph.indexOf("STR")));
+        Assertions.assertArrayEquals(nodes(graph, "POWER"), graph.downstreamOf(graph.indexOf("ATK")));
+        Assertions.assertEquals(0, graph.downstreamOf(graph.indexOf("POWER")).length);
+        Assertions.assertEquals(0, graph.downstreamOf(graph.indexOf("DEX")).length);
+    }
+}
@@ -47,6 +47,22 @@ public class ExpressionEngineTest {
         assertEquals(30.0, result);
     }
 
+    @Test
+    void testFunctionsAndPrecedence() {
+        when(holder.getStat("stat_haste")).thenReturn(25.0);
+
+        assertEquals(0.25, engine.evaluateFormula("min(0.4, {stat_haste} / 100)", holder));
+        assertEquals(-4.0, engine.evaluateFormula("-2^2", holder));
+        assertEquals(512.0, engine.evaluateFormula("2^3^2", holder));
+        assertEquals(50.0, engine.evaluateFormula("2{stat_haste}", holder));
+    }
+
+    @Test
+    void testInvalidFormulaReturnsZero() {
+        assertEquals(0.0, engine.evaluateFormula("10 / 0", holder));
+        assertEquals(0.0, engine.evaluateFormula("10 +", holder));
+    }
+
     @Test
     void testCachingPerformance() {
         String formula = "100 + {val} / 2";
@@ -0,0 +1,132 @@
+package com.antigravity.rpg.core.formula;
+
+import com.antigravity.rpg.core.engine.StatCalculator;
+import com.antigravity.rpg.core.engine.StatHolder;
+import com.antigravity.rpg.core.engine.StatIds;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class FormulaBatchTest {
+
+    // 37: 벡터 폭의 배수가 아닌 대상 수 (남는 원소 처리 확인)
+    private static final int COUNT = 37;
+
+    @Test
+    void testShippedFormulasMatchScalar() throws Exception {
+        List<String> formulas = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("/config.yml"),
+                StandardCharsets.UTF_8)) {
+            ConfigurationSection section = YamlConfiguration.loadConfiguration(reader)
+                    .getConfigurationSection("formulas");
+            assertNotNull(section);
+            for (String key : section.getKeys(false)) {
+                formulas.add(section.getString(key));
+            }
+        }
+        assertFalse(formulas.isEmpty());
+        for (String formula : formulas) {
+            assertBatchMatchesScalar(formula);
+        }
+    }
+
+    @Test
+    void testDivisionByZeroMatchesScalar() {
+        // 변수 값에 0이 포함되므로 일부 대상은 0으로 나눔 (결과 0)
+        assertBatchMatchesScalar("{a} / {b}");
+        assertBatchMatchesScalar("{a} % {b}");
+        assertBatchMatchesScalar("10 / ({a} - {a})");
+    }
+
+    @Test
+    void testClampAndFunctionsMatchScalar() {
+        assertBatchMatchesScalar("clamp({a}, 0, {b})");
+        assertBatchMatchesScalar("clamp({a} / {b}, -1, 1) + max({a}, {b}) ^ 2");
+        assertBatchMatchesScalar("-{a} + sqrt(abs({b})) * min(0.4, {c} / 100)");
+    }
+
+    private static void assertBatchMatchesScalar(String source) {
+        CompiledFormula formula = FormulaCompiler.compile(source);
+        // 등록된 스탯처럼 인덱스를 부여하여 인덱스 조회 경로도 사용되도록 함
+        for (String variable : formula.getVariables()) {
+            StatIds.intern(variable);
+        }
+
+        StatHolder[] holders = new StatHolder[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            // 인덱스 조회 대상, 이름 조회 대상, null 대상을 섞음
+            switch (i % 3) {
+                case 0:
+                    holders[i] = new IndexedHolder(i);
+                    break;
+                case 1:
+                    holders[i] = new NamedHolder(i);
+                    break;
+                default:
+                    holders[i] = i % 2 == 0 ? null : new IndexedHolder(i);
+                    break;
+            }
+        }
+
+        double[] out = new double[COUNT];
+        new FormulaBatch().evaluate(formula, holders, COUNT, out);
+        for (int i = 0; i < COUNT; i++) {
+            // 비트 단위로 같아야 함 (NaN, -0.0 포함)
+            assertEquals(formula.evaluate(holders[i]), out[i], source + " [" + i + "]");
+        }
+    }
+
+    // 대상 번호와 스탯 이름으로 정해지는 값 (-2 ~ 4, 0 포함)
+    private static double valueOf(int holder, String statId) {
+        return Math.floorMod(holder * 31 + statId.hashCode(), 7) - 2;
+    }
+
+    private static class NamedHolder implements StatHolder {
+        final int id;
+
+        NamedHolder(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public double getStat(String statId) {
+            return valueOf(id, statId);
+        }
+
+        @Override
+        public double getRawStat(String statId) {
+            return getStat(statId);
+        }
+
+        @Override
+        public double getNativeAttributeValue(String attributeName) {
+            return 0.0;
+        }
+
+        @Override
+        public String getName() {
+            return "holder-" + id;
+        }
+    }
+
+    private static final class IndexedHolder extends NamedHolder implements StatCalculator.IndexedStatHolder {
+        IndexedHolder(int id) {
+            super(id);
+        }
+
+        @Override
+        public double getStat(int statIndex) {
+            return getStat(StatIds.idOf(statIndex));
+        }
+    }
+}